@@ -0,0 +1,101 @@
+package com.codelily.backend.config;
+
+import com.codelily.backend.domain.User;
+import com.codelily.backend.repository.UserRepository;
+import com.codelily.backend.service.BlacklistNearCache;
+import com.codelily.backend.service.CustomUserDetailsService;
+import com.codelily.backend.service.RefreshTokenService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * JwtAuthenticationFilter.doFilterInternal 전체 경로 (요청 1건의 인증 비용).
+ * - Redis(블랙리스트)와 UserRepository는 Mockito로 대체 → 네트워크/DB 제외한 CPU 비용만 측정
+ * - statelessPrincipal=true: 클레임으로 principal 생성, false: 사용자 정보 캐시 경유
+ * - 요청이 끝나면 SecurityContext를 비움 (실제 요청 처리와 동일)
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+	};
+
+	@Param({"true", "false"})
+	public boolean statelessPrincipal;
+
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest authenticated;
+	private MockHttpServletRequest anonymous;
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	@Setup
+	public void setUp() throws Exception {
+		JwtTokenProvider tokenProvider = new JwtTokenProvider();
+
+		// stubOnly: 호출 기록을 남기지 않음 (반복 호출 시 메모리 증가 방지)
+		BlacklistNearCache blacklistNearCache = mock(BlacklistNearCache.class, withSettings().stubOnly());
+		when(blacklistNearCache.mightBeBlacklisted(anyString())).thenReturn(false);
+		StringRedisTemplate redis = mock(StringRedisTemplate.class, withSettings().stubOnly());
+		RefreshTokenService refreshTokenService = new RefreshTokenService(redis, blacklistNearCache);
+
+		UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+		when(userRepository.findById(anyLong())).thenReturn(Optional.of(User.builder()
+				.id(42L).email("lily@codelily.dev").nickname("lily").role(User.Role.USER).provider("local")
+				.build()));
+		CustomUserDetailsService userDetailsService =
+				new CustomUserDetailsService(userRepository, 10_000, Duration.ofMinutes(1));
+
+		filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, refreshTokenService);
+		ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+		ReflectionTestUtils.setField(filter, "fullUserPaths", List.of("/api/users/me"));
+
+		authenticated = new MockHttpServletRequest("GET", "/api/posts");
+		authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.createAccessToken(42L, "USER"));
+		anonymous = new MockHttpServletRequest("GET", "/api/posts");
+
+		// 인증 실패(필터가 예외를 삼킴)를 빠른 경로로 잘못 측정하지 않도록
+		if (filter(authenticated) == null) {
+			throw new IllegalStateException("Bearer 토큰 요청이 인증되지 않았습니다.");
+		}
+	}
+
+	@Benchmark
+	public Authentication bearerToken() throws Exception {
+		return filter(authenticated);
+	}
+
+	@Benchmark
+	public Authentication noToken() throws Exception {
+		return filter(anonymous);
+	}
+
+	private Authentication filter(MockHttpServletRequest request) throws Exception {
+		try {
+			filter.doFilterInternal(request, response, NO_OP_CHAIN);
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.codelily.backend.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+
+/**
+ * JwtTokenProvider 발급/검증 비용.
+ * - verifyCached: 같은 토큰 반복 요청 (검증 캐시 적중, 다이제스트 계산만)
+ * - createAndVerify: 새로 발급된 토큰의 첫 검증 (서명 검증 포함, 발급 비용은 createAccessToken으로 빼서 비교)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+	private JwtTokenProvider provider;
+	private String accessToken;
+	private long userId;
+
+	@Setup
+	public void setUp() {
+		provider = new JwtTokenProvider();
+		accessToken = provider.createAccessToken(42L, "USER");
+		provider.verify(accessToken);
+	}
+
+	@Benchmark
+	public String createAccessToken() {
+		return provider.createAccessToken(++userId, "USER");
+	}
+
+	@Benchmark
+	public String createRefreshToken() {
+		return provider.createRefreshToken(++userId);
+	}
+
+	@Benchmark
+	public Optional<JwtClaims> verifyCached() {
+		return provider.verify(accessToken);
+	}
+
+	@Benchmark
+	public Optional<JwtClaims> createAndVerify() {
+		return provider.verify(provider.createAccessToken(++userId, "USER"));
+	}
+
+	@Benchmark
+	public Optional<JwtClaims> verifyMalformed() {
+		return provider.verify("not.a.jwt");
+	}
+}
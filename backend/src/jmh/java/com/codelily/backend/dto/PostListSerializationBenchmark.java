@@ -0,0 +1,60 @@
+package com.codelily.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 목록 응답(GET /api/posts) JSON 직렬화 비용.
+ * - size: 기본 페이지 크기(20) / 최대 페이지 크기(100)
+ * - ObjectMapper는 Spring Boot 기본 설정과 같게 구성 (날짜는 ISO 문자열)
+ */
+@State(Scope.Benchmark)
+public class PostListSerializationBenchmark {
+
+	@Param({"20", "100"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private PostPageResponse page;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+		List<PostSummary> items = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			PostSummary summary = new PostSummary();
+			summary.setId(10_000L - i);
+			summary.setSlug("spring-boot-performance-" + i);
+			summary.setTitle("스프링 부트 성능 튜닝 노트 #" + i);
+			summary.setThumbnailUrl("https://cdn.codelily.dev/thumbnails/" + i + ".webp");
+			summary.setCategory("backend");
+			summary.setStatus("PUBLISHED");
+			summary.setViews(1_000 + i * 37);
+			summary.setCommentCount(i % 13);
+			summary.setAuthorId(42L);
+			summary.setAuthorNickname("코드릴리");
+			summary.setCreatedAt(now.minusHours(i));
+			items.add(summary);
+		}
+		page = new PostPageResponse(items, "9980", true);
+	}
+
+	@Benchmark
+	public byte[] writePostPage() throws Exception {
+		return objectMapper.writeValueAsBytes(page);
+	}
+}
@@ -0,0 +1,55 @@
+package com.codelily.backend.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * 소셜 로그인 사용자 정보 응답 → OAuth2UserInfo 변환 비용 (제공자별 속성 파서).
+ * - 속성 맵은 각 제공자 사용자 정보 API 응답 형태 그대로 (카카오는 중첩 맵)
+ */
+@State(Scope.Benchmark)
+public class OAuth2AttributeParsingBenchmark {
+
+	private final Map<String, Object> kakao = Map.of(
+			"id", 3141592653L,
+			"connected_at", "2025-01-01T00:00:00Z",
+			"properties", Map.of("nickname", "코드릴리", "profile_image", "https://k.kakaocdn.net/dn/profile.jpg"),
+			"kakao_account", Map.of(
+					"profile_nickname_needs_agreement", false,
+					"profile", Map.of(
+							"nickname", "코드릴리",
+							"profile_image_url", "https://k.kakaocdn.net/dn/profile.jpg",
+							"is_default_image", false),
+					"has_email", true,
+					"email", "lily@kakao.com",
+					"is_email_valid", true,
+					"is_email_verified", true));
+
+	private final Map<String, Object> google = Map.of(
+			"sub", "110169484474386276334",
+			"name", "Code Lily",
+			"given_name", "Lily",
+			"family_name", "Code",
+			"picture", "https://lh3.googleusercontent.com/a/profile",
+			"email", "lily@gmail.com",
+			"email_verified", true,
+			"locale", "ko");
+
+	@Benchmark
+	public CustomOAuth2UserService.OAuth2UserInfo extractKakao() {
+		return CustomOAuth2UserService.extractKakao(kakao);
+	}
+
+	@Benchmark
+	public CustomOAuth2UserService.OAuth2UserInfo extractGoogle() {
+		return CustomOAuth2UserService.extractGoogle(google);
+	}
+
+	@Benchmark
+	public String fallbackNickname() {
+		return CustomOAuth2UserService.fallbackNickname("kakao", "3141592653", "코드릴리");
+	}
+}
@@ -24,6 +24,18 @@ public class CustomUserDetails implements UserDetails {
         this.role = user.getRole().name();
     }
 
+    private CustomUserDetails(Long id, String role) {
+        this.id = id;
+        this.email = null;
+        this.password = null;
+        this.role = role;
+    }
+
+    /** 검증된 JWT 클레임(sub, role)만으로 생성 (DB 조회 없음) */
+    public static CustomUserDetails fromClaims(JwtClaims claims) {
+        return new CustomUserDetails(claims.userId(), claims.role());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role));
@@ -36,7 +48,8 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return email; // username으로 email 사용
+        // username으로 email 사용 (클레임 기반 principal은 email이 없으므로 id)
+        return email != null ? email : String.valueOf(id);
     }
 
     @Override
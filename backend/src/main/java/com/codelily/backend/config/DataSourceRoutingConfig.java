@@ -0,0 +1,77 @@
+package com.codelily.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (db.routing.enabled=true일 때).
+ * - spring.datasource = primary, db.routing.replicas = 읽기 전용 복제본
+ * - JPA/MyBatis/Flyway는 모두 아래 dataSource 하나를 쓰고, 연결마다 ReplicaRoutingDataSource가 대상을 고름
+ * - 비활성화 시 Spring Boot 기본 DataSource 구성을 그대로 사용
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "db.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /** primary 커넥션 풀 (spring.datasource.hikari.* 설정 적용) */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             DataSourceProperties primaryProperties,
+                                                             DataSourceRoutingProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setDriverClassName(primaryProperties.getDriverClassName());
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            pool.setReadOnly(true);
+            // 복제본 풀도 hikaricp.* 지표(커넥션 대기 시간 등)로 노출
+            pool.setMetricRegistry(meterRegistry);
+            // 복제본 장애 시 오래 기다리지 않고 다음 복제본/primary로 넘어가도록
+            pool.setConnectionTimeout(properties.getHealthCheckTimeout().toMillis() * 2);
+            // 기동 시 복제본이 내려가 있어도 실패하지 않음 (checkHealth가 복귀 처리)
+            pool.setInitializationFailTimeout(-1);
+            replicas.put(name, pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry,
+                properties.getStickyWindow(), properties.getHealthCheckTimeout());
+    }
+
+    /** 실제 연결은 첫 SQL 실행 때 가져옴 (그때 트랜잭션의 readOnly 여부로 대상 결정) */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadStatementInterceptor readStatementInterceptor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadStatementInterceptor(replicaRoutingDataSource);
+    }
+}
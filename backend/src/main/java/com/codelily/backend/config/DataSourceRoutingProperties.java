@@ -0,0 +1,45 @@
+package com.codelily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml의 db.routing 설정.
+ * 읽기 전용 작업을 보낼 MySQL 복제본 목록과 라우팅 동작을 지정합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    /** 쓰기 후 이 시간 동안 해당 사용자의 읽기는 primary로 (복제 지연 대비) */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    /** 복제본 연결 확인 제한 시간 */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** 복제본별 커넥션 풀 크기 */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -9,15 +9,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * JWT Access 토큰을 검증하여 Spring Security 컨텍스트에 인증 정보를 저장하는 필터.
@@ -32,6 +36,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final CustomUserDetailsService customUserDetailsService;
     private final RefreshTokenService refreshTokenService;
 
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // true: 검증된 클레임(sub, role)으로 principal 생성 → 요청마다 DB 조회 없음
+    @Value("${auth.principal.stateless:true}")
+    private boolean statelessPrincipal;
+
+    // 전체 사용자 정보(email 등)가 필요한 경로는 캐시된 UserDetails 사용
+    @Value("${auth.principal.full-user-paths:}")
+    private List<String> fullUserPaths;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -48,26 +62,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             final String accessToken = authHeader.substring(7);
 
-            // 2. Access 토큰 유효성 검사
-            if (!jwtTokenProvider.validateToken(accessToken)) {
+            // 2. Access 토큰 검증 (서명 검증은 1회, 최근 검증된 토큰은 캐시 사용)
+            Optional<JwtClaims> verified = jwtTokenProvider.verify(accessToken);
+            if (verified.isEmpty()) {
                 filterChain.doFilter(request, response);
                 return;
             }
+            JwtClaims claims = verified.get();
 
             // 3. 블랙리스트 토큰 여부 검사 (로그아웃 시 등록됨)
-            String jti = jwtTokenProvider.getJti(accessToken);
+            String jti = claims.jti();
             if (refreshTokenService.isBlacklisted(jti != null ? jti : accessToken)) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
             // 4. 사용자 ID 추출
-            Long userId = jwtTokenProvider.getUserId(accessToken);
+            Long userId = claims.userId();
 
             // 5. 이미 SecurityContext가 세팅되어 있으면 스킵
             if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // 6. DB에서 사용자 정보 로드
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+                // 6. 클레임 기반 principal 생성 (필요한 경로만 사용자 정보 캐시 경유)
+                UserDetails userDetails = useClaimsPrincipal(claims, request)
+                        ? CustomUserDetails.fromClaims(claims)
+                        : customUserDetailsService.loadUserById(userId);
 
                 // 7. Spring Security 인증 객체 생성 및 컨텍스트에 등록
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -87,4 +105,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 8. 다음 필터로 체인 진행
         filterChain.doFilter(request, response);
     }
+
+    private boolean useClaimsPrincipal(JwtClaims claims, HttpServletRequest request) {
+        if (!statelessPrincipal || claims.role() == null) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : fullUserPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
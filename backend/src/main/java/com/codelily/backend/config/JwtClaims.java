@@ -0,0 +1,31 @@
+package com.codelily.backend.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변).
+ * JwtTokenProvider.verify()가 한 번의 파싱으로 만들어 반환합니다.
+ */
+public record JwtClaims(
+        String jti,
+        Long userId,
+        String role,
+        Instant issuedAt,
+        Instant expiration
+) {
+
+    /** 만료 여부 */
+    public boolean isExpired(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+
+    /** 만료까지 남은 시간 (최소 1초, 블랙리스트 TTL 등에 사용) */
+    public Duration remaining(Instant now) {
+        if (expiration == null) {
+            return Duration.ofSeconds(1);
+        }
+        long seconds = Math.max(1, Duration.between(now, expiration).getSeconds());
+        return Duration.ofSeconds(seconds);
+    }
+}
@@ -1,11 +1,21 @@
 package com.codelily.backend.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -15,8 +25,39 @@ public class JwtTokenProvider {
     private final long ACCESS_TOKEN_EXPIRATION = 1000L * 60 * 30; // 30분
     private final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7; // 7일
 
+    // 최근 검증된 토큰 캐시 최대 크기 (토큰 다이제스트 → 클레임)
+    private static final long VERIFIED_CACHE_MAX_SIZE = 10_000;
+
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
+    // JwtParser는 불변/스레드 안전 → 한 번만 생성해 재사용
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // 같은 토큰의 반복 요청은 서명 검증 없이 캐시에서 응답 (토큰 만료 시각에 맞춰 제거)
+    private final Cache<String, JwtClaims> verifiedCache = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+            .expireAfter(new Expiry<String, JwtClaims>() {
+                @Override
+                public long expireAfterCreate(String digest, JwtClaims claims, long currentTime) {
+                    if (claims.expiration() == null) {
+                        return Duration.ofMillis(ACCESS_TOKEN_EXPIRATION).toNanos();
+                    }
+                    long millis = claims.expiration().toEpochMilli() - System.currentTimeMillis();
+                    return Duration.ofMillis(Math.max(0, millis)).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String digest, JwtClaims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
     /** Access Token 생성 */
     public String createAccessToken(Long userId, String role) {
         String jti = UUID.randomUUID().toString();
@@ -30,20 +71,10 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    public String getJti(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-            .parseClaimsJws(token).getBody().getId();
-    }
-
-    public Date getExpiration(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-            .parseClaimsJws(token).getBody().getExpiration();
-    }
-
-
-    /** Refresh Token 생성 */
+    /** Refresh Token 생성 (jti로 같은 시각에 발급돼도 토큰이 구분됨) */
     public String createRefreshToken(Long userId) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
@@ -51,23 +82,75 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 클레임을 반환합니다.
+     * 최근 검증된 토큰은 캐시에서 바로 반환하며, 유효하지 않으면 empty.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        JwtClaims cached = verifiedCache.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedCache.invalidate(digest);
+            return Optional.empty();
+        }
+
+        try {
+            JwtClaims claims = toClaims(parser.parseClaimsJws(token).getBody());
+            verifiedCache.put(digest, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String getJti(String token) {
+        return verifyOrThrow(token).jti();
+    }
+
+    public Date getExpiration(String token) {
+        Instant expiration = verifyOrThrow(token).expiration();
+        return expiration != null ? Date.from(expiration) : null;
+    }
+
     /** 토큰에서 사용자 ID 추출 */
     public Long getUserId(String token) {
-        return Long.parseLong(Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject());
+        return verifyOrThrow(token).userId();
     }
 
     /** 토큰 유효성 검사 */
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    private JwtClaims verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
+    private JwtClaims toClaims(Claims body) {
+        return new JwtClaims(
+                body.getId(),
+                body.getSubject() != null ? Long.parseLong(body.getSubject()) : null,
+                body.get("role", String.class),
+                body.getIssuedAt() != null ? body.getIssuedAt().toInstant() : null,
+                body.getExpiration() != null ? body.getExpiration().toInstant() : null
+        );
+    }
+
+    /** 토큰 원문 대신 저장/비교에 쓰는 SHA-256 다이제스트 (캐시 키, Redis 저장값) */
+    public static String digest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
 }
@@ -0,0 +1,79 @@
+package com.codelily.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 소셜 로그인 사용자 정보 API(카카오/구글) 호출용 공유 HTTP 클라이언트.
+ * 로그인마다 RestTemplate을 새로 만들지 않고 커넥션 풀 + keep-alive로 연결을 재사용합니다.
+ */
+@Configuration
+public class OAuth2ClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager oauth2ConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${oauth2.http-client.max-total:100}") int maxTotal,
+            @Value("${oauth2.http-client.max-per-route:50}") int maxPerRoute,
+            @Value("${oauth2.http-client.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${oauth2.http-client.read-timeout:3s}") Duration readTimeout,
+            @Value("${oauth2.http-client.time-to-live:5m}") Duration timeToLive) {
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(manager, "oauth2-userinfo").bindTo(meterRegistry);
+        return manager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauth2HttpClient(
+            PoolingHttpClientConnectionManager oauth2ConnectionManager,
+            @Value("${oauth2.http-client.pool-timeout:1s}") Duration poolTimeout,
+            @Value("${oauth2.http-client.read-timeout:3s}") Duration readTimeout,
+            @Value("${oauth2.http-client.idle-timeout:30s}") Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(oauth2ConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /** DefaultOAuth2UserService 기본 설정과 같은 에러 핸들러 + 풀링 클라이언트 */
+    @Bean
+    public DefaultOAuth2UserService oauth2UserInfoClient(CloseableHttpClient oauth2HttpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(oauth2HttpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+
+        DefaultOAuth2UserService service = new DefaultOAuth2UserService();
+        service.setRestOperations(restTemplate);
+        return service;
+    }
+}
@@ -0,0 +1,20 @@
+package com.codelily.backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 1건이 실행해도 되는 SQL 문장 수 (JPA + MyBatis, 요청 스레드 기준).
+ * - 초과하면 운영 외 프로필에서 경고 로그 + X-Query-Budget-Exceeded 헤더 (QueryBudgetFilter)
+ * - 지정하지 않은 API는 db.query-budget.default 적용
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface QueryBudget {
+
+    int value();
+}
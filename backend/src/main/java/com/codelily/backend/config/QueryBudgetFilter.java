@@ -0,0 +1,50 @@
+package com.codelily.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 문장 수 집계 + 예산 초과 경고 (운영 외 프로필).
+ * - N+1 등으로 문장 수가 늘어난 API를 개발/테스트 중에 바로 드러내기 위함
+ * - 예산은 핸들러의 @QueryBudget (QueryBudgetInterceptor), 없으면 db.query-budget.default
+ * - 보안 필터에서 실행된 문장도 포함하도록 가장 바깥에서 실행
+ */
+@Slf4j
+@Component
+@Profile("!prod")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final int defaultBudget;
+
+    public QueryBudgetFilter(@Value("${db.query-budget.default:10}") int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.begin(defaultBudget, response);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.State state = QueryCounter.end();
+            request.setAttribute(QueryCounter.COUNT_ATTRIBUTE, state.count());
+            if (state.exceeded()) {
+                log.warn("쿼리 예산 초과: {} {} → SQL {}회 (예산 {})",
+                        request.getMethod(), request.getRequestURI(), state.count(), state.budget());
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.codelily.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 처리할 컨트롤러 메서드(또는 클래스)의 @QueryBudget을 요청 예산으로 지정
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+            if (budget == null) {
+                budget = method.getBeanType().getAnnotation(QueryBudget.class);
+            }
+            if (budget != null) {
+                QueryCounter.budget(budget.value());
+            }
+        }
+        return true;
+    }
+}
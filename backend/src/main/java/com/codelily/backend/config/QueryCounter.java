@@ -0,0 +1,79 @@
+package com.codelily.backend.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 단위 SQL 문장 수 (QueryBudgetFilter가 시작/종료).
+ * - MyBatis는 SqlTimingInterceptor, JPA는 Hibernate StatementInspector에서 문장마다 increment
+ * - 요청 밖(스케줄러, 비동기 스레드)이나 운영 프로필에서는 아무것도 하지 않음
+ */
+public final class QueryCounter {
+
+    /** 요청 종료 시 최종 문장 수를 담는 요청 속성 (테스트에서 확인) */
+    public static final String COUNT_ATTRIBUTE = QueryCounter.class.getName() + ".count";
+
+    /** 예산을 넘긴 요청의 응답 헤더 (값: 문장 수/예산) */
+    public static final String EXCEEDED_HEADER = "X-Query-Budget-Exceeded";
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    static final class State {
+
+        private int count;
+        private int budget;
+        private HttpServletResponse response;
+
+        State(int budget, HttpServletResponse response) {
+            this.budget = budget;
+            this.response = response;
+        }
+
+        int count() {
+            return count;
+        }
+
+        int budget() {
+            return budget;
+        }
+
+        boolean exceeded() {
+            return count > budget;
+        }
+    }
+
+    private QueryCounter() {
+    }
+
+    public static void increment() {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.count++;
+        // 응답 본문을 쓰기 전에 실행된 문장이면 헤더로 알림 (대부분의 API는 조회 후 응답)
+        if (state.exceeded() && !state.response.isCommitted()) {
+            state.response.setHeader(EXCEEDED_HEADER, state.count + "/" + state.budget);
+        }
+    }
+
+    static void begin(int defaultBudget, HttpServletResponse response) {
+        CURRENT.set(new State(defaultBudget, response));
+    }
+
+    /** 처리할 핸들러의 @QueryBudget 적용 */
+    static void budget(int budget) {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.budget = budget;
+        }
+    }
+
+    static State end() {
+        State state = CURRENT.get();
+        CURRENT.remove();
+        if (state != null) {
+            state.response = null;
+        }
+        return state;
+    }
+}
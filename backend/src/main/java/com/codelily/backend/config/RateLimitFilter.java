@@ -0,0 +1,105 @@
+package com.codelily.backend.config;
+
+import com.codelily.backend.config.RateLimitProperties.Policy;
+import com.codelily.backend.service.RateLimiter;
+import com.codelily.backend.service.RateLimiter.Decision;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 정책(application.yml rate-limit.policies)별 요청 수 제한 필터.
+ * JwtAuthenticationFilter 뒤에 배치되어 사용자 ID 기준 정책도 적용할 수 있습니다.
+ * - 허용: RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 헤더
+ * - 거절: 429 + Retry-After
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getPolicies().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        // 일치하는 정책 중 가장 여유가 적은 결과를 헤더로 내려줌 (하나라도 거절이면 429)
+        Decision tightest = null;
+        for (Policy policy : properties.getPolicies()) {
+            if (!matches(policy, request.getMethod(), path)) {
+                continue;
+            }
+            Decision decision = rateLimiter.tryAcquire(policy, resolveKey(policy, request));
+            if (!decision.allowed()) {
+                reject(response, decision);
+                return;
+            }
+            if (tightest == null || decision.remaining() < tightest.remaining()) {
+                tightest = decision;
+            }
+        }
+
+        if (tightest != null) {
+            writeHeaders(response, tightest);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(Policy policy, String method, String path) {
+        if (policy.getMethod() != null && !policy.getMethod().isBlank()
+                && !policy.getMethod().equalsIgnoreCase(method)) {
+            return false;
+        }
+        return pathMatcher.match(policy.getPath(), path);
+    }
+
+    private String resolveKey(Policy policy, HttpServletRequest request) {
+        return switch (policy.getKey()) {
+            case ROUTE -> "route";
+            case USER -> {
+                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+                if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user) {
+                    yield "u:" + user.getId();
+                }
+                yield "ip:" + request.getRemoteAddr();
+            }
+            case IP -> "ip:" + request.getRemoteAddr();
+        };
+    }
+
+    private void reject(HttpServletResponse response, Decision decision) throws IOException {
+        writeHeaders(response, decision);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setStatus(429);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"message\":\"Too many requests\"}");
+    }
+
+    private void writeHeaders(HttpServletResponse response, Decision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+    }
+}
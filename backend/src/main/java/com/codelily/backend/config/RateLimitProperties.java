@@ -0,0 +1,62 @@
+package com.codelily.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml의 rate-limit 설정.
+ * 정책마다 경로/메서드/키 기준과 토큰 버킷 크기·충전 속도를 지정합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Redis에서 한 번에 빌려오는 토큰 수 (노드 로컬에서 소진 → 대부분의 판정은 네트워크 없음) */
+    private int leaseSize = 5;
+
+    /** 빌려온 토큰의 유효 시간 (남은 토큰은 버림) */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+    /** Redis 호출 실패 후 다시 시도하기까지 로컬 버킷으로만 판정하는 시간 */
+    private Duration redisRetryInterval = Duration.ofSeconds(5);
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+
+        /** Ant 패턴 (예: /api/posts/**) */
+        private String path;
+
+        /** HTTP 메서드 (비우면 전체) */
+        private String method;
+
+        private KeyType key = KeyType.IP;
+
+        /** 버킷 크기 (허용 버스트) */
+        private long capacity;
+
+        /** 초당 충전 토큰 수 */
+        private double refillPerSecond;
+
+        /** 정책별 리스 크기 (0이면 전역 leaseSize) */
+        private int leaseSize;
+    }
+
+    public enum KeyType {
+        IP,     // 클라이언트 IP
+        USER,   // 인증 사용자 ID (비로그인은 IP)
+        ROUTE   // 경로 전체 공유
+    }
+}
@@ -0,0 +1,44 @@
+package com.codelily.backend.config;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * MyBatis 문장 종류를 ReplicaRoutingDataSource에 알림.
+ * - select: 트랜잭션 밖이면 복제본에서 실행 (연결은 문장 실행 중에 가져오므로 그동안만 표시)
+ * - insert/update/delete: 실행 후 현재 사용자의 읽기를 primary로 고정
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class ReadStatementInterceptor implements Interceptor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public ReadStatementInterceptor(ReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if ("update".equals(invocation.getMethod().getName())) {
+            Object result = invocation.proceed();
+            routingDataSource.markWrite();
+            return result;
+        }
+        return ReplicaRoutingDataSource.readStatement(invocation::proceed);
+    }
+}
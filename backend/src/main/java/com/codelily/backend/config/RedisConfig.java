@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.*;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -18,4 +19,12 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory f) {
         return new StringRedisTemplate(f);
     }
+
+    // 노드 간 로컬 캐시 동기화용 pub/sub 리스너 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory f) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(f);
+        return container;
+    }
 }
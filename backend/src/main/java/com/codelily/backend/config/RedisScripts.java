@@ -0,0 +1,27 @@
+package com.codelily.backend.config;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * classpath의 Lua 스크립트를 한 번만 읽어 RedisScript로 만듭니다.
+ * RedisScript.of(Resource)는 호출마다 리소스 변경 여부를 확인하므로 핫 패스에서 쓰지 않습니다.
+ */
+public final class RedisScripts {
+
+    private RedisScripts() {
+    }
+
+    public static <T> RedisScript<T> load(String path, Class<T> resultType) {
+        try {
+            String script = new ResourceScriptSource(new ClassPathResource(path)).getScriptAsString();
+            return RedisScript.of(script, resultType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Redis 스크립트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
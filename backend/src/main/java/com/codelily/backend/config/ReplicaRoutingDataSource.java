@@ -0,0 +1,227 @@
+package com.codelily.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.function.ThrowingSupplier;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 작업을 MySQL 복제본으로 보내는 DataSource (LazyConnectionDataSourceProxy로 감싸서 사용).
+ * - 복제본으로: @Transactional(readOnly = true) 트랜잭션, 트랜잭션 밖의 MyBatis select (ReadStatementInterceptor)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖 쓰기, Flyway 등)는 모두 primary
+ *   (트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 실제 연결은 첫 SQL 실행 때 가져와야 함)
+ * - 정상인 복제본끼리 round-robin, 연결 실패 시 바로 제외하고 다음 복제본 → 모두 실패하면 primary
+ *   (제외된 복제본은 checkHealth가 다시 확인해 복귀)
+ * - 쓰기를 한 사용자는 sticky-window 동안 primary에서 읽음 (복제 지연으로 방금 쓴 내용이 안 보이는 문제 방지, 노드 로컬)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> READ_STATEMENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // 최근 쓰기를 한 사용자 id (sticky-window 후 만료)
+    private final Cache<Long, Boolean> recentWriters;
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry,
+                                    Duration stickyWindow, Duration healthCheckTimeout) {
+        this(primary, replicas, meterRegistry, stickyWindow, healthCheckTimeout, Ticker.systemTicker());
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry,
+                             Duration stickyWindow, Duration healthCheckTimeout, Ticker ticker) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .ticker(ticker)
+                .build();
+
+        this.primaryConnections = Counter.builder("db.routing.connections")
+                .tag("target", "primary").description("primary로 보낸 연결").register(meterRegistry);
+        this.replicaConnections = Counter.builder("db.routing.connections")
+                .tag("target", "replica").description("복제본으로 보낸 연결").register(meterRegistry);
+        this.fallbacks = Counter.builder("db.routing.fallbacks")
+                .description("복제본 연결 실패로 primary에서 처리한 읽기").register(meterRegistry);
+        Gauge.builder("db.routing.replicas.healthy", this.replicas,
+                        list -> list.stream().filter(r -> r.healthy).count())
+                .description("정상인 복제본 수").register(meterRegistry);
+    }
+
+    /** 작업 동안 트랜잭션 밖의 연결을 읽기 전용으로 표시 (MyBatis select) */
+    public static <T> T readStatement(ThrowingSupplier<T> work) throws Exception {
+        Boolean previous = READ_STATEMENT.get();
+        READ_STATEMENT.set(Boolean.TRUE);
+        try {
+            return work.getWithException();
+        } finally {
+            if (previous == null) {
+                READ_STATEMENT.remove();
+            } else {
+                READ_STATEMENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 작업 동안 읽기도 primary에서 (여러 요청이 공유하는 캐시 채우기 등 복제 지연된 값이 오래 남으면 안 되는 읽기)
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    /** 현재 사용자의 읽기를 sticky-window 동안 primary로 고정 */
+    public void markWrite() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        fallbacks.increment();
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    /** 복제본 연결 확인 (실패한 복제본 제외/복귀) */
+    @Scheduled(fixedDelayString = "${db.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(healthCheckTimeoutSeconds)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(new SQLException("연결 확인 실패"));
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private boolean routeToReplica() {
+        if (replicas.isEmpty() || FORCE_PRIMARY.get() != null) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                // 쓰기 트랜잭션: 커밋 직후 읽기도 primary에서
+                markWrite();
+                return false;
+            }
+        } else if (READ_STATEMENT.get() == null) {
+            return false;
+        }
+        Long userId = currentUserId();
+        return userId == null || recentWriters.getIfPresent(userId) == null;
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        void markDown(SQLException e) {
+            if (healthy) {
+                healthy = false;
+                log.warn("복제본 {} 제외 (primary에서 읽음): {}", name, e.getMessage());
+            }
+        }
+
+        void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("복제본 {} 복귀", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.codelily.backend.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA 리포지토리 메서드별 실행 시간/행 수 기록 (statement = 리포지토리.메서드, 예: UserRepository.findByEmail).
+ * - 리포지토리 프록시에 붙는 인터셉터 (SqlMetricsConfig), 리포지토리마다 하나
+ * - 호출 중 Hibernate가 만든 SQL은 STATEMENT_INSPECTOR가 모아 느린 실행 표본에 함께 남김
+ *   (바인드 값은 Hibernate 밖에서 보이지 않으므로 메서드 인자로 대신함)
+ */
+public class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    private static final int MAX_CAPTURED_SQL = 5;
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /** hibernate.session_factory.statement_inspector: SQL은 바꾸지 않고 요청별 문장 수 집계 + 기억만 함 */
+    public static final StatementInspector STATEMENT_INSPECTOR = sql -> {
+        QueryCounter.increment();
+        List<String> captured = CAPTURED.get();
+        if (captured != null && captured.size() < MAX_CAPTURED_SQL) {
+            captured.add(sql);
+        }
+        return sql;
+    };
+
+    private final SqlMetrics sqlMetrics;
+    private final String repository;
+
+    public RepositoryTimingInterceptor(SqlMetrics sqlMetrics, String repository) {
+        this.sqlMetrics = sqlMetrics;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        List<String> previous = CAPTURED.get();
+        List<String> captured = new ArrayList<>(2);
+        CAPTURED.set(captured);
+        long started = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            if (previous == null) {
+                CAPTURED.remove();
+            } else {
+                CAPTURED.set(previous);
+            }
+            Object[] args = invocation.getArguments();
+            sqlMetrics.record("jpa", repository + "." + method.getName(), elapsed,
+                    method.getReturnType() == void.class ? null : rows(result),
+                    () -> captured.isEmpty() ? null : String.join("; ", captured),
+                    () -> arguments(method, args));
+        }
+    }
+
+    static Integer rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> list) {
+            return list.size();
+        }
+        if (result instanceof Slice<?> page) {
+            return page.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer count) {
+            return count; // @Modifying 변경 행 수
+        }
+        return 1;
+    }
+
+    private static Map<String, Object> arguments(Method method, Object[] args) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < args.length; i++) {
+            values.put(i < parameters.length ? parameters[i].getName() : "arg" + i, args[i]);
+        }
+        return values;
+    }
+}
@@ -6,6 +6,7 @@ import com.codelily.backend.service.CustomUserDetailsService;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,13 +24,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.*;
 
 import java.util.Arrays;
-import java.util.Collections;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomUserDetailsService customUserDetailsService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
@@ -47,6 +49,8 @@ public class SecurityConfig {
 
             // 경로별 인가
             .authorizeHttpRequests(auth -> auth
+                // SQL/바인드 값이 담긴 운영 지표는 관리자만
+                .requestMatchers("/actuator/slowqueries/**", "/actuator/metrics/**").hasRole("ADMIN")
                 .requestMatchers(
                     "/api/health",
                     "/actuator/**",
@@ -76,14 +80,17 @@ public class SecurityConfig {
         // JWT 필터: UsernamePasswordAuthenticationFilter 앞에 배치
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Rate Limit 필터: JWT 필터 뒤 (사용자 ID 기준 정책 적용 가능)
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
+
         return http.build();
     }
 
     // DaoAuthenticationProvider (이메일/비번 기반 로그인 시)
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(UserDetailsService uds) {
+    public DaoAuthenticationProvider authenticationProvider() {
         var provider = new DaoAuthenticationProvider();
-        provider.setUserDetailsService(uds);
+        provider.setUserDetailsService(customUserDetailsService);
         provider.setPasswordEncoder(passwordEncoder());
         return provider;
     }
@@ -106,7 +113,8 @@ public class SecurityConfig {
         config.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost"));
         config.setAllowedMethods(Arrays.asList("GET","POST","PUT","DELETE","PATCH","OPTIONS"));
         config.setAllowedHeaders(Arrays.asList("Authorization","Content-Type","X-Requested-With"));
-        config.setExposedHeaders(Collections.singletonList("Authorization"));
+        config.setExposedHeaders(Arrays.asList("Authorization",
+                "RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "Retry-After"));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
@@ -0,0 +1,26 @@
+package com.codelily.backend.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/slowqueries: 최근 느린 SQL 실행 (최신순, 관리자 전용)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SqlMetrics sqlMetrics;
+
+    public SlowQueryEndpoint(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @ReadOperation
+    public List<SqlMetrics.SlowQuery> slowQueries() {
+        return sqlMetrics.slowQueries();
+    }
+}
@@ -0,0 +1,144 @@
+package com.codelily.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 실행 지표 (MyBatis 문장 / JPA 리포지토리 메서드 단위).
+ * - db.statement: 소요 시간, db.statement.rows: 반환(변경) 행 수 (layer=mybatis|jpa, statement=문장 id 또는 리포지토리.메서드)
+ * - slow-threshold 이상 걸린 실행은 SQL과 바인드 값을 최근 slow-samples개까지 보관 (/actuator/slowqueries)
+ *   (바인드 값은 느린 실행에서만 만들고, 비밀번호/토큰 이름의 값은 가림)
+ * - 커넥션 풀 대기 시간은 Hikari 지표(hikaricp.connections.acquire)로 확인
+ */
+@Slf4j
+@Component
+public class SqlMetrics {
+
+    public record SlowQuery(Instant at, String layer, String statement, long millis, String sql,
+                            Map<String, Object> params) {
+    }
+
+    private record Meters(Timer timer, DistributionSummary rows) {
+    }
+
+    private static final Pattern SECRET = Pattern.compile("(?i).*(password|secret|token).*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_VALUE_LENGTH = 200;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int maxSamples;
+
+    // 문장별 지표 (매 실행마다 레지스트리에서 찾지 않도록)
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> samples = new ArrayDeque<>();
+
+    public SqlMetrics(MeterRegistry meterRegistry,
+                      @Value("${db.metrics.slow-threshold:PT0.2S}") Duration slowThreshold,
+                      @Value("${db.metrics.slow-samples:50}") int maxSamples) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * 실행 1회 기록
+     * - sql/params는 느린 실행일 때만 호출
+     */
+    public void record(String layer, String statement, long nanos, Integer rows,
+                       Supplier<String> sql, Supplier<Map<String, Object>> params) {
+        Meters m = meters.computeIfAbsent(layer + ':' + statement, k -> new Meters(
+                Timer.builder("db.statement")
+                        .tag("layer", layer).tag("statement", statement)
+                        .description("SQL 실행 시간")
+                        .register(meterRegistry),
+                DistributionSummary.builder("db.statement.rows")
+                        .tag("layer", layer).tag("statement", statement)
+                        .description("반환/변경 행 수")
+                        .register(meterRegistry)));
+        m.timer().record(nanos, TimeUnit.NANOSECONDS);
+        if (rows != null) {
+            m.rows().record(rows);
+        }
+        if (nanos >= slowThresholdNanos) {
+            recordSlow(layer, statement, nanos, sql, params);
+        }
+    }
+
+    /** 최근 느린 실행 (최신순) */
+    public List<SlowQuery> slowQueries() {
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    /** 로그/응답용 바인드 값 (비밀 값 가림, 긴 값 자름) */
+    public static Map<String, Object> params(Map<String, Object> raw) {
+        Map<String, Object> safe = new LinkedHashMap<>();
+        raw.forEach((name, value) -> {
+            if (name != null && SECRET.matcher(name).matches()) {
+                safe.put(name, "****");
+            } else {
+                safe.put(name, display(value));
+            }
+        });
+        return Collections.unmodifiableMap(safe);
+    }
+
+    /** 단순 값만 그대로, 엔티티 등 객체는 타입 이름만 (toString으로 민감 필드가 새지 않도록) */
+    private static Object display(Object value) {
+        if (value instanceof CharSequence text) {
+            return text.length() > MAX_VALUE_LENGTH ? text.subSequence(0, MAX_VALUE_LENGTH) + "..." : text.toString();
+        }
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof Temporal || value instanceof UUID) {
+            return value;
+        }
+        if (value instanceof Collection<?> values) {
+            return values.getClass().getSimpleName() + "(" + values.size() + ")";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private void recordSlow(String layer, String statement, long nanos,
+                            Supplier<String> sql, Supplier<Map<String, Object>> params) {
+        SlowQuery sample;
+        try {
+            String text = sql.get();
+            sample = new SlowQuery(Instant.now(), layer, statement, TimeUnit.NANOSECONDS.toMillis(nanos),
+                    text == null ? null : WHITESPACE.matcher(text).replaceAll(" ").strip(), params(params.get()));
+        } catch (RuntimeException e) {
+            // 지표 기록 실패가 실제 조회를 깨뜨리지 않도록
+            log.debug("느린 쿼리 표본 생성 실패 ({}): {}", statement, e.getMessage());
+            return;
+        }
+        log.warn("느린 쿼리 {}ms [{}] {} {}", sample.millis(), statement, sample.sql(), sample.params());
+        synchronized (samples) {
+            samples.addFirst(sample);
+            while (samples.size() > maxSamples) {
+                samples.removeLast();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.codelily.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * JPA 쪽 SQL 지표 연결 (MyBatis는 SqlTimingInterceptor가 플러그인으로 등록됨).
+ * - 리포지토리 프록시마다 RepositoryTimingInterceptor 추가
+ * - Hibernate StatementInspector로 리포지토리 호출 중 실행된 SQL 수집
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor repositoryTimingPostProcessor(ObjectProvider<SqlMetrics> sqlMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, information) -> proxy.addAdvice(new RepositoryTimingInterceptor(
+                                    sqlMetrics.getObject(), information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                RepositoryTimingInterceptor.STATEMENT_INSPECTOR);
+    }
+}
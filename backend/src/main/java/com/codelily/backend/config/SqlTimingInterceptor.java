@@ -0,0 +1,109 @@
+package com.codelily.backend.config;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MyBatis 문장별 실행 시간/행 수 기록 (statement = 매퍼 문장 id, 예: PostMapper.findPostSummaries).
+ * - 느린 실행만 SQL과 바인드 값을 만들어 SqlMetrics에 표본으로 남김
+ * - 요청별 문장 수(QueryCounter)도 여기서 셈
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlTimingInterceptor implements Interceptor {
+
+    private final SqlMetrics sqlMetrics;
+
+    public SqlTimingInterceptor(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        Object parameter = args[1];
+        BoundSql given = args.length == 6 ? (BoundSql) args[5] : null;
+        QueryCounter.increment();
+        long started = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            // 실패(타임아웃 등)도 시간은 기록, 행 수는 없음
+            long elapsed = System.nanoTime() - started;
+            sqlMetrics.record("mybatis", statementName(statement.getId()), elapsed, rows(result),
+                    () -> boundSql(statement, parameter, given).getSql(),
+                    () -> bindValues(statement.getConfiguration(), boundSql(statement, parameter, given), parameter));
+        }
+    }
+
+    /** com.codelily.backend.mapper.PostMapper.findById → PostMapper.findById */
+    static String statementName(String id) {
+        int method = id.lastIndexOf('.');
+        int type = method > 0 ? Math.max(id.lastIndexOf('.', method - 1), id.lastIndexOf('$', method - 1)) : -1;
+        return id.substring(type + 1);
+    }
+
+    private static BoundSql boundSql(MappedStatement statement, Object parameter, BoundSql given) {
+        return given != null ? given : statement.getBoundSql(parameter);
+    }
+
+    private static Integer rows(Object result) {
+        if (result instanceof Collection<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return null;
+    }
+
+    /** 바인드 순서대로 값 (DefaultParameterHandler와 같은 방식으로 조회) */
+    private static Map<String, Object> bindValues(Configuration configuration, BoundSql boundSql, Object parameter) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        MetaObject meta = null;
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String name = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(name)) {
+                value = boundSql.getAdditionalParameter(name);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (meta == null) {
+                    meta = configuration.newMetaObject(parameter);
+                }
+                value = meta.getValue(name);
+            }
+            values.put(name, value);
+        }
+        return values;
+    }
+}
@@ -1,16 +1,22 @@
 ﻿package com.codelily.backend.controller;
 
+import com.codelily.backend.config.QueryBudget;
 import com.codelily.backend.dto.LoginRequest;
 import com.codelily.backend.dto.LoginResponse;
 import com.codelily.backend.service.AuthService;
+import com.codelily.backend.service.LoginOverloadedException;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -31,13 +37,14 @@ public class AuthController {
      * [POST] 일반 로그인 (JWT 발급)
      * - AccessToken: JSON 반환
      * - RefreshToken: HttpOnly 쿠키 저장
+     * - 비밀번호 검증은 비동기 처리 (요청 스레드 반환), 대기열 초과 시 503
+     * - 쿠키는 HttpServletResponse가 아닌 ResponseEntity 헤더로 설정 (검증 풀 스레드에서 완료되므로)
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(
-            @RequestBody LoginRequest request,
-            HttpServletResponse response
-    ) {
-        return ResponseEntity.ok(authService.login(request, response));
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request) {
+        return authService.login(request).thenApply(result -> ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, authService.refreshCookie(result.refreshToken()).toString())
+                .body(result.response()));
     }
 
     /**
@@ -45,6 +52,7 @@ public class AuthController {
      * - RefreshToken: HttpOnly 쿠키로 자동 갱신
      * - AccessToken: JSON 반환
      */
+    @QueryBudget(2)
     @PostMapping("/refresh")
     public ResponseEntity<LoginResponse> refreshToken(
             @CookieValue(name = "refreshToken", required = false) String refreshToken,
@@ -58,6 +66,7 @@ public class AuthController {
      * - Redis에서 RefreshToken 제거
      * - AccessToken은 블랙리스트에 등록 → 만료 전까지 재사용 차단
      */
+    @QueryBudget(0)
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(
             @CookieValue(name = "refreshToken", required = false) String refreshToken,
@@ -80,6 +89,7 @@ public class AuthController {
      * 예: /api/auth/oauth2/authorize/google
      * 예: /api/auth/oauth2/authorize/kakao
      */
+    @QueryBudget(0)
     @GetMapping("/oauth2/authorize/{provider}")
     public void oauth2Authorize(
             @PathVariable("provider") String provider,
@@ -94,6 +104,7 @@ public class AuthController {
      * - OAuth2AuthenticationSuccessHandler에서 JWT 발급 및 리디렉트 처리
      * - 프론트엔드에서는 /auth/callback 페이지에서 AccessToken을 받아 저장
      */
+    @QueryBudget(0)
     @GetMapping("/oauth2/success")
     public ResponseEntity<String> oauth2Success() {
         return ResponseEntity.ok("소셜 로그인 성공 - 프론트 콜백에서 처리하세요");
@@ -104,6 +115,7 @@ public class AuthController {
      * 예: /api/auth/oauth2/authorize/logout?provider=kakao
      * 예: /api/auth/oauth2/authorize/logout?provider=google
      */
+    @QueryBudget(0)
     @GetMapping("/oauth2/logout")
     public void oauth2Logout(
             @RequestParam("provider") String provider,
@@ -137,4 +149,14 @@ public class AuthController {
             response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원하지 않는 OAuth2 제공자입니다.");
         }
     }
+
+    /**
+     * 비밀번호 검증 대기열 초과 → 503 + Retry-After
+     */
+    @ExceptionHandler(LoginOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handleLoginOverloaded(LoginOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
 }
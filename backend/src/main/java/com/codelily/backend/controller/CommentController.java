@@ -0,0 +1,117 @@
+package com.codelily.backend.controller;
+
+import com.codelily.backend.config.CustomUserDetails;
+import com.codelily.backend.config.QueryBudget;
+import com.codelily.backend.dto.CommentPageResponse;
+import com.codelily.backend.dto.CommentRequest;
+import com.codelily.backend.dto.CommentView;
+import com.codelily.backend.service.CommentService;
+import com.codelily.backend.service.CommentStreamHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/posts/{postId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
+
+    /**
+     * 댓글 스레드 (path 순, 커서 기반)
+     * - 깊은 답글은 hasMoreReplies=true인 댓글의 /replies로 이어서 조회
+     */
+    @QueryBudget(3)
+    @GetMapping
+    public CommentPageResponse getComments(@PathVariable Long postId,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer size) {
+        return commentService.thread(postId, cursor, size);
+    }
+
+    /**
+     * 접힌 답글 펼치기
+     */
+    @QueryBudget(4)
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentPageResponse> getReplies(@PathVariable Long postId,
+                                                          @PathVariable Long commentId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        return commentService.replies(postId, commentId, cursor, size)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 새 댓글 실시간 수신 (SSE, event: comment / data: 댓글 JSON)
+     * - 연결이 끊기면 EventSource가 재연결, 놓친 댓글은 목록 API로 보충
+     */
+    @QueryBudget(0)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long postId) {
+        return commentStreamHub.open(postId);
+    }
+
+    /**
+     * 댓글/답글 작성
+     */
+    @QueryBudget(5)
+    @PostMapping
+    public ResponseEntity<CommentView> create(@PathVariable Long postId,
+                                              @RequestBody CommentRequest request,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return commentService.create(postId, request.getParentId(), userDetails.getId(), request.getContent())
+                .map(comment -> ResponseEntity.status(HttpStatus.CREATED).body(comment))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 댓글 삭제 (작성자 또는 관리자)
+     */
+    @QueryBudget(3)
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> delete(@PathVariable Long postId,
+                                       @PathVariable Long commentId,
+                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+        boolean admin = "ADMIN".equals(userDetails.getRole());
+        return commentService.delete(postId, commentId, userDetails.getId(), admin)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 노드의 실시간 연결 수 초과 → 503
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> handleOverloaded(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    /**
+     * 잘못된 커서/댓글 내용 → 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.codelily.backend.controller;
 
+import com.codelily.backend.config.QueryBudget;
+
 import java.time.Instant;
 import java.util.Map;
 
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/health")
 public class HealthController {
+    @QueryBudget(0)
     @GetMapping
     public Map<String, Object> health() {
         return Map.of(
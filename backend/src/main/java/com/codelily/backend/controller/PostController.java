@@ -1,10 +1,24 @@
 package com.codelily.backend.controller;
 
-import com.codelily.backend.domain.Post;
-import com.codelily.backend.mapper.PostMapper;
-import com.codelily.backend.repository.PostRepository;
+import com.codelily.backend.config.CustomUserDetails;
+import com.codelily.backend.config.QueryBudget;
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.dto.PostPageResponse;
+import com.codelily.backend.dto.PostRanking;
+import com.codelily.backend.dto.PostSearchHit;
+import com.codelily.backend.dto.PostSuggestion;
+import com.codelily.backend.dto.SidebarAggregates;
+import com.codelily.backend.service.PostAggregateService;
+import com.codelily.backend.service.PostSearchService;
+import com.codelily.backend.service.PostSuggestService;
+import com.codelily.backend.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,17 +31,88 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PostController {
 
-    private final PostRepository postRepository;
-    private final PostMapper postMapper;
+    private final PostService postService;
+    private final PostSearchService postSearchService;
+    private final PostSuggestService postSuggestService;
+    private final PostAggregateService postAggregateService;
 
+    /**
+     * 게시글 목록 (커서 기반, 본문 제외)
+     * - 다음 페이지: 응답의 nextCursor를 cursor로 전달
+     * - tags: 쉼표는 AND, "a|b"는 OR, "-a"는 제외 (예: tags=spring,java|kotlin,-legacy)
+     * - status=DRAFT: 로그인 사용자 본인 임시글 (관리자는 전체, 비로그인은 무시하고 PUBLISHED)
+     */
+    @QueryBudget(3)
     @GetMapping
-    public List<Post> getAllPosts() {
-        return postRepository.findAll();
+    public PostPageResponse getPosts(@RequestParam(required = false) String cursor,
+                                     @RequestParam(required = false) Integer size,
+                                     @RequestParam(required = false) String category,
+                                     @RequestParam(required = false) String status,
+                                     @RequestParam(required = false) String tags,
+                                     @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long viewerId = userDetails != null ? userDetails.getId() : null;
+        boolean admin = userDetails != null && "ADMIN".equals(userDetails.getRole());
+        return postService.listPosts(cursor, size, category, status, tags, viewerId, admin);
     }
 
+    /**
+     * 게시글 상세 (slug 기준, 조회수 기록: 로그인 사용자는 id, 비로그인은 IP 기준 하루 1회)
+     */
+    @QueryBudget(1)
+    @GetMapping("/{slug}")
+    public ResponseEntity<PostDetail> getPost(@PathVariable String slug,
+                                              @AuthenticationPrincipal CustomUserDetails userDetails,
+                                              HttpServletRequest request) {
+        String viewerKey = userDetails != null ? "u:" + userDetails.getId() : "ip:" + request.getRemoteAddr();
+        return postService.getPost(slug, viewerKey)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 인기 게시글 (window: all | hour | day)
+     */
+    @QueryBudget(1)
     @GetMapping("/top")
-    public List<Map<String, Object>> getTopPosts(@RequestParam(defaultValue = "5") int limit) {
-        return postMapper.findTopPosts(limit);
+    public List<PostRanking> getTopPosts(@RequestParam(defaultValue = "5") int limit,
+                                         @RequestParam(defaultValue = "all") String window) {
+        return postService.topPosts(limit, window);
     }
-}
 
+    /**
+     * 게시글 검색 (제목/본문/카테고리/태그, 관련도순)
+     */
+    @QueryBudget(1)
+    @GetMapping("/search")
+    public List<PostSearchHit> search(@RequestParam String q,
+                                      @RequestParam(required = false) Integer limit) {
+        return postSearchService.search(q, limit);
+    }
+
+    /**
+     * 검색어 자동완성 (게시글 제목/태그, 입력 중인 한글도 일치, DB 조회 없음)
+     */
+    @QueryBudget(0)
+    @GetMapping("/suggest")
+    public List<PostSuggestion> suggest(@RequestParam(defaultValue = "") String q,
+                                        @RequestParam(required = false) Integer limit) {
+        return postSuggestService.suggest(q, limit);
+    }
+
+    /**
+     * 사이드바 집계 (태그 클라우드, 카테고리별 게시글 수, 월별 보관함 – 메모리에서 응답)
+     */
+    @QueryBudget(0)
+    @GetMapping("/sidebar")
+    public SidebarAggregates sidebar() {
+        return postAggregateService.sidebar();
+    }
+
+    /**
+     * 잘못된 검색어/커서/상태/랭킹 기간 값 → 400
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
@@ -1,11 +1,13 @@
 package com.codelily.backend.controller;
 
-import com.codelily.backend.domain.User;
+import com.codelily.backend.config.CustomUserDetails;
+import com.codelily.backend.config.QueryBudget;
+import com.codelily.backend.dto.PublicUserProfile;
+import com.codelily.backend.dto.UserProfile;
 import com.codelily.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
@@ -18,29 +20,32 @@ public class UserController {
     private final UserService userService;
 
     /** 내 정보 조회 */
+    @QueryBudget(1)
     @GetMapping("/me")
-    public ResponseEntity<User> getMyInfo(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
-        Optional<User> user = userService.findById(userId);
+    public ResponseEntity<UserProfile> getMyInfo(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        Optional<UserProfile> user = userService.findProfile(userDetails.getId());
         return user.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
-    /** 사용자 단건 조회 */
+    /** 사용자 단건 조회 (공개 프로필) */
+    @QueryBudget(1)
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUser(@PathVariable Long id) {
-        Optional<User> user = userService.findById(id);
+    public ResponseEntity<PublicUserProfile> getUser(@PathVariable Long id) {
+        Optional<PublicUserProfile> user = userService.findPublicProfile(id);
         return user.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
     }
 
     /** 닉네임 중복 체크 */
+    @QueryBudget(1)
     @GetMapping("/check-nickname")
     public ResponseEntity<Boolean> checkNickname(@RequestParam String nickname) {
         return ResponseEntity.ok(userService.existsByNickname(nickname));
     }
 
     /** 프로필 업데이트 */
+    @QueryBudget(3)
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateProfile(
+    public ResponseEntity<UserProfile> updateProfile(
             @PathVariable Long id,
             @RequestParam String nickname,
             @RequestParam(required = false) String avatarUrl) {
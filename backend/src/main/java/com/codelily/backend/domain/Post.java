@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "posts")
+@EntityListeners(PostChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +48,16 @@ public class Post {
 
     private LocalDateTime updatedAt;
 
+    // 조회 시점의 slug (slug 변경 시 이전 slug 캐시도 무효화하기 위함)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedSlug;
+
+    @PostLoad
+    void rememberSlug() {
+        this.loadedSlug = this.slug;
+    }
+
     @PrePersist
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,84 @@
+package com.codelily.backend.domain;
+
+import com.codelily.backend.service.PostAggregateService;
+import com.codelily.backend.service.PostDetailCache;
+import com.codelily.backend.service.PostSearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Post 저장/수정/삭제 후처리.
+ * - 게시글 상세 캐시(PostDetailCache) 무효화: 이전/현재 slug 모두
+ *   (생성 시에도 무효화: 같은 slug의 "없음" 결과가 로컬 캐시에 남아 있을 수 있음)
+ * - 검색 색인(PostSearchService) 재색인/제거
+ * - 사이드바 집계(PostAggregateService) 다시 읽기 (집계 값은 같은 트랜잭션에서 DB 트리거가 갱신)
+ * - 트랜잭션 안이면 커밋 후 실행 (커밋 전 다른 요청이 옛 값을 다시 캐시/색인하는 것을 방지)
+ * - Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 사용
+ */
+public class PostChangeListener {
+
+    private final PostDetailCache postDetailCache;
+    private final PostSearchService postSearchService;
+    private final PostAggregateService postAggregateService;
+
+    public PostChangeListener(PostDetailCache postDetailCache, PostSearchService postSearchService,
+                              PostAggregateService postAggregateService) {
+        this.postDetailCache = postDetailCache;
+        this.postSearchService = postSearchService;
+        this.postAggregateService = postAggregateService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void saved(Post post) {
+        Long postId = post.getId();
+        Set<String> slugs = slugs(post);
+        afterCommit(() -> {
+            slugs.forEach(postDetailCache::evict);
+            postSearchService.reindex(postId);
+            postAggregateService.markDirty();
+        });
+    }
+
+    @PostRemove
+    void removed(Post post) {
+        Long postId = post.getId();
+        Set<String> slugs = slugs(post);
+        afterCommit(() -> {
+            slugs.forEach(postDetailCache::evict);
+            postSearchService.remove(postId);
+            postAggregateService.markDirty();
+        });
+    }
+
+    private static Set<String> slugs(Post post) {
+        Set<String> slugs = new LinkedHashSet<>();
+        if (post.getLoadedSlug() != null) {
+            slugs.add(post.getLoadedSlug());
+        }
+        if (post.getSlug() != null) {
+            slugs.add(post.getSlug());
+        }
+        post.rememberSlug(); // 같은 영속성 컨텍스트에서 다시 수정되는 경우 대비
+        return slugs;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_provider", columnNames = {"provider", "provider_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,18 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드 페이지 (path 순서)
+ * - nextCursor를 다음 요청의 cursor로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPageResponse {
+    private List<CommentView> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
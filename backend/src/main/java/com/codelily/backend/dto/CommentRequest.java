@@ -0,0 +1,14 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 댓글 작성 요청 (parentId가 있으면 해당 댓글의 답글)
+ */
+@Getter
+@Setter
+public class CommentRequest {
+    private Long parentId;
+    private String content;
+}
@@ -0,0 +1,32 @@
+package com.codelily.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 (CommentMapper 매핑 + 응답)
+ * - path: 스레드 순서 키 (/ + 10자리 id 구간, 예: /0000000001/0000000004)
+ * - deleted: 삭제된 댓글은 답글 구조 유지를 위해 자리만 남김 (본문/작성자 비움)
+ * - hasMoreReplies: 깊이 제한으로 펼치지 않은 답글이 있음 (/comments/{id}/replies로 이어서 조회)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentView {
+    private Long id;
+    private Long postId;
+    private Long parentId;
+    private int depth;
+    private String path;
+    private String content;
+    private boolean deleted;
+    @JsonIgnore
+    private Long authorId;
+    private UserSummary author;
+    private LocalDateTime createdAt;
+    private boolean hasMoreReplies;
+}
@@ -0,0 +1,20 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * post_aggregates 행 (MyBatis 매핑용)
+ * - kind: TAG | CATEGORY | MONTH, name: 태그 이름 / 카테고리 / 'YYYY-MM'
+ * - storedCount: 보정 대상 조회 시 테이블에 저장된 값 (행이 없으면 null)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostAggregateRow {
+    private String kind;
+    private String name;
+    private long postCount;
+    private Long storedCount;
+}
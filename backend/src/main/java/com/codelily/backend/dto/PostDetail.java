@@ -0,0 +1,18 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 (요약 + 본문, PostMapper.findPostDetailBySlug, PostDetailCache에 캐시)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostDetail extends PostSummary {
+    private String content;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,18 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 목록 응답
+ * - nextCursor를 다음 요청의 cursor로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class PostPageResponse {
+    private List<PostSummary> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
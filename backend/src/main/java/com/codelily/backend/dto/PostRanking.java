@@ -0,0 +1,16 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 랭킹 항목 (/api/posts/top)
+ * - score: 전체 랭킹은 조회수, 트렌딩은 시간 감쇠가 적용된 최근 조회수
+ */
+@Getter
+@AllArgsConstructor
+public class PostRanking {
+    private int rank;
+    private double score;
+    private PostSummary post;
+}
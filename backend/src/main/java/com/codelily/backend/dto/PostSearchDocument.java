@@ -0,0 +1,25 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색/자동완성 색인 원본 (PostMapper.findSearchDocuments)
+ * - tags: 쉼표로 이어 붙인 태그 이름
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostSearchDocument {
+    private Long id;
+    private String slug;
+    private String title;
+    private String content;
+    private String category;
+    private String tags;
+    private String status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,15 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 결과 항목 (/api/posts/search)
+ * - score: BM25 점수 (제목/카테고리/태그 일치에 가중치)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchHit {
+    private double score;
+    private PostSummary post;
+}
@@ -0,0 +1,17 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색어 자동완성 항목 (/api/posts/suggest)
+ * - type: POST(게시글 제목, postId/slug 포함) | TAG(태그 이름)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSuggestion {
+    private String type;
+    private String text;
+    private Long postId;
+    private String slug;
+}
@@ -0,0 +1,27 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 (본문 content 제외, PostMapper.findPostSummaries)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostSummary {
+    private Long id;
+    private String slug;
+    private String title;
+    private String thumbnailUrl;
+    private String category;
+    private String status;
+    private int views;
+    private int commentCount;
+    private Long authorId;
+    private String authorNickname;
+    private LocalDateTime createdAt;
+}
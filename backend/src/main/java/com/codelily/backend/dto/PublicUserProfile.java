@@ -0,0 +1,14 @@
+package com.codelily.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 사용자 프로필 응답 (/api/users/{id}, 이메일/권한 등 제외)
+ */
+public record PublicUserProfile(
+        Long id,
+        String nickname,
+        String avatarUrl,
+        LocalDateTime createdAt
+) {
+}
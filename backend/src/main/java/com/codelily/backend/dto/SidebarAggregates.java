@@ -0,0 +1,25 @@
+package com.codelily.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사이드바 집계 (/api/posts/sidebar, 게시 중인 글 기준)
+ * - tags: 게시글 수 내림차순 (태그 클라우드), categories: 게시글 수 내림차순, archives: 최근 월부터
+ */
+@Getter
+@AllArgsConstructor
+public class SidebarAggregates {
+    private List<Count> tags;
+    private List<Count> categories;
+    private List<Count> archives;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Count {
+        private String name;
+        private long posts;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codelily.backend.dto;
+
+import com.codelily.backend.domain.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 정보 응답 (/api/users/me, 프로필 수정 결과)
+ * - User 엔티티를 그대로 직렬화하지 않음 (passwordHash, refreshToken 제외)
+ * - UserRepository.findProfileById 생성자 표현식으로 필요한 컬럼만 조회
+ */
+public record UserProfile(
+        Long id,
+        String email,
+        String nickname,
+        String avatarUrl,
+        User.Role role,
+        String provider,
+        LocalDateTime createdAt
+) {
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getId(), user.getEmail(), user.getNickname(), user.getAvatarUrl(),
+                user.getRole(), user.getProvider(), user.getCreatedAt());
+    }
+}
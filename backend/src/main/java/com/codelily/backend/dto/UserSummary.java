@@ -0,0 +1,17 @@
+package com.codelily.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 작성자 표시용 사용자 요약 (UserMapper.findSummariesByIds)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserSummary {
+    private Long id;
+    private String nickname;
+    private String avatarUrl;
+}
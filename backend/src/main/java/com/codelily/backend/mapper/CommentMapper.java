@@ -0,0 +1,53 @@
+package com.codelily.backend.mapper;
+
+import com.codelily.backend.dto.CommentView;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface CommentMapper {
+
+    /**
+     * 댓글 스레드 페이지 (path 순서 keyset, idx_comments_post_path 범위 조회)
+     * - underPath: 이 댓글의 하위 답글만 (null이면 게시글 전체)
+     * - afterPath: 커서 (null이면 처음부터)
+     * - depth가 [minDepth, maxDepth]인 댓글만
+     */
+    List<CommentView> findThreadPage(
+            @Param("postId") Long postId,
+            @Param("underPath") String underPath,
+            @Param("afterPath") String afterPath,
+            @Param("minDepth") int minDepth,
+            @Param("maxDepth") int maxDepth,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 주어진 댓글 중 답글이 있는 댓글 id (깊이 제한으로 접힌 답글 표시용)
+     */
+    List<Long> findIdsWithReplies(@Param("postId") Long postId, @Param("ids") Collection<Long> ids);
+
+    Optional<CommentView> findById(@Param("id") Long id);
+
+    /**
+     * 댓글 추가 (실행 후 comment.id 채워짐, path/depth는 setPath로)
+     */
+    int insert(CommentView comment);
+
+    int setPath(@Param("id") Long id, @Param("path") String path, @Param("depth") int depth);
+
+    /**
+     * 삭제 표시 (이미 삭제된 댓글이면 0)
+     */
+    int markDeleted(@Param("id") Long id);
+
+    /**
+     * 게시글 댓글 수 증감 (updated_at 유지)
+     * - 증가는 게시 중인 글만: 0이면 게시글 없음/비공개
+     */
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+}
@@ -1,12 +1,104 @@
 package com.codelily.backend.mapper;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import com.codelily.backend.dto.PostAggregateRow;
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.dto.PostSearchDocument;
+import com.codelily.backend.dto.PostSummary;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface PostMapper {
-    List<Map<String, Object>> findTopPosts(@Param("limit") int limit);
-}
\ No newline at end of file
+    /**
+     * 게시글 목록 (created_at, id 내림차순 keyset 페이지네이션, content 제외)
+     * - cursorCreatedAt/cursorId가 null이면 첫 페이지
+     * - category가 null이면 전체 카테고리, authorId가 null이면 전체 작성자
+     */
+    List<PostSummary> findPostSummaries(
+            @Param("status") String status,
+            @Param("category") String category,
+            @Param("authorId") Long authorId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * id 목록으로 게시글 요약 조회 (상태 무관, id 내림차순 – 태그 필터 목록용)
+     */
+    List<PostSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * id 목록으로 게시 중인 게시글 요약 조회 (랭킹 응답 구성용, 순서 보장 없음)
+     */
+    List<PostSummary> findPublishedSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 랭킹 재구성용 (id, views) – id 순 keyset, 게시 중인 글만
+     */
+    List<PostSummary> findViewCounts(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * slug로 게시 중인 게시글 상세 조회 (작성자 닉네임 포함, PostDetailCache 미스 시에만 호출)
+     */
+    Optional<PostDetail> findPostDetailBySlug(@Param("slug") String slug);
+
+    /**
+     * 검색 색인 원본 (updated_at, id 오름차순 keyset, 상태 무관)
+     * - updatedSince가 null이면 전체
+     * - cursorUpdatedAt/cursorId가 null이면 첫 페이지
+     */
+    List<PostSearchDocument> findSearchDocuments(
+            @Param("updatedSince") LocalDateTime updatedSince,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 검색 색인 원본 단건 (게시글 변경 직후 재색인)
+     */
+    Optional<PostSearchDocument> findSearchDocument(@Param("id") Long id);
+
+    /**
+     * 자동완성 원본 (id, slug, title, tags – id 순 keyset, 게시 중인 글만, 본문 제외)
+     */
+    List<PostSearchDocument> findSuggestionSources(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 태그 비트맵 재구성용 (id, status, category, tags – id 순 keyset, 상태 무관, 본문 제외)
+     */
+    List<PostSearchDocument> findTagIndexRows(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 사이드바 집계 전체 (post_aggregates, 0건 제외)
+     */
+    List<PostAggregateRow> findPostAggregates();
+
+    /**
+     * 집계 보정 대상 (postCount: 실제 값, storedCount: 저장된 값 – 행이 없으면 null)
+     */
+    List<PostAggregateRow> findPostAggregateDrift();
+
+    int insertPostAggregate(@Param("kind") String kind, @Param("name") String name, @Param("count") long count);
+
+    /**
+     * 저장된 값이 expected일 때만 변경/삭제 (보정 중 트리거가 바꾼 행은 건너뜀)
+     */
+    int updatePostAggregate(@Param("kind") String kind, @Param("name") String name,
+                            @Param("expected") long expected, @Param("count") long count);
+
+    int deletePostAggregate(@Param("kind") String kind, @Param("name") String name, @Param("expected") long expected);
+
+    /**
+     * 조회수 일괄 증가 (PostViewCounter flush)
+     * - key: 게시글 id, value: 증가분
+     */
+    int incrementViews(@Param("deltas") Map<Long, Long> deltas);
+}
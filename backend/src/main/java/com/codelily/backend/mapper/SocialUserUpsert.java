@@ -0,0 +1,47 @@
+package com.codelily.backend.mapper;
+
+import lombok.*;
+
+/**
+ * 소셜 로그인 사용자 upsert 파라미터 (UserMapper.upsertSocialUser).
+ * 실행 후 id / role 이 채워집니다. id가 0이면 다른 계정과 닉네임/이메일이 동시에 충돌한 경우입니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SocialUserUpsert {
+
+    /** 로그인 제공자: kakao / google */
+    private String provider;
+
+    /** 제공자별 사용자 고유 ID */
+    private String providerId;
+
+    /** 이메일 (다른 계정이 사용 중이면 비워서 저장) */
+    private String email;
+
+    /** 희망 닉네임 */
+    private String nickname;
+
+    /** 닉네임 충돌 시 사용할 결정적 닉네임 (provider + providerId 기반) */
+    private String fallbackNickname;
+
+    /** 프로필 이미지 URL */
+    private String avatarUrl;
+
+    /** 이메일 인증 여부 */
+    private boolean emailVerified;
+
+    /** [결과] 사용자 PK */
+    private Long id;
+
+    /** [결과] 사용자 권한 */
+    private String role;
+
+    /** upsert 대상 행이 확인되었는지 */
+    public boolean isProvisioned() {
+        return id != null && id > 0;
+    }
+}
@@ -1,10 +1,14 @@
 package com.codelily.backend.mapper;
 
 import com.codelily.backend.domain.User;
+import com.codelily.backend.dto.UserSummary;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -15,6 +19,11 @@ public interface UserMapper {
      */
     Optional<User> findById(@Param("id") Long id);
 
+    /**
+     * id 목록으로 작성자 요약 일괄 조회 (댓글 작성자 표시용, IN 한 번)
+     */
+    List<UserSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 이메일로 사용자 조회
      */
@@ -57,4 +66,17 @@ public interface UserMapper {
             @Param("id") Long id,
             @Param("refreshToken") String refreshToken
     );
+
+    /**
+     * 소셜 로그인 사용자 생성/갱신 (INSERT ... ON DUPLICATE KEY UPDATE)
+     * - (provider, provider_id) 기준으로 없으면 생성, 있으면 last_login_at 등 갱신
+     * - 실행 후 upsert.id / upsert.role 채워짐
+     */
+    int upsertSocialUser(SocialUserUpsert upsert);
+
+    /**
+     * 마지막 로그인 시간 일괄 갱신 (UserActivityBuffer write-behind)
+     * - key: 사용자 id, value: 로그인 시각 (기존 값보다 이전이면 무시)
+     */
+    int updateLastLoginAt(@Param("logins") Map<Long, LocalDateTime> logins);
 }
@@ -1,7 +1,11 @@
 package com.codelily.backend.repository;
 
 import com.codelily.backend.domain.User;
+import com.codelily.backend.dto.PublicUserProfile;
+import com.codelily.backend.dto.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,4 +27,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 중복 닉네임 체크
     boolean existsByNickname(String nickname);
+
+    // 내 정보 (응답에 필요한 컬럼만, 엔티티 미생성)
+    @Query("select new com.codelily.backend.dto.UserProfile(u.id, u.email, u.nickname, u.avatarUrl, u.role, u.provider, u.createdAt)"
+            + " from User u where u.id = :id")
+    Optional<UserProfile> findProfileById(@Param("id") Long id);
+
+    // 공개 프로필
+    @Query("select new com.codelily.backend.dto.PublicUserProfile(u.id, u.nickname, u.avatarUrl, u.createdAt)"
+            + " from User u where u.id = :id")
+    Optional<PublicUserProfile> findPublicProfileById(@Param("id") Long id);
 }
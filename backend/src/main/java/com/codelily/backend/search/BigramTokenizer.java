@@ -0,0 +1,85 @@
+package com.codelily.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 검색용 토크나이저.
+ * - 한글/한자/가나 연속 구간은 겹치는 2글자(bigram)로 분리 (형태소 분석 없이 부분 일치 검색 가능)
+ *   예: "스프링부트" → 스프, 프링, 링부, 부트 / 한 글자 구간은 그대로
+ * - 영문/숫자 연속 구간은 단어 하나로 (소문자)
+ * - 그 밖의 문자는 구분자
+ * - 입력은 NFKC 정규화 (전각 영문, 호환 자모 등 통일)
+ */
+public final class BigramTokenizer {
+
+    static final int MAX_WORD_LENGTH = 40;
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    public static void forEachToken(String text, Consumer<String> sink) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        boolean runIsCjk = false;
+        int i = 0;
+        while (i <= normalized.length()) {
+            int cp = i < normalized.length() ? normalized.codePointAt(i) : -1;
+            int kind = cp < 0 ? 0 : kind(cp);
+            boolean cjk = kind == 2;
+            if (runStart >= 0 && (kind == 0 || cjk != runIsCjk)) {
+                emit(normalized, runStart, i, runIsCjk, sink);
+                runStart = -1;
+            }
+            if (kind != 0 && runStart < 0) {
+                runStart = i;
+                runIsCjk = cjk;
+            }
+            i += cp < 0 ? 1 : Character.charCount(cp);
+        }
+    }
+
+    private static void emit(String text, int start, int end, boolean cjk, Consumer<String> sink) {
+        if (!cjk) {
+            sink.accept(text.substring(start, Math.min(end, start + MAX_WORD_LENGTH)));
+            return;
+        }
+        int first = start;
+        int second = first + Character.charCount(text.codePointAt(first));
+        if (second >= end) {
+            sink.accept(text.substring(first, end));
+            return;
+        }
+        while (second < end) {
+            int next = second + Character.charCount(text.codePointAt(second));
+            sink.accept(text.substring(first, next));
+            first = second;
+            second = next;
+        }
+    }
+
+    /** 0: 구분자, 1: 영문/숫자 등, 2: CJK */
+    private static int kind(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        if (script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA) {
+            return Character.isLetter(cp) ? 2 : 0;
+        }
+        return Character.isLetterOrDigit(cp) ? 1 : 0;
+    }
+}
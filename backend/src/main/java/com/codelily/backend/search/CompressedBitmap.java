@@ -0,0 +1,279 @@
+package com.codelily.backend.search;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 압축 비트맵 (Roaring 방식, 0 이상 int 값).
+ * - 값의 상위 16비트로 구간을 나누고, 구간마다 원소 수에 따라 저장 방식을 고름
+ *   · 4096개 이하: 정렬된 char 배열 (원소당 2바이트)
+ *   · 그 이상: 65536비트 비트맵 (구간당 8KB 고정)
+ * - and/or/andNot은 새 비트맵을 반환 (원본 불변), add/remove는 제자리 변경
+ * - 스레드 안전하지 않음 (PostTagIndex가 잠금으로 보호)
+ */
+public final class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024; // 65536 / 64
+
+    private final TreeMap<Integer, Object> containers = new TreeMap<>(); // char[] (앞에 길이) 또는 long[]
+
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int value) {
+        checkValue(value);
+        int high = value >>> 16;
+        char low = (char) value;
+        Object container = containers.get(high);
+        if (container == null) {
+            containers.put(high, new char[]{1, low});
+        } else if (container instanceof long[] words) {
+            words[low >>> 6] |= 1L << low;
+        } else {
+            char[] array = (char[]) container;
+            int size = array[0];
+            int index = Arrays.binarySearch(array, 1, size + 1, low);
+            if (index >= 0) {
+                return;
+            }
+            int insert = -index - 1;
+            if (size + 1 > ARRAY_MAX) {
+                long[] words = toWords(array);
+                words[low >>> 6] |= 1L << low;
+                containers.put(high, words);
+                return;
+            }
+            char[] grown = size + 2 > array.length ? Arrays.copyOf(array, Math.min(ARRAY_MAX + 1, array.length * 2)) : array;
+            System.arraycopy(grown, insert, grown, insert + 1, size + 1 - insert);
+            grown[insert] = low;
+            grown[0] = (char) (size + 1);
+            if (grown != array) {
+                containers.put(high, grown);
+            }
+        }
+    }
+
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int high = value >>> 16;
+        char low = (char) value;
+        Object container = containers.get(high);
+        if (container == null) {
+            return;
+        }
+        if (container instanceof long[] words) {
+            words[low >>> 6] &= ~(1L << low);
+            putOptimized(containers, high, words);
+            return;
+        }
+        char[] array = (char[]) container;
+        int size = array[0];
+        int index = Arrays.binarySearch(array, 1, size + 1, low);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(array, index + 1, array, index, size - index);
+        array[0] = (char) (size - 1);
+        if (size == 1) {
+            containers.remove(high);
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        Object container = containers.get(value >>> 16);
+        char low = (char) value;
+        if (container == null) {
+            return false;
+        }
+        if (container instanceof long[] words) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        char[] array = (char[]) container;
+        return Arrays.binarySearch(array, 1, array[0] + 1, low) >= 0;
+    }
+
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (Object container : containers.values()) {
+            total += cardinality(container);
+        }
+        return total;
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Object> entry : containers.entrySet()) {
+            Object theirs = other.containers.get(entry.getKey());
+            if (theirs != null) {
+                long[] words = toWords(entry.getValue());
+                long[] otherWords = toWords(theirs);
+                for (int i = 0; i < WORDS; i++) {
+                    words[i] &= otherWords[i];
+                }
+                putOptimized(result.containers, entry.getKey(), words);
+            }
+        }
+        return result;
+    }
+
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = copy();
+        for (Map.Entry<Integer, Object> entry : other.containers.entrySet()) {
+            Object mine = result.containers.get(entry.getKey());
+            if (mine == null) {
+                result.containers.put(entry.getKey(), copyContainer(entry.getValue()));
+            } else {
+                long[] words = toWords(mine);
+                long[] otherWords = toWords(entry.getValue());
+                for (int i = 0; i < WORDS; i++) {
+                    words[i] |= otherWords[i];
+                }
+                putOptimized(result.containers, entry.getKey(), words);
+            }
+        }
+        return result;
+    }
+
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Integer, Object> entry : containers.entrySet()) {
+            Object theirs = other.containers.get(entry.getKey());
+            if (theirs == null) {
+                result.containers.put(entry.getKey(), copyContainer(entry.getValue()));
+            } else {
+                long[] words = toWords(entry.getValue());
+                long[] otherWords = toWords(theirs);
+                for (int i = 0; i < WORDS; i++) {
+                    words[i] &= ~otherWords[i];
+                }
+                putOptimized(result.containers, entry.getKey(), words);
+            }
+        }
+        return result;
+    }
+
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        containers.forEach((high, container) -> result.containers.put(high, copyContainer(container)));
+        return result;
+    }
+
+    /**
+     * upperExclusive보다 작은 값을 큰 것부터 최대 limit개 (최신 글부터 페이지 단위로 읽을 때)
+     */
+    public int[] descendingBelow(int upperExclusive, int limit) {
+        if (upperExclusive <= 0 || limit <= 0) {
+            return new int[0];
+        }
+        int max = Math.min(limit, cardinality());
+        int[] out = new int[max];
+        int count = 0;
+        int last = upperExclusive - 1;
+        for (Map.Entry<Integer, Object> entry : containers.headMap(last >>> 16, true).descendingMap().entrySet()) {
+            int base = entry.getKey() << 16;
+            int maxLow = entry.getKey() == (last >>> 16) ? (last & 0xFFFF) : 0xFFFF;
+            Object container = entry.getValue();
+            if (container instanceof long[] words) {
+                for (int w = maxLow >>> 6; w >= 0 && count < max; w--) {
+                    long word = words[w];
+                    if (w == maxLow >>> 6 && (maxLow & 63) != 63) {
+                        word &= (1L << ((maxLow & 63) + 1)) - 1;
+                    }
+                    while (word != 0 && count < max) {
+                        int bit = 63 - Long.numberOfLeadingZeros(word);
+                        out[count++] = base | (w << 6) | bit;
+                        word &= ~(1L << bit);
+                    }
+                }
+            } else {
+                char[] array = (char[]) container;
+                for (int i = array[0]; i >= 1 && count < max; i--) {
+                    if (array[i] <= maxLow) {
+                        out[count++] = base | array[i];
+                    }
+                }
+            }
+            if (count == max) {
+                break;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private static int cardinality(Object container) {
+        if (container instanceof long[] words) {
+            int total = 0;
+            for (long word : words) {
+                total += Long.bitCount(word);
+            }
+            return total;
+        }
+        return ((char[]) container)[0];
+    }
+
+    /** 원소 수에 맞는 저장 방식으로 넣음 (비면 제거) */
+    private static void putOptimized(TreeMap<Integer, Object> target, int high, long[] words) {
+        int cardinality = cardinality(words);
+        if (cardinality == 0) {
+            target.remove(high);
+        } else if (cardinality <= ARRAY_MAX) {
+            char[] array = new char[cardinality + 1];
+            array[0] = (char) cardinality;
+            int index = 1;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    array[index++] = (char) ((w << 6) | bit);
+                    word &= word - 1;
+                }
+            }
+            target.put(high, array);
+        } else {
+            target.put(high, words);
+        }
+    }
+
+    /** 항상 새 배열 반환 (원본 보호) */
+    private static long[] toWords(Object container) {
+        if (container instanceof long[] words) {
+            return words.clone();
+        }
+        char[] array = (char[]) container;
+        long[] words = new long[WORDS];
+        for (int i = 1; i <= array[0]; i++) {
+            words[array[i] >>> 6] |= 1L << array[i];
+        }
+        return words;
+    }
+
+    private static Object copyContainer(Object container) {
+        if (container instanceof long[] words) {
+            return words.clone();
+        }
+        char[] array = (char[]) container;
+        return Arrays.copyOf(array, array[0] + 1);
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("0 이상의 값만 저장할 수 있습니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.codelily.backend.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 자동완성용 키 정규화.
+ * - 한글 음절을 호환 자모로 분해하고 겹받침/이중모음도 입력 순서대로 풀어 씀
+ *   예: "닭" → ㄷㅏㄹㄱ, "과" → ㄱㅗㅏ  (입력 중인 "달ㄱ", "고ㅏ"와 같은 키가 됨)
+ * - 영문 소문자, NFKC 정규화, 문자/숫자 외에는 공백 하나로 통일
+ */
+public final class HangulJamo {
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < normalized.length(); ) {
+            int cp = normalized.codePointAt(i);
+            i += Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            appendDecomposed(sb, cp);
+        }
+        return sb.toString();
+    }
+
+    private static void appendDecomposed(StringBuilder sb, int cp) {
+        if (cp >= SYLLABLE_BASE && cp <= SYLLABLE_END) {
+            int index = cp - SYLLABLE_BASE;
+            sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+            sb.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+            sb.append(JONG[index % JONG_COUNT]);
+            return;
+        }
+        // NFKC는 단독 호환 자모(ㄱ, ㄳ, ㅘ)를 조합형 자모(U+1100~)로 바꾸므로 다시 호환 자모로 (겹자모는 풀어 씀)
+        if (cp >= 0x1100 && cp <= 0x1112) {
+            sb.append(CHO.charAt(cp - 0x1100));
+            return;
+        }
+        if (cp >= 0x1161 && cp <= 0x1175) {
+            sb.append(JUNG[cp - 0x1161]);
+            return;
+        }
+        if (cp >= 0x11A8 && cp <= 0x11C2) {
+            sb.append(JONG[cp - 0x11A8 + 1]);
+            return;
+        }
+        sb.appendCodePoint(cp);
+    }
+}
@@ -0,0 +1,342 @@
+package com.codelily.backend.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 전문 검색용 메모리 역색인 (BM25 랭킹).
+ * - 필드별 가중치를 빈도에 곱해 하나의 색인으로 관리 (제목 3, 카테고리/태그 2, 본문 1)
+ * - 문서 수정은 새 docId로 추가하고 이전 docId는 삭제 표시 → posting list는 항상 뒤에만 추가
+ * - 삭제 표시가 일정 비율을 넘으면 docId를 다시 매겨 압축 (compact)
+ * - 검색은 모든 단어를 포함한 문서 우선, 없으면 일부라도 포함한 문서
+ * - 읽기/쓰기 잠금: 검색은 동시에, 색인 변경은 한 번에 하나씩
+ */
+public class InvertedIndex {
+
+    public enum Field {
+        TITLE(3), CONTENT(1), CATEGORY(2), TAGS(2);
+
+        final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Hit(long postId, double score) {
+    }
+
+    private static final int SNAPSHOT_MAGIC = 0x43_4C_49_58; // "CLIX"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    // BM25 파라미터 (일반적인 기본값)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final double COMPACT_RATIO = 0.25;
+    private static final int COMPACT_MIN_DELETED = 1_000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByPost = new HashMap<>();
+    private long[] postIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int maxDoc;
+    private long liveLength;
+
+    /** 게시글 추가 또는 교체 */
+    public void upsert(long postId, Map<Field, String> fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (Map.Entry<Field, String> field : fields.entrySet()) {
+            int weight = field.getKey().weight;
+            List<String> tokens = BigramTokenizer.tokenize(field.getValue());
+            for (String token : tokens) {
+                frequencies.merge(token, weight, Integer::sum);
+            }
+            length += tokens.size() * weight;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int docId = maxDoc++;
+            ensureDocCapacity(docId + 1);
+            postIds[docId] = postId;
+            lengths[docId] = length;
+            liveLength += length;
+            docIdByPost.put(postId, docId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(docId, frequency));
+            maybeCompactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            maybeCompactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long postId) {
+        lock.readLock().lock();
+        try {
+            return docIdByPost.containsKey(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 게시글 id (정합성 점검용 복사본) */
+    public Set<Long> postIds() {
+        lock.readLock().lock();
+        try {
+            return new LinkedHashSet<>(docIdByPost.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByPost.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 점수 내림차순 상위 limit건 */
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int live = docIdByPost.size();
+            if (live == 0) {
+                return List.of();
+            }
+            double avgLength = Math.max(1.0, (double) liveLength / live);
+
+            float[] scores = new float[maxDoc];
+            byte[] matched = new byte[maxDoc];
+            int termCount = Math.min(terms.size(), Byte.MAX_VALUE);
+            for (int t = 0; t < termCount; t++) {
+                PostingList list = postings.get(terms.get(t));
+                if (list == null) {
+                    continue;
+                }
+                int df = Math.min(list.docFreq(), live);
+                double idf = Math.log(1 + (live - df + 0.5) / (df + 0.5));
+                list.forEach((docId, frequency) -> {
+                    if (deleted.get(docId)) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * lengths[docId] / avgLength);
+                    scores[docId] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                    matched[docId]++;
+                });
+            }
+
+            List<Hit> hits = top(scores, matched, termCount, limit);
+            return hits.isEmpty() && termCount > 1 ? top(scores, matched, 1, limit) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 삭제 표시된 문서를 제거하고 docId를 다시 매김 */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (압축 후 기록)
+     * 형식: magic, version, 문서 수, (postId, 길이)*, 단어 수, (단어, df, 마지막 docId, 바이트 길이, posting 바이트)*
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(SNAPSHOT_MAGIC);
+            data.writeInt(SNAPSHOT_VERSION);
+            data.writeInt(maxDoc);
+            for (int docId = 0; docId < maxDoc; docId++) {
+                data.writeLong(postIds[docId]);
+                data.writeInt(lengths[docId]);
+            }
+            data.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                PostingList list = entry.getValue();
+                data.writeUTF(entry.getKey());
+                data.writeInt(list.docFreq());
+                data.writeInt(list.lastDocId());
+                data.writeInt(list.sizeInBytes());
+                data.write(list.toByteArray());
+            }
+            data.flush();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != SNAPSHOT_MAGIC || data.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 스냅샷입니다.");
+        }
+        InvertedIndex index = new InvertedIndex();
+        int docs = data.readInt();
+        index.ensureDocCapacity(docs);
+        for (int docId = 0; docId < docs; docId++) {
+            long postId = data.readLong();
+            int length = data.readInt();
+            index.postIds[docId] = postId;
+            index.lengths[docId] = length;
+            index.liveLength += length;
+            index.docIdByPost.put(postId, docId);
+        }
+        index.maxDoc = docs;
+        int terms = data.readInt();
+        for (int i = 0; i < terms; i++) {
+            String term = data.readUTF();
+            int docFreq = data.readInt();
+            int lastDocId = data.readInt();
+            byte[] bytes = new byte[data.readInt()];
+            data.readFully(bytes);
+            index.postings.put(term, new PostingList(bytes, docFreq, lastDocId));
+        }
+        return index;
+    }
+
+    private List<Hit> top(float[] scores, byte[] matched, int minMatched, int limit) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1,
+                Comparator.<Integer>comparingDouble(docId -> scores[docId]).thenComparing(docId -> -docId));
+        for (int docId = 0; docId < maxDoc; docId++) {
+            if (matched[docId] < minMatched) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(docId);
+            } else if (scores[docId] > scores[heap.peek()]) {
+                heap.poll();
+                heap.add(docId);
+            }
+        }
+        Hit[] hits = new Hit[heap.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int docId = heap.poll();
+            hits[i] = new Hit(postIds[docId], scores[docId]);
+        }
+        return Arrays.asList(hits);
+    }
+
+    private void removeLocked(long postId) {
+        Integer docId = docIdByPost.remove(postId);
+        if (docId != null) {
+            deleted.set(docId);
+            liveLength -= lengths[docId];
+        }
+    }
+
+    private void maybeCompactLocked() {
+        int deletedCount = maxDoc - docIdByPost.size();
+        if (deletedCount >= COMPACT_MIN_DELETED && deletedCount > maxDoc * COMPACT_RATIO) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int docId = 0; docId < maxDoc; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+            } else {
+                remap[docId] = next;
+                postIds[next] = postIds[docId];
+                lengths[next] = lengths[docId];
+                docIdByPost.put(postIds[next], next);
+                next++;
+            }
+        }
+
+        Map<String, PostingList> rebuilt = new HashMap<>(postings.size());
+        postings.forEach((term, list) -> {
+            PostingList copy = new PostingList();
+            list.forEach((docId, frequency) -> {
+                if (remap[docId] >= 0) {
+                    copy.add(remap[docId], frequency);
+                }
+            });
+            if (copy.docFreq() > 0) {
+                rebuilt.put(term, new PostingList(copy.toByteArray(), copy.docFreq(), copy.lastDocId()));
+            }
+        });
+        postings.clear();
+        postings.putAll(rebuilt);
+
+        maxDoc = next;
+        deleted.clear();
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > postIds.length) {
+            int newLength = Math.max(postIds.length * 2, capacity);
+            postIds = Arrays.copyOf(postIds, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+        }
+    }
+
+    /** 필드 값 묶음 생성 (null 필드는 제외) */
+    public static Map<Field, String> fields(String title, String content, String category, String tags) {
+        Map<Field, String> fields = new EnumMap<>(Field.class);
+        putIfPresent(fields, Field.TITLE, title);
+        putIfPresent(fields, Field.CONTENT, content);
+        putIfPresent(fields, Field.CATEGORY, category);
+        putIfPresent(fields, Field.TAGS, tags);
+        return fields;
+    }
+
+    private static void putIfPresent(Map<Field, String> fields, Field field, String value) {
+        if (value != null && !value.isEmpty()) {
+            fields.put(field, value);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.codelily.backend.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 단어의 문서 목록 (docId 오름차순, append-only).
+ * - (docId 차이, 가중 빈도)를 가변 길이 정수(varint)로 압축 저장 → 대부분 항목이 2바이트
+ * - 수정/삭제는 InvertedIndex가 새 docId 추가 + 이전 docId 삭제 표시로 처리
+ */
+final class PostingList {
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int docId, int frequency);
+    }
+
+    private byte[] bytes;
+    private int size;
+    private int docFreq;
+    private int lastDocId = -1;
+
+    PostingList() {
+        this.bytes = new byte[8];
+    }
+
+    PostingList(byte[] bytes, int docFreq, int lastDocId) {
+        this.bytes = bytes;
+        this.size = bytes.length;
+        this.docFreq = docFreq;
+        this.lastDocId = lastDocId;
+    }
+
+    void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId는 증가해야 합니다: " + docId + " <= " + lastDocId);
+        }
+        ensureCapacity(10);
+        writeVarInt(docId - lastDocId);
+        writeVarInt(frequency);
+        lastDocId = docId;
+        docFreq++;
+    }
+
+    void forEach(Visitor visitor) {
+        int pos = 0;
+        int docId = -1;
+        byte[] data = bytes;
+        int end = size;
+        while (pos < end) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = data[pos++];
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            docId += delta;
+            visitor.visit(docId, frequency);
+        }
+    }
+
+    /** 삭제 표시된 문서를 포함한 문서 수 (압축 전까지는 실제보다 클 수 있음) */
+    int docFreq() {
+        return docFreq;
+    }
+
+    int lastDocId() {
+        return lastDocId;
+    }
+
+    /** 스냅샷 저장용 (여유 공간 제외) */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    int sizeInBytes() {
+        return size;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.codelily.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 접두사 자동완성 색인 (불변, 다시 만들어 교체).
+ * - 키(HangulJamo.normalize 결과)를 정렬해 char 배열 하나에 이어 붙여 저장 → 객체 수가 키 수와 무관
+ * - 접두사 검색: 이분 탐색으로 해당 키 구간을 찾고, 구간 최댓값 세그먼트 트리로 점수 상위 항목만 꺼냄
+ *   (구간 크기와 무관하게 O(limit · log n))
+ * - 한 항목이 여러 키(단어 시작 위치별)를 가질 수 있으며 결과에서는 한 번만 반환
+ */
+public final class SuggestionIndex<T> {
+
+    private final char[] chars;
+    private final int[] offsets;   // 키 i = chars[offsets[i], offsets[i + 1])
+    private final int[] entryOf;   // 키 i의 항목 번호
+    private final List<T> payloads;
+    private final double[] scores; // 항목별 점수
+    private final int[] tree;      // 키 구간 최댓값(점수 기준) 세그먼트 트리, 잎은 tree[n + i]
+    private final int n;
+
+    private SuggestionIndex(char[] chars, int[] offsets, int[] entryOf, List<T> payloads, double[] scores) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.entryOf = entryOf;
+        this.payloads = payloads;
+        this.scores = scores;
+        this.n = entryOf.length;
+        this.tree = new int[Math.max(2 * n, 2)];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static <T> SuggestionIndex<T> empty() {
+        return new Builder<T>().build();
+    }
+
+    /** 항목 수 */
+    public int size() {
+        return payloads.size();
+    }
+
+    /** 키 수 */
+    public int keyCount() {
+        return n;
+    }
+
+    /**
+     * normalizedPrefix로 시작하는 키를 가진 항목 중 점수 상위 limit건
+     */
+    public List<T> suggest(String normalizedPrefix, int limit) {
+        if (normalizedPrefix.isEmpty() || limit <= 0 || n == 0) {
+            return List.of();
+        }
+        // 접두사로 시작하는 키는 정렬 순서상 연속 구간 [lo, hi)
+        int lo = lowerBound(normalizedPrefix);
+        int hi = lowerBound(normalizedPrefix + Character.MAX_VALUE);
+        if (lo >= hi) {
+            return List.of();
+        }
+
+        List<T> results = new ArrayList<>(limit);
+        Set<Integer> seen = new HashSet<>();
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compare(a[2], b[2]));
+        ranges.add(new int[]{lo, hi, argmax(lo, hi)});
+        while (!ranges.isEmpty() && results.size() < limit) {
+            int[] range = ranges.poll();
+            int key = range[2];
+            int entry = entryOf[key];
+            if (seen.add(entry)) {
+                results.add(payloads.get(entry));
+            }
+            if (range[0] < key) {
+                ranges.add(new int[]{range[0], key, argmax(range[0], key)});
+            }
+            if (key + 1 < range[1]) {
+                ranges.add(new int[]{key + 1, range[1], argmax(key + 1, range[1])});
+            }
+        }
+        return results;
+    }
+
+    /** [from, to) 구간에서 점수가 가장 높은 키 */
+    private int argmax(int from, int to) {
+        int best = -1;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = best < 0 ? tree[l] : better(best, tree[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                --r;
+                best = best < 0 ? tree[r] : better(best, tree[r]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        return compare(a, b) <= 0 ? a : b;
+    }
+
+    /** 점수 내림차순, 같으면 키 순서 */
+    private int compare(int keyA, int keyB) {
+        int byScore = Double.compare(scores[entryOf[keyB]], scores[entryOf[keyA]]);
+        return byScore != 0 ? byScore : Integer.compare(keyA, keyB);
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareKey(mid, prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int compareKey(int key, String other) {
+        int start = offsets[key];
+        int length = offsets[key + 1] - start;
+        int common = Math.min(length, other.length());
+        for (int i = 0; i < common; i++) {
+            int diff = chars[start + i] - other.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - other.length();
+    }
+
+    public static final class Builder<T> {
+
+        private final List<T> payloads = new ArrayList<>();
+        private final List<Double> scores = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Integer> keyEntries = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /** keys: 정규화된 키 (빈 키는 무시) */
+        public Builder<T> add(T payload, double score, Collection<String> normalizedKeys) {
+            int entry = payloads.size();
+            payloads.add(payload);
+            scores.add(score);
+            for (String key : new HashSet<>(normalizedKeys)) {
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                    keyEntries.add(entry);
+                }
+            }
+            return this;
+        }
+
+        public SuggestionIndex<T> build() {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> keys.get(a).compareTo(keys.get(b)));
+
+            int totalChars = 0;
+            for (String key : keys) {
+                totalChars += key.length();
+            }
+            char[] chars = new char[totalChars];
+            int[] offsets = new int[order.length + 1];
+            int[] entryOf = new int[order.length];
+            int position = 0;
+            for (int i = 0; i < order.length; i++) {
+                String key = keys.get(order[i]);
+                key.getChars(0, key.length(), chars, position);
+                offsets[i] = position;
+                position += key.length();
+                entryOf[i] = keyEntries.get(order[i]);
+            }
+            offsets[order.length] = position;
+
+            double[] scoreArray = new double[scores.size()];
+            for (int i = 0; i < scoreArray.length; i++) {
+                scoreArray[i] = scores.get(i);
+            }
+            return new SuggestionIndex<>(chars, offsets, entryOf, List.copyOf(payloads), scoreArray);
+        }
+    }
+}
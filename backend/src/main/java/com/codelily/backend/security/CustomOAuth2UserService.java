@@ -1,7 +1,9 @@
 package com.codelily.backend.security;
 
-import com.codelily.backend.domain.User;
-import com.codelily.backend.repository.UserRepository;
+import com.codelily.backend.mapper.SocialUserUpsert;
+import com.codelily.backend.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.*;
@@ -15,14 +17,19 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
-    private final UserRepository userRepository;
+    // 닉네임 컬럼 길이 (users.nickname VARCHAR(50))
+    private static final int NICKNAME_MAX_LENGTH = 50;
+    private static final int NICKNAME_SUFFIX_LENGTH = 8; // 16진수 해시 길이
+
+    private final UserMapper userMapper;
+    private final DefaultOAuth2UserService oauth2UserInfoClient; // 커넥션 풀 공유 (OAuth2ClientConfig)
+    private final MeterRegistry meterRegistry;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest req) throws OAuth2AuthenticationException {
-        OAuth2UserService<OAuth2UserRequest, OAuth2User> delegate = new DefaultOAuth2UserService();
-        OAuth2User oAuth2User = delegate.loadUser(req);
-
         String registrationId = req.getClientRegistration().getRegistrationId(); // google | kakao
+        OAuth2User oAuth2User = fetchUserInfo(registrationId, req);
+
         Map<String, Object> attributes = oAuth2User.getAttributes();
 
         // 표준화된 유저 정보 추출
@@ -33,34 +40,78 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                     "지원하지 않는 OAuth2 제공자: " + registrationId);
         };
 
-        // 사용자 조회/생성
-        User user = userRepository.findByProviderAndProviderId(info.provider(), info.providerId())
-                .orElseGet(() -> userRepository.save(User.builder()
-                        .email(info.email().orElse(null))
-                        .passwordHash(null)
-                        .nickname(info.nickname())
-                        .avatarUrl(info.avatarUrl().orElse(null))
-                        .role(User.Role.USER)
-                        .provider(info.provider())
-                        .providerId(info.providerId())
-                        .emailVerified(info.emailVerified().orElse(false))
-                        .build()));
+        // 사용자 생성/갱신 (단일 upsert, last_login_at 포함)
+        SocialUserUpsert user = provision(info);
 
         // 권한 & OAuth2User 반환 (attributes에 우리 User id도 포함)
         Map<String, Object> merged = new HashMap<>(attributes);
         merged.put("userId", user.getId());
         return new DefaultOAuth2User(
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())),
                 merged,
-                "sub" // 기본 nameAttributeKey (google openid) – kakao는 id지만, 실제 사용은 attributes에서 userId 사용
+                // 제공자 설정의 user-name-attribute (google: sub, kakao: id) – 실제 사용은 attributes의 userId
+                req.getClientRegistration().getProviderDetails().getUserInfoEndpoint().getUserNameAttributeName()
         );
     }
 
+    private SocialUserUpsert provision(OAuth2UserInfo info) {
+        SocialUserUpsert upsert = SocialUserUpsert.builder()
+                .provider(info.provider())
+                .providerId(info.providerId())
+                .email(info.email().orElse(null))
+                .nickname(truncate(info.nickname(), NICKNAME_MAX_LENGTH))
+                .fallbackNickname(fallbackNickname(info.provider(), info.providerId(), info.nickname()))
+                .avatarUrl(info.avatarUrl().orElse(null))
+                .emailVerified(info.emailVerified().orElse(false))
+                .build();
+        userMapper.upsertSocialUser(upsert);
+
+        if (!upsert.isProvisioned()) {
+            // 다른 계정이 같은 닉네임/이메일로 동시에 가입한 경우: 결정적 닉네임 + 이메일 없이 한 번만 다시 실행
+            upsert.setNickname(upsert.getFallbackNickname());
+            upsert.setEmail(null);
+            userMapper.upsertSocialUser(upsert);
+        }
+        if (!upsert.isProvisioned()) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("user_provisioning_failed"),
+                    "소셜 로그인 사용자 생성 실패: " + info.provider());
+        }
+        return upsert;
+    }
+
+    /** 닉네임 충돌 시 사용할 닉네임: "닉네임#" + provider/providerId 해시 8자리 (항상 같은 값) */
+    static String fallbackNickname(String provider, String providerId, String nickname) {
+        String suffix = String.format("%08x", (provider + ":" + providerId).hashCode());
+        return truncate(nickname, NICKNAME_MAX_LENGTH - NICKNAME_SUFFIX_LENGTH - 1) + "#" + suffix;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    // 제공자별 사용자 정보 API 지연/오류 측정
+    private OAuth2User fetchUserInfo(String registrationId, OAuth2UserRequest req) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return oauth2UserInfoClient.loadUser(req);
+        } catch (RuntimeException e) {
+            outcome = e instanceof OAuth2AuthenticationException ? "oauth2_error" : "io_error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("oauth2.userinfo.requests")
+                    .description("소셜 로그인 사용자 정보 API 호출")
+                    .tag("provider", registrationId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
     // --- Provider 별 속성 파서 ---
 
-    private OAuth2UserInfo extractGoogle(Map<String, Object> attr) {
+    static OAuth2UserInfo extractGoogle(Map<String, Object> attr) {
         String sub = (String) attr.get("sub");
-        String name = (String) attr.getOrDefault("name", "GoogleUser");
+        String name = nicknameOrDefault(attr.get("name"), "GoogleUser");
         String picture = (String) attr.get("picture");
         String email = (String) attr.get("email");
         Boolean emailVerified = (Boolean) attr.getOrDefault("email_verified", false);
@@ -69,13 +120,13 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     }
 
     @SuppressWarnings("unchecked")
-    private OAuth2UserInfo extractKakao(Map<String, Object> attr) {
+    static OAuth2UserInfo extractKakao(Map<String, Object> attr) {
         String id = String.valueOf(attr.get("id"));
 
         Map<String, Object> kakaoAccount = (Map<String, Object>) attr.getOrDefault("kakao_account", Map.of());
         Map<String, Object> profile = (Map<String, Object>) kakaoAccount.getOrDefault("profile", Map.of());
 
-        String nickname = (String) profile.getOrDefault("nickname", "KakaoUser");
+        String nickname = nicknameOrDefault(profile.get("nickname"), "KakaoUser");
         String profileImage = (String) profile.get("profile_image_url");
         String email = (String) kakaoAccount.get("email");
         Boolean emailVerified = (Boolean) kakaoAccount.getOrDefault("is_email_verified", false);
@@ -83,8 +134,13 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         return new OAuth2UserInfo("kakao", id, nickname, Optional.ofNullable(email), Optional.ofNullable(profileImage), Optional.of(emailVerified));
     }
 
+    /** 닉네임 동의를 받지 못했거나 값이 null/공백이면 제공자 기본 닉네임 */
+    private static String nicknameOrDefault(Object nickname, String defaultNickname) {
+        return nickname instanceof String value && !value.isBlank() ? value.strip() : defaultNickname;
+    }
+
     // 표준화 DTO (record)
-    private record OAuth2UserInfo(
+    record OAuth2UserInfo(
             String provider,
             String providerId,
             String nickname,
@@ -1,5 +1,6 @@
 ﻿package com.codelily.backend.service;
 
+import com.codelily.backend.config.JwtClaims;
 import com.codelily.backend.config.JwtTokenProvider;
 import com.codelily.backend.domain.User;
 import com.codelily.backend.dto.LoginRequest;
@@ -8,11 +9,12 @@ import com.codelily.backend.repository.UserRepository;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Date;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -21,51 +23,54 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
+    private final UserActivityBuffer userActivityBuffer;
 
     private static final Duration REFRESH_TTL = Duration.ofDays(7);
 
+    /** 로그인 결과 (응답 본문 + 쿠키로 내려줄 RefreshToken) */
+    public record LoginResult(LoginResponse response, String refreshToken) {}
+
     /**
      * 일반 로그인 (JWT 발급)
+     * - 비밀번호 검증(bcrypt)은 전용 풀에서 실행 → 요청 스레드를 점유하지 않음
      * - AccessToken은 JSON으로 반환
-     * - RefreshToken은 HttpOnly 쿠키에 저장
+     * - RefreshToken은 결과로만 돌려줌 (쿠키는 컨트롤러가 응답에 설정 – 검증 풀 스레드에서 응답 객체를 건드리지 않음)
      */
-    public LoginResponse login(LoginRequest request, HttpServletResponse response) {
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다."));
-
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-            throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
-        }
-
-        // Access / Refresh 토큰 발급
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRole().name());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
-
-        // Redis에 RefreshToken 저장
-        refreshTokenService.storeRefresh(user.getId(), refreshToken, REFRESH_TTL);
-
-        // RefreshToken 쿠키 설정
-        attachRefreshCookie(response, refreshToken);
-
-        return new LoginResponse(accessToken, user.getNickname(), user.getRole().name());
+    public CompletableFuture<LoginResult> login(LoginRequest request) {
+        Optional<User> found = userRepository.findByEmail(request.getEmail());
+
+        // 계정이 없어도 더미 해시로 같은 비용을 들여 검증
+        String passwordHash = found.map(User::getPasswordHash).orElse(null);
+        return passwordVerifier.matches(request.getPassword(), passwordHash).thenApply(matched -> {
+            if (!matched || found.isEmpty()) {
+                throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다.");
+            }
+            User user = found.get();
+
+            // Access / Refresh 토큰 발급
+            String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRole().name());
+            String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+
+            // Redis에 RefreshToken 저장
+            refreshTokenService.storeRefresh(user.getId(), refreshToken, REFRESH_TTL);
+
+            // 마지막 로그인 시간은 버퍼에 기록 후 일괄 반영
+            userActivityBuffer.recordLogin(user.getId());
+
+            return new LoginResult(new LoginResponse(accessToken, user.getNickname(), user.getRole().name()),
+                    refreshToken);
+        });
     }
 
     /**
      * Refresh 토큰을 이용한 Access 토큰 재발급 (회전 전략 적용)
      */
     public LoginResponse refreshToken(String refreshToken, HttpServletResponse response) {
-        if (refreshToken == null || !jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Refresh 토큰이 유효하지 않습니다.");
-        }
-
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        String storedRefresh = refreshTokenService.getRefresh(userId);
+        JwtClaims claims = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("Refresh 토큰이 유효하지 않습니다."));
 
-        // Redis에 저장된 Refresh 토큰과 다르면 회전 공격 방지 → 재발급 거부
-        if (storedRefresh == null || !storedRefresh.equals(refreshToken)) {
-            throw new IllegalArgumentException("Refresh 토큰이 만료되었거나 무효화되었습니다.");
-        }
+        Long userId = claims.userId();
 
         // 새로운 Access / Refresh 토큰 발급
         User user = userRepository.findById(userId)
@@ -74,11 +79,15 @@ public class AuthService {
         String newAccessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getRole().name());
         String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getId());
 
-        // Redis에 새 Refresh 토큰 저장 (회전)
-        refreshTokenService.storeRefresh(user.getId(), newRefreshToken, REFRESH_TTL);
+        // Redis에 저장된 Refresh 토큰과 같을 때만 새 토큰으로 원자적 교체 (회전)
+        // 다르면 이미 사용/무효화된 토큰 → 회전 공격 방지 위해 재발급 거부
+        if (!refreshTokenService.rotateRefresh(user.getId(), refreshToken, newRefreshToken, REFRESH_TTL)) {
+            throw new IllegalArgumentException("Refresh 토큰이 만료되었거나 무효화되었습니다.");
+        }
 
         // 쿠키 갱신
         attachRefreshCookie(response, newRefreshToken);
+        userActivityBuffer.recordLogin(user.getId());
 
         return new LoginResponse(newAccessToken, user.getNickname(), user.getRole().name());
     }
@@ -90,32 +99,34 @@ public class AuthService {
      */
     public void logout(String refreshToken, String accessToken) {
         // Redis에서 Refresh 토큰 제거
-        if (refreshToken != null && jwtTokenProvider.validateToken(refreshToken)) {
-            Long userId = jwtTokenProvider.getUserId(refreshToken);
-            refreshTokenService.revokeRefresh(userId);
-        }
+        jwtTokenProvider.verify(refreshToken)
+                .ifPresent(claims -> refreshTokenService.revokeRefresh(claims.userId()));
 
         // Access 토큰을 블랙리스트에 등록
-        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-            Date exp = jwtTokenProvider.getExpiration(accessToken);
-            long ttl = Math.max(1, (exp.getTime() - System.currentTimeMillis()) / 1000);
-            String jti = jwtTokenProvider.getJti(accessToken);
-            refreshTokenService.blacklist(jti != null ? jti : accessToken, Duration.ofSeconds(ttl));
-        }
+        jwtTokenProvider.verify(accessToken).ifPresent(claims -> {
+            String jti = claims.jti();
+            refreshTokenService.blacklist(jti != null ? jti : accessToken, claims.remaining(Instant.now()));
+        });
     }
 
     /**
-     * RefreshToken을 HttpOnly 쿠키에 저장
+     * RefreshToken HttpOnly 쿠키
      */
-    private void attachRefreshCookie(HttpServletResponse response, String refreshToken) {
-        ResponseCookie cookie = ResponseCookie.from("refreshToken", refreshToken)
+    public ResponseCookie refreshCookie(String refreshToken) {
+        return ResponseCookie.from("refreshToken", refreshToken)
                 .httpOnly(true)
                 .secure(false) // HTTPS 환경에서는 true로 설정
                 .sameSite("Lax")
                 .path("/")
                 .maxAge(REFRESH_TTL)
                 .build();
-        response.addHeader("Set-Cookie", cookie.toString());
+    }
+
+    /**
+     * RefreshToken을 HttpOnly 쿠키에 저장
+     */
+    private void attachRefreshCookie(HttpServletResponse response, String refreshToken) {
+        response.addHeader("Set-Cookie", refreshCookie(refreshToken).toString());
     }
 
     /**
@@ -0,0 +1,208 @@
+package com.codelily.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access 토큰 블랙리스트의 로컬 사전 필터.
+ * - 시간 버킷 Bloom 필터로 "확실히 블랙리스트가 아님"을 JVM 안에서 판정합니다.
+ * - blacklist() 시 Redis pub/sub으로 모든 노드에 전파하고, 주기적으로 Redis(bl:*)와 재동기화합니다.
+ * - 첫 동기화 전이나 동기화 실패 시에는 항상 Redis로 확인합니다 (false negative 방지).
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache implements MessageListener {
+
+    static final String CHANNEL = "bl:events";
+    private static final String KEY_PATTERN = "bl:*";
+    private static final int RESYNC_BATCH = 500;
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final long bucketMillis;
+    private final int bitsPerBucket;
+    private final int hashFunctions;
+
+    private volatile TimeBucketedBloomFilter filter;
+    private volatile TimeBucketedBloomFilter rebuilding;
+    private volatile boolean synced = false;
+
+    private final Counter negativeLookups;
+    private final Counter maybeLookups;
+    private final Counter falsePositives;
+    private final Counter bypassedLookups;
+
+    public BlacklistNearCache(StringRedisTemplate redis,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.blacklist.filter.bucket-millis:300000}") long bucketMillis,
+                              @Value("${auth.blacklist.filter.bits-per-bucket:65536}") int bitsPerBucket,
+                              @Value("${auth.blacklist.filter.hash-functions:4}") int hashFunctions) {
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.bucketMillis = bucketMillis;
+        this.bitsPerBucket = bitsPerBucket;
+        this.hashFunctions = hashFunctions;
+        this.filter = newFilter();
+
+        this.negativeLookups = Counter.builder("auth.blacklist.filter.lookups")
+                .tag("result", "negative").description("로컬 필터에서 바로 판정된 조회").register(meterRegistry);
+        this.maybeLookups = Counter.builder("auth.blacklist.filter.lookups")
+                .tag("result", "maybe").description("Redis 확인이 필요했던 조회").register(meterRegistry);
+        this.bypassedLookups = Counter.builder("auth.blacklist.filter.lookups")
+                .tag("result", "bypass").description("동기화 전이라 필터를 건너뛴 조회").register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.blacklist.filter.false-positives")
+                .description("필터는 포함 가능하다 했으나 Redis에는 없던 조회").register(meterRegistry);
+
+        Gauge.builder("auth.blacklist.filter.hit-rate", this, c -> ratio(c.negativeLookups.count(),
+                        c.negativeLookups.count() + c.maybeLookups.count() + c.bypassedLookups.count()))
+                .description("네트워크 없이 판정된 조회 비율").register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.false-positive-rate", this, c -> ratio(c.falsePositives.count(),
+                        c.negativeLookups.count() + c.falsePositives.count()))
+                .description("실제 음성 조회 중 false positive 비율").register(meterRegistry);
+        Gauge.builder("auth.blacklist.filter.entries", this, c -> c.filter.approximateSize())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 블랙리스트일 가능성이 있으면 true (Redis 확인 필요).
+     * false면 확실히 블랙리스트가 아닙니다.
+     */
+    public boolean mightBeBlacklisted(String tokenIdOrHash) {
+        if (!synced) {
+            bypassedLookups.increment();
+            return true;
+        }
+        if (filter.mightContain(tokenIdOrHash, System.currentTimeMillis())) {
+            maybeLookups.increment();
+            return true;
+        }
+        negativeLookups.increment();
+        return false;
+    }
+
+    /** Redis 확인 결과 기록 (false positive 집계용) */
+    public void recordConfirmed(boolean blacklisted) {
+        if (!blacklisted && synced) {
+            falsePositives.increment();
+        }
+    }
+
+    /** 로컬 필터에 즉시 반영 후 다른 노드로 전파 */
+    public void add(String tokenIdOrHash, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        putLocal(tokenIdOrHash, expiresAt);
+        redis.convertAndSend(CHANNEL, tokenIdOrHash + "|" + expiresAt);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf('|');
+        if (sep <= 0) {
+            return;
+        }
+        try {
+            putLocal(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 이벤트: {}", body);
+        }
+    }
+
+    /**
+     * Redis의 bl:* 키로 필터를 새로 만들어 교체합니다.
+     * 재구성 중 들어온 이벤트는 새 필터에도 기록되므로 유실되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.filter.resync-interval-ms:60000}")
+    public void resync() {
+        TimeBucketedBloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            long now = System.currentTimeMillis();
+            List<String> batch = new ArrayList<>(RESYNC_BATCH);
+            try (Cursor<String> keys = redis.scan(ScanOptions.scanOptions().match(KEY_PATTERN).count(RESYNC_BATCH).build())) {
+                while (keys.hasNext()) {
+                    batch.add(keys.next());
+                    if (batch.size() == RESYNC_BATCH) {
+                        loadBatch(next, batch, now);
+                        batch.clear();
+                    }
+                }
+            }
+            loadBatch(next, batch, now);
+
+            next.expire(now);
+            filter = next;
+            synced = true;
+        } catch (Exception e) {
+            synced = false;
+            log.warn("블랙리스트 필터 재동기화 실패 - Redis 직접 조회로 전환합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void loadBatch(TimeBucketedBloomFilter target, List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> ttls = redis.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        for (int i = 0; i < keys.size(); i++) {
+            Object ttl = ttls.get(i);
+            long millis = ttl instanceof Long l ? l : -1;
+            if (millis == -2) {
+                continue; // 이미 만료된 키
+            }
+            // TTL이 없는 키는 보수적으로 다음 재동기화 이후까지 유지
+            long expiresAt = millis > 0 ? now + millis : now + bucketMillis * 2;
+            target.put(keys.get(i).substring("bl:".length()), expiresAt);
+        }
+    }
+
+    private void putLocal(String tokenIdOrHash, long expiresAt) {
+        // rebuilding을 먼저 읽어야 교체 직전/직후 어느 시점이든 새 필터에 기록됨
+        TimeBucketedBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenIdOrHash, expiresAt);
+        }
+        filter.put(tokenIdOrHash, expiresAt);
+    }
+
+    private TimeBucketedBloomFilter newFilter() {
+        return new TimeBucketedBloomFilter(bucketMillis, bitsPerBucket, hashFunctions);
+    }
+
+    private static double ratio(double numerator, double denominator) {
+        return denominator == 0 ? 0 : numerator / denominator;
+    }
+}
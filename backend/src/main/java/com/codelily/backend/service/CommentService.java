@@ -0,0 +1,212 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.CommentPageResponse;
+import com.codelily.backend.dto.CommentView;
+import com.codelily.backend.dto.UserSummary;
+import com.codelily.backend.mapper.CommentMapper;
+import com.codelily.backend.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 댓글 스레드 (comments.path 구체화 경로).
+ * - path 순서 = 스레드 순서 (부모 다음에 답글, 형제는 작성 순): (post_id, path) keyset으로 페이지 단위 조회
+ * - 한 번에 expand-depth 단계까지만 펼치고, 더 깊은 답글은 hasMoreReplies로 표시 후 /replies로 이어서 조회
+ *   (댓글이 수천 개인 글도 전체 트리를 메모리에 올리지 않음)
+ * - 작성자는 페이지마다 IN 한 번으로 일괄 조회
+ * - posts.comment_count는 댓글 작성/삭제와 같은 트랜잭션에서 증감
+ * - 새 댓글은 커밋 후 실시간 구독자에게 전파 (CommentStreamHub)
+ */
+@Service
+public class CommentService {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_CONTENT_LENGTH = 2000;
+    static final int MAX_DEPTH = 80; // path VARCHAR(1000), 단계당 11자
+
+    private static final Pattern PATH = Pattern.compile("(/\\d{10})+");
+
+    private final CommentMapper commentMapper;
+    private final UserMapper userMapper;
+    private final CommentStreamHub commentStreamHub;
+    private final int expandDepth;
+
+    public CommentService(CommentMapper commentMapper,
+                          UserMapper userMapper,
+                          CommentStreamHub commentStreamHub,
+                          @Value("${post.comments.expand-depth:3}") int expandDepth) {
+        this.commentMapper = commentMapper;
+        this.userMapper = userMapper;
+        this.commentStreamHub = commentStreamHub;
+        this.expandDepth = Math.max(expandDepth, 1);
+    }
+
+    /**
+     * 게시글 댓글 스레드 (최상위부터 expand-depth 단계까지, path 순)
+     * - 다음 페이지: 응답의 nextCursor를 cursor로 전달
+     */
+    public CommentPageResponse thread(Long postId, String cursor, Integer size) {
+        return page(postId, null, 0, cursor, size);
+    }
+
+    /**
+     * 접힌 답글 펼치기 (해당 댓글 아래 expand-depth 단계까지, path 순)
+     * - 댓글이 없거나 다른 게시글의 댓글이면 empty
+     */
+    public Optional<CommentPageResponse> replies(Long postId, Long commentId, String cursor, Integer size) {
+        return commentMapper.findById(commentId)
+                .filter(parent -> parent.getPostId().equals(postId))
+                .map(parent -> page(postId, parent.getPath(), parent.getDepth() + 1, cursor, size));
+    }
+
+    /**
+     * 댓글 작성 (parentId가 있으면 답글)
+     * - 게시 중인 글이 아니면 empty
+     */
+    @Transactional
+    public Optional<CommentView> create(Long postId, Long parentId, Long authorId, String content) {
+        String text = content == null ? "" : content.strip();
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("댓글 내용을 입력해 주세요.");
+        }
+        if (text.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("댓글은 " + MAX_CONTENT_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        // 게시글 행 잠금 + 존재 확인을 겸함 (같은 글의 댓글 작성은 직렬화)
+        if (commentMapper.addCommentCount(postId, 1) == 0) {
+            return Optional.empty();
+        }
+
+        CommentView parent = null;
+        if (parentId != null) {
+            parent = commentMapper.findById(parentId)
+                    .filter(c -> c.getPostId().equals(postId) && !c.isDeleted())
+                    .orElseThrow(() -> new IllegalArgumentException("답글을 달 수 없는 댓글입니다."));
+            if (parent.getDepth() + 1 > MAX_DEPTH) {
+                throw new IllegalArgumentException("더 이상 답글을 달 수 없습니다.");
+            }
+        }
+
+        CommentView comment = new CommentView();
+        comment.setPostId(postId);
+        comment.setParentId(parentId);
+        comment.setAuthorId(authorId);
+        comment.setContent(text);
+        comment.setDepth(parent == null ? 0 : parent.getDepth() + 1);
+        commentMapper.insert(comment);
+
+        // path에 자기 id가 들어가므로 INSERT 후 채움 (같은 트랜잭션이라 다른 요청에는 완성된 행만 보임)
+        comment.setPath((parent == null ? "" : parent.getPath()) + segment(comment.getId()));
+        commentMapper.setPath(comment.getId(), comment.getPath(), comment.getDepth());
+
+        fillAuthors(List.of(comment));
+        afterCommit(() -> commentStreamHub.publish(comment));
+        return Optional.of(comment);
+    }
+
+    /**
+     * 댓글 삭제 (작성자 또는 관리자, 답글 구조 유지를 위해 삭제 표시만)
+     * - 댓글이 없거나 다른 게시글의 댓글이면 false
+     */
+    @Transactional
+    public boolean delete(Long postId, Long commentId, Long userId, boolean admin) {
+        Optional<CommentView> found = commentMapper.findById(commentId)
+                .filter(c -> c.getPostId().equals(postId));
+        if (found.isEmpty()) {
+            return false;
+        }
+        if (!admin && !Objects.equals(found.get().getAuthorId(), userId)) {
+            throw new AccessDeniedException("본인 댓글만 삭제할 수 있습니다.");
+        }
+        if (commentMapper.markDeleted(commentId) > 0) {
+            commentMapper.addCommentCount(postId, -1);
+        }
+        return true;
+    }
+
+    private CommentPageResponse page(Long postId, String underPath, int minDepth, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String afterPath = cursor == null || cursor.isBlank() ? null : cursor;
+        if (afterPath != null && !PATH.matcher(afterPath).matches()) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int maxDepth = minDepth + expandDepth - 1;
+
+        List<CommentView> rows = commentMapper.findThreadPage(postId, underPath, afterPath, minDepth, maxDepth, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<CommentView> items = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+
+        fillAuthors(items);
+        markCollapsedReplies(postId, items, maxDepth);
+        for (CommentView item : items) {
+            if (item.isDeleted()) {
+                item.setContent(null);
+                item.setAuthor(null);
+            }
+        }
+
+        String nextCursor = hasNext ? items.get(items.size() - 1).getPath() : null;
+        return new CommentPageResponse(items, nextCursor, hasNext);
+    }
+
+    /** 작성자 일괄 조회 (댓글마다 조회하지 않음) */
+    private void fillAuthors(List<CommentView> comments) {
+        Set<Long> authorIds = comments.stream()
+                .filter(c -> !c.isDeleted())
+                .map(CommentView::getAuthorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        Map<Long, UserSummary> authors = userMapper.findSummariesByIds(authorIds).stream()
+                .collect(Collectors.toMap(UserSummary::getId, Function.identity()));
+        comments.forEach(c -> c.setAuthor(authors.get(c.getAuthorId())));
+    }
+
+    /** 펼친 범위의 마지막 단계 댓글 중 답글이 더 있는 것 표시 */
+    private void markCollapsedReplies(Long postId, List<CommentView> comments, int maxDepth) {
+        List<Long> boundary = comments.stream()
+                .filter(c -> c.getDepth() == maxDepth)
+                .map(CommentView::getId)
+                .toList();
+        if (boundary.isEmpty()) {
+            return;
+        }
+        Set<Long> withReplies = new HashSet<>(commentMapper.findIdsWithReplies(postId, boundary));
+        comments.forEach(c -> c.setHasMoreReplies(withReplies.contains(c.getId())));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    static String segment(Long id) {
+        return String.format("/%010d", id);
+    }
+}
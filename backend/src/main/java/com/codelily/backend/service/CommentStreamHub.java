@@ -0,0 +1,310 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.CommentView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 댓글 실시간 전송 (SSE, /api/posts/{postId}/comments/stream).
+ * - 연결은 서블릿 비동기(SseEmitter)로 유지: 대기 중인 구독자는 Tomcat 요청 스레드를 점유하지 않음
+ * - 게시글별 구독자 집합으로 노드 안에서 fan-out, 노드 간 전달은 Redis pub/sub (comment:new)
+ *   (메시지당 JSON 직렬화/SSE 이벤트 구성은 한 번, 구독자에게는 같은 바이트를 전송)
+ * - 전송은 소수의 전용 스레드가 구독자별 큐를 비우는 방식: 큐(buffer-size)가 차는 느린 구독자는 연결 종료
+ *   (클라이언트 EventSource가 재연결, 놓친 댓글은 목록 API로 보충)
+ * - 소켓 쓰기는 블로킹이라 별도 쓰기 스레드에서 실행하고 send-timeout까지만 대기:
+ *   넘기면 느린 구독자로 보고 끊어 TCP 윈도가 찬 클라이언트가 전송 스레드를 붙잡지 않게 함
+ *   (막힌 쓰기 스레드는 컨테이너 쓰기 타임아웃까지 남지만 끊긴 구독자당 최대 하나)
+ * - heartbeat로 프록시 유휴 연결 종료를 막고 끊긴 연결을 정리
+ */
+@Slf4j
+@Service
+public class CommentStreamHub implements MessageListener {
+
+    static final String CHANNEL = "comment:new";
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int bufferSize;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final ExecutorService writer;
+
+    private final Counter delivered;
+    private final Counter dropped;
+
+    public CommentStreamHub(StringRedisTemplate redis,
+                            RedisMessageListenerContainer listenerContainer,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${post.comments.stream.timeout:PT30M}") Duration timeout,
+                            @Value("${post.comments.stream.send-timeout:PT5S}") Duration sendTimeout,
+                            @Value("${post.comments.stream.buffer-size:32}") int bufferSize,
+                            @Value("${post.comments.stream.max-subscribers:50000}") int maxSubscribers,
+                            @Value("${post.comments.stream.sender-threads:4}") int senderThreads) {
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+
+        this.sender = Executors.newFixedThreadPool(Math.max(senderThreads, 1), daemonThreads("comment-stream-"));
+        // 동시 쓰기는 전송 스레드 수만큼, 그 밖에는 시간 초과로 끊긴 구독자의 막힌 쓰기만 남음
+        this.writer = Executors.newCachedThreadPool(daemonThreads("comment-stream-writer-"));
+
+        this.delivered = Counter.builder("comment.stream.events")
+                .tag("result", "delivered").description("구독자에게 전송한 댓글 이벤트").register(meterRegistry);
+        this.dropped = Counter.builder("comment.stream.events")
+                .tag("result", "dropped").description("버퍼 초과 또는 전송 시간 초과로 끊은 느린 구독자").register(meterRegistry);
+        Gauge.builder("comment.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("노드의 댓글 스트림 구독자 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        sender.shutdownNow();
+        writer.shutdownNow();
+    }
+
+    /**
+     * 게시글 댓글 구독 (노드 구독자 수가 max-subscribers를 넘으면 IllegalStateException → 503)
+     */
+    public SseEmitter open(Long postId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("실시간 댓글 연결이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(postId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.compute(postId, (k, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // 연결 직후 응답 헤더를 내보내도록 첫 이벤트 (프록시 버퍼링 방지)
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    /**
+     * 새 댓글 전파 (댓글 작성 커밋 후)
+     * - Redis로 모든 노드(자기 자신 포함)에 전달, Redis 장애 시 이 노드 구독자에게만 전송
+     */
+    public void publish(CommentView comment) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(comment);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 이벤트 직렬화 실패 (commentId={}): {}", comment.getId(), e.getMessage());
+            return;
+        }
+        try {
+            redis.convertAndSend(CHANNEL, comment.getPostId() + ":" + comment.getId() + ":" + json);
+        } catch (DataAccessException e) {
+            log.warn("댓글 이벤트 전파 실패 - 이 노드 구독자에게만 전송합니다: {}", e.getMessage());
+            deliver(comment.getPostId(), comment.getId(), json);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // "<postId>:<commentId>:<댓글 JSON>" (JSON을 다시 파싱하지 않고 그대로 전송)
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(':');
+        int second = body.indexOf(':', first + 1);
+        try {
+            deliver(Long.valueOf(body.substring(0, first)), Long.valueOf(body.substring(first + 1, second)),
+                    body.substring(second + 1));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 댓글 이벤트 무시: {}", e.getMessage());
+        }
+    }
+
+    /** 유휴 연결 유지 + 끊긴 연결 정리 (큐가 비어 있는 구독자에게만) */
+    @Scheduled(fixedDelayString = "${post.comments.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(ping);
+            }
+        }));
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void deliver(Long postId, Long commentId, String json) {
+        Set<Subscriber> targets = subscribers.get(postId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> payload = SseEmitter.event()  // 구독자 모두 같은 이벤트 사용
+                .id(String.valueOf(commentId))
+                .name("comment")
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        targets.forEach(subscriber -> {
+            if (subscriber.offer(payload)) {
+                delivered.increment();
+            }
+        });
+    }
+
+    /** 구독자 1명: 보낼 이벤트 큐 + 전송 중 여부 (구독자당 전송 작업은 최대 하나) */
+    private final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean detached = new AtomicBoolean();
+
+        Subscriber(Long postId, SseEmitter emitter, Queue<Set<DataWithMediaType>> queue) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        /** 큐에 넣고 전송 예약 (큐가 가득 차면 느린 구독자로 보고 연결 종료) */
+        boolean offer(Set<DataWithMediaType> event) {
+            if (detached.get()) {
+                return false;
+            }
+            if (!queue.offer(event)) {
+                dropped.increment();
+                close();
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> event;
+                while ((event = queue.poll()) != null) {
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        /** 이벤트 1건 전송 (send-timeout 안에 끝나지 않거나 실패하면 연결 종료 후 false) */
+        private boolean send(Set<DataWithMediaType> event) {
+            CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+                try {
+                    emitter.send(event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, writer);
+            try {
+                write.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                dropped.increment();
+                detach();
+                // emitter는 쓰기 중인 동안 잠겨 있으므로 막힌 쓰기가 끝난(실패한) 뒤 종료
+                write.whenComplete((result, error) -> emitter.complete());
+                return false;
+            } catch (ExecutionException e) {
+                close();
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                return false;
+            }
+        }
+
+        void close() {
+            detach();
+            emitter.complete();
+        }
+
+        /** 구독 해제 (여러 콜백에서 호출돼도 한 번만) */
+        void detach() {
+            if (detached.compareAndSet(false, true)) {
+                queue.clear();
+                subscriberCount.decrementAndGet();
+                subscribers.computeIfPresent(postId, (k, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+}
@@ -3,18 +3,34 @@ package com.codelily.backend.service;
 import com.codelily.backend.config.CustomUserDetails;
 import com.codelily.backend.domain.User;
 import com.codelily.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // userId → UserDetails (프로필 수정 시 evict, 그 외에는 TTL로 갱신)
+    private final Cache<Long, CustomUserDetails> userDetailsCache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${auth.principal.cache.max-size:10000}") long maxSize,
+                                    @Value("${auth.principal.cache.ttl:PT1M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
     /**
      * Spring Security에서 username(email)으로 사용자 로드
      */
@@ -27,12 +43,20 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     /**
-     * JWT에서 userId를 기반으로 사용자 로드
+     * JWT에서 userId를 기반으로 사용자 로드 (TTL 캐시 경유)
      */
     public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. ID: " + id));
+        return userDetailsCache.get(id, key -> {
+            User user = userRepository.findById(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. ID: " + key));
+            return new CustomUserDetails(user);
+        });
+    }
 
-        return new CustomUserDetails(user);
+    /**
+     * 사용자 정보 변경 시 캐시 무효화
+     */
+    public void evict(Long id) {
+        userDetailsCache.invalidate(id);
     }
 }
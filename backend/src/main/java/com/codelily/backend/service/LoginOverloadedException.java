@@ -0,0 +1,17 @@
+package com.codelily.backend.service;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 검증 대기열이 가득 차 로그인을 받을 수 없을 때 발생 (503 + Retry-After).
+ */
+@Getter
+public class LoginOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginOverloadedException(long retryAfterSeconds) {
+        super("로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
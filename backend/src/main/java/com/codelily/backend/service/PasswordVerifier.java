@@ -0,0 +1,88 @@
+package com.codelily.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * bcrypt 비밀번호 검증 전용 스레드 풀.
+ * - 코어 수만큼의 스레드 + 고정 크기 대기열 → 로그인 폭주 시에도 Tomcat 요청 스레드를 점유하지 않음
+ * - 대기열이 가득 차면 즉시 LoginOverloadedException (503 + Retry-After)
+ * - 존재하지 않는 계정도 더미 해시로 같은 비용을 들여 검증 (계정 존재 여부 타이밍 노출 방지)
+ */
+@Service
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final String dummyHash;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.password-hashing.threads:0}") int threads,
+                            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                            @Value("${auth.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("auth.password-hashing.rejected")
+                .description("대기열 초과로 거절된 비밀번호 검증").register(meterRegistry);
+        Gauge.builder("auth.password-hashing.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("auth.password-hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증을 전용 풀에서 비동기로 실행합니다.
+     * encodedPassword가 null(계정 없음/소셜 계정)이면 더미 해시로 검증하고 항상 false.
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        String raw = rawPassword != null ? rawPassword : "";
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (encodedPassword == null) {
+                    passwordEncoder.matches(raw, dummyHash);
+                    return false;
+                }
+                return passwordEncoder.matches(raw, encodedPassword);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginOverloadedException(retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,146 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostAggregateRow;
+import com.codelily.backend.dto.SidebarAggregates;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사이드바 집계 (태그 클라우드 / 카테고리별 게시글 수 / 월별 보관함).
+ * - 값은 post_aggregates 테이블에 미리 집계됨 (게시글/태그 변경과 같은 트랜잭션에서 트리거로 증감, V6)
+ * - 요청은 메모리 사본만 읽음: 게시글 변경 커밋 후(PostChangeListener) 또는 refresh-interval마다 테이블을 다시 읽음
+ *   (집계 행 수는 태그 + 카테고리 + 월 수 정도라 전체를 읽어도 가벼움)
+ * - 트리거 밖의 변경(수동 SQL, 트리거 적용 전 데이터)으로 어긋난 값은 repair가 GROUP BY 결과와 대조해 바로잡음
+ */
+@Slf4j
+@Service
+public class PostAggregateService {
+
+    private final PostMapper postMapper;
+    private final Clock clock;
+    private final Duration refreshInterval;
+    private final int tagLimit;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile long loadedAt;
+    private volatile SidebarAggregates snapshot = new SidebarAggregates(List.of(), List.of(), List.of());
+
+    private final Counter repaired;
+
+    @Autowired
+    public PostAggregateService(PostMapper postMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${post.aggregates.refresh-interval:PT30S}") Duration refreshInterval,
+                                @Value("${post.aggregates.tag-limit:100}") int tagLimit) {
+        this(postMapper, meterRegistry, refreshInterval, tagLimit, Clock.systemUTC());
+    }
+
+    PostAggregateService(PostMapper postMapper, MeterRegistry meterRegistry,
+                         Duration refreshInterval, int tagLimit, Clock clock) {
+        this.postMapper = postMapper;
+        this.refreshInterval = refreshInterval;
+        this.tagLimit = tagLimit;
+        this.clock = clock;
+        this.repaired = Counter.builder("post.aggregates.repaired")
+                .description("보정된 사이드바 집계 행 수").register(meterRegistry);
+    }
+
+    /** 사이드바 집계 (DB 조회 없음) */
+    public SidebarAggregates sidebar() {
+        return snapshot;
+    }
+
+    /** 게시글 변경 커밋 후 호출: 다음 refreshIfStale에서 다시 읽음 */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void loadOnStartup() {
+        refreshIfStale();
+    }
+
+    /** 변경이 있었거나 refresh-interval이 지났으면 다시 읽음 (다른 노드/수동 변경 반영) */
+    @Scheduled(fixedDelayString = "${post.aggregates.check-interval-ms:1000}")
+    public void refreshIfStale() {
+        boolean expired = clock.millis() - loadedAt >= refreshInterval.toMillis();
+        if (dirty.compareAndSet(true, false) || expired) {
+            try {
+                reload();
+            } catch (DataAccessException e) {
+                dirty.set(true);
+                log.warn("사이드바 집계를 읽지 못했습니다 (이전 값 유지): {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 실제 GROUP BY 결과와 대조해 어긋난 행 보정
+     * - 저장된 값이 조회 시점 그대로일 때만 바꿈 (그 사이 트리거가 바꾼 행은 다음 보정에서)
+     */
+    @Scheduled(fixedDelayString = "${post.aggregates.repair-interval-ms:3600000}",
+            initialDelayString = "${post.aggregates.repair-interval-ms:3600000}")
+    public void repair() {
+        int fixed = 0;
+        for (PostAggregateRow row : postMapper.findPostAggregateDrift()) {
+            Long stored = row.getStoredCount();
+            if (stored == null) {
+                fixed += postMapper.insertPostAggregate(row.getKind(), row.getName(), row.getPostCount());
+            } else if (row.getPostCount() == 0) {
+                // 0건이 된 행 정리 (이미 0이었으면 보정이 아니므로 집계하지 않음)
+                int deleted = postMapper.deletePostAggregate(row.getKind(), row.getName(), stored);
+                fixed += stored == 0 ? 0 : deleted;
+            } else {
+                fixed += postMapper.updatePostAggregate(row.getKind(), row.getName(), stored, row.getPostCount());
+            }
+        }
+        if (fixed > 0) {
+            repaired.increment(fixed);
+            log.warn("사이드바 집계 {}건 보정", fixed);
+            markDirty();
+        }
+    }
+
+    private void reload() {
+        List<SidebarAggregates.Count> tags = new ArrayList<>();
+        List<SidebarAggregates.Count> categories = new ArrayList<>();
+        List<SidebarAggregates.Count> archives = new ArrayList<>();
+        long now = clock.millis();
+        for (PostAggregateRow row : postMapper.findPostAggregates()) {
+            SidebarAggregates.Count count = new SidebarAggregates.Count(row.getName(), row.getPostCount());
+            switch (row.getKind()) {
+                case "TAG" -> tags.add(count);
+                case "CATEGORY" -> categories.add(count);
+                case "MONTH" -> archives.add(count);
+                default -> log.debug("알 수 없는 집계 종류: {}", row.getKind());
+            }
+        }
+        Comparator<SidebarAggregates.Count> byPosts = Comparator.comparingLong(SidebarAggregates.Count::getPosts)
+                .reversed().thenComparing(SidebarAggregates.Count::getName);
+        tags.sort(byPosts);
+        categories.sort(byPosts);
+        archives.sort(Comparator.comparing(SidebarAggregates.Count::getName).reversed());
+
+        snapshot = new SidebarAggregates(
+                List.copyOf(tags.subList(0, Math.min(tagLimit, tags.size()))),
+                List.copyOf(categories),
+                List.copyOf(archives));
+        loadedAt = now;
+    }
+}
@@ -0,0 +1,146 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.ReplicaRoutingDataSource;
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.mapper.PostMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 2단 캐시 (slug 기준).
+ * - L1: 노드 로컬 Caffeine (W-TinyLFU, 크기 제한) – 인기 글은 네트워크/DB 없이 응답
+ *   (SingleFlightLoader: 동시 미스는 한 번만 로드, refresh-after 이후에는 옛 값 응답 + 백그라운드 갱신)
+ * - L2: Redis (post:slug:<slug>, JSON) – 노드 간 공유, 미스 시에만 MySQL 조회
+ * - 게시글 변경 시 Redis 키 삭제 후 pub/sub(post:cache:evict)으로 모든 노드의 L1 무효화
+ * - 없는 slug도 L1에 짧게 기억해 반복 조회가 DB로 가지 않도록 함 (생성 시 함께 무효화)
+ * - 게시 중인 글만 캐시 (공유 키에 임시글 본문이 남지 않도록, 이전에 저장된 임시글 항목은 지우고 미스로 처리)
+ */
+@Slf4j
+@Component
+public class PostDetailCache implements MessageListener {
+
+    static final String CHANNEL = "post:cache:evict";
+    private static final String KEY_PREFIX = "post:slug:";
+
+    private final PostMapper postMapper;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    private final SingleFlightLoader<String, Optional<PostDetail>> local;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisEvictions;
+
+    public PostDetailCache(PostMapper postMapper,
+                           StringRedisTemplate redis,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.cache.local.max-size:1000}") long localMaxSize,
+                           @Value("${post.cache.local.refresh-after:PT1M}") Duration localRefreshAfter,
+                           @Value("${post.cache.local.ttl:PT5M}") Duration localTtl,
+                           @Value("${post.cache.redis.ttl:PT30M}") Duration redisTtl) {
+        this.postMapper = postMapper;
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.singleflight 등 (cache=post.detail.local)
+        this.local = new SingleFlightLoader<>("post.detail.local", localMaxSize, localRefreshAfter, localTtl, meterRegistry);
+
+        this.redisHits = Counter.builder("cache.gets").tag("cache", "post.detail.redis").tag("result", "hit")
+                .description("Redis 게시글 캐시 적중").register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets").tag("cache", "post.detail.redis").tag("result", "miss")
+                .description("Redis 게시글 캐시 미스 (DB 조회)").register(meterRegistry);
+        this.redisEvictions = Counter.builder("cache.evictions").tag("cache", "post.detail.redis")
+                .description("게시글 변경으로 삭제된 Redis 캐시").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /** slug로 게시글 상세 조회 (L1 → L2 → DB) */
+    public Optional<PostDetail> get(String slug) {
+        return local.get(slug, this::loadFromRedisOrDb);
+    }
+
+    /**
+     * 게시글 변경 시 호출: Redis 키 삭제 후 모든 노드에 L1 무효화 전파
+     * (Redis 장애 시에도 현재 노드의 L1은 즉시 무효화)
+     */
+    public void evict(String slug) {
+        if (slug == null) {
+            return;
+        }
+        local.invalidate(slug);
+        try {
+            if (Boolean.TRUE.equals(redis.delete(KEY_PREFIX + slug))) {
+                redisEvictions.increment();
+            }
+            redis.convertAndSend(CHANNEL, slug);
+        } catch (DataAccessException e) {
+            log.warn("게시글 캐시 무효화 전파 실패 (slug={}) - 다른 노드는 TTL 만료 후 갱신됩니다: {}", slug, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        local.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private Optional<PostDetail> loadFromRedisOrDb(String slug) {
+        String key = KEY_PREFIX + slug;
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json != null) {
+                PostDetail cached = objectMapper.readValue(json, PostDetail.class);
+                if (isPublished(cached)) {
+                    redisHits.increment();
+                    return Optional.of(cached);
+                }
+                redis.delete(key);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Redis 게시글 캐시 조회 실패 (slug={}): {}", slug, e.getMessage());
+        }
+        redisMisses.increment();
+
+        // 캐시에 오래 남으므로 복제본(복제 지연)이 아닌 primary에서 읽음
+        Optional<PostDetail> post = ReplicaRoutingDataSource.onPrimary(() -> postMapper.findPostDetailBySlug(slug))
+                .filter(PostDetailCache::isPublished);
+        post.ifPresent(detail -> {
+            try {
+                redis.opsForValue().set(key, objectMapper.writeValueAsString(detail), redisTtl);
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.debug("Redis 게시글 캐시 저장 실패 (slug={}): {}", slug, e.getMessage());
+            }
+        });
+        return post;
+    }
+
+    private static boolean isPublished(PostDetail post) {
+        return "PUBLISHED".equals(post.getStatus());
+    }
+}
@@ -0,0 +1,315 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.RedisScripts;
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 게시글 조회수 랭킹 (전체 / 최근 1시간 / 최근 1일).
+ * - Redis sorted set을 조회수 반영 시점마다 ZINCRBY로 갱신 (O(log n), ORDER BY views 스캔 없음)
+ * - 트렌딩은 시간 버킷별 sorted set을 나이에 따라 감쇠된 가중치로 합산 (ZUNIONSTORE WEIGHTS)
+ * - Redis 장애 시에는 같은 구조를 노드 로컬 맵에 유지하고 크기 n 최소 힙으로 상위 n개를 계산
+ * - 기동 시 MySQL posts.views로 전체 랭킹을 다시 만듭니다 (rebuild)
+ */
+@Slf4j
+@Service
+public class PostLeaderboard {
+
+    static final String ALL_TIME_KEY = "lb:views:all";
+    private static final String TRENDING_KEY_PREFIX = "lb:trend:";
+    private static final int REBUILD_BATCH = 1000;
+    private static final RedisScript<Long> SWAP_SCRIPT =
+            RedisScripts.load("redis/leaderboard_swap.lua", Long.class);
+    static final int MAX_LIMIT = 100;
+
+    /** 랭킹 기간 (트렌딩은 버킷 단위 슬라이딩 윈도우 + 반감기 감쇠) */
+    public enum Window {
+        ALL(null, 0, null),
+        HOUR(Duration.ofMinutes(5), 12, Duration.ofMinutes(30)),
+        DAY(Duration.ofHours(1), 24, Duration.ofHours(6));
+
+        private final Duration bucket;
+        private final int buckets;
+        private final Duration halfLife;
+
+        Window(Duration bucket, int buckets, Duration halfLife) {
+            this.bucket = bucket;
+            this.buckets = buckets;
+            this.halfLife = halfLife;
+        }
+
+        public static Window from(String value) {
+            if (value == null || value.isBlank()) {
+                return ALL;
+            }
+            try {
+                return valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + value);
+            }
+        }
+
+        private long bucketIndex(long nowMillis) {
+            return nowMillis / bucket.toMillis();
+        }
+
+        /** 버킷 나이에 따른 가중치: 0.5^(age / halfLife) */
+        private double weight(long ageBuckets) {
+            return Math.pow(0.5, (double) (ageBuckets * bucket.toMillis()) / halfLife.toMillis());
+        }
+    }
+
+    /** 랭킹 항목 (postId, 점수) */
+    public record Entry(Long postId, double score) {}
+
+    private final StringRedisTemplate redis;
+    private final PostMapper postMapper;
+    private final boolean rebuildOnStartup;
+
+    // 트렌딩 합산 결과는 짧게 캐시 (버킷이 5분/1시간 단위라 수 초 지연은 무방)
+    private final Cache<Window, List<Entry>> trendingCache;
+
+    // Redis 장애 대비 로컬 랭킹
+    private final ConcurrentHashMap<Long, DoubleAdder> localAllTime = new ConcurrentHashMap<>();
+    private final Map<Window, ConcurrentSkipListMap<Long, ConcurrentHashMap<Long, DoubleAdder>>> localBuckets = Map.of(
+            Window.HOUR, new ConcurrentSkipListMap<>(),
+            Window.DAY, new ConcurrentSkipListMap<>());
+
+    public PostLeaderboard(StringRedisTemplate redis,
+                           PostMapper postMapper,
+                           @Value("${post.leaderboard.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                           @Value("${post.leaderboard.trending-cache-ttl:PT10S}") Duration trendingCacheTtl) {
+        this.redis = redis;
+        this.postMapper = postMapper;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.trendingCache = Caffeine.newBuilder().expireAfterWrite(trendingCacheTtl).build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void seedOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * MySQL posts.views로 전체 랭킹을 다시 만듭니다.
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 조회 중인 랭킹이 비는 순간이 없습니다.
+     * 시작 시점 랭킹을 스냅샷해 두고, 교체할 때 그 사이 (다른 노드 포함) ZINCRBY된 증가분을 임시 키에 더합니다.
+     * (DB를 읽기 전에 반영된 증가분은 두 번 더해질 수 있으며, 다음 재구성 때 맞춰집니다)
+     */
+    public int rebuild() {
+        String tempKey = ALL_TIME_KEY + ":rebuild:" + System.nanoTime();
+        String baseKey = tempKey + ":base";
+        Map<Long, Long> views = new HashMap<>();
+        boolean redisLoaded = snapshot(baseKey);
+        try {
+            Long afterId = 0L;
+            List<PostSummary> page;
+            do {
+                page = postMapper.findViewCounts(afterId, REBUILD_BATCH);
+                if (page.isEmpty()) {
+                    break;
+                }
+                page.forEach(post -> views.put(post.getId(), (long) post.getViews()));
+                redisLoaded = redisLoaded && zadd(tempKey, page);
+                afterId = page.get(page.size() - 1).getId();
+            } while (page.size() == REBUILD_BATCH);
+        } catch (RuntimeException e) {
+            log.warn("게시글 랭킹 재구성 실패 - 기존 랭킹을 유지합니다.", e);
+            deleteQuietly(tempKey, baseKey);
+            return 0;
+        }
+
+        if (redisLoaded) {
+            try {
+                Long merged = redis.execute(SWAP_SCRIPT, List.of(ALL_TIME_KEY, tempKey, baseKey, tempKey + ":delta"));
+                log.debug("재구성 중 누적된 조회수 반영: {}건", merged);
+            } catch (DataAccessException e) {
+                log.warn("게시글 랭킹 Redis 교체 실패 - 로컬 랭킹만 갱신합니다: {}", e.getMessage());
+                deleteQuietly(tempKey, baseKey);
+            }
+        } else {
+            deleteQuietly(tempKey, baseKey);
+        }
+
+        localAllTime.clear();
+        views.forEach((postId, count) -> localAllTime.computeIfAbsent(postId, id -> new DoubleAdder()).add(count));
+        log.info("게시글 랭킹 재구성 완료: {}건", views.size());
+        return views.size();
+    }
+
+    /** 조회수 반영분을 랭킹에 누적 (PostViewCounter flush 후 호출) */
+    public void recordViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        deltas.forEach((postId, delta) -> {
+            localAllTime.computeIfAbsent(postId, id -> new DoubleAdder()).add(delta);
+            localBuckets.forEach((window, buckets) -> buckets
+                    .computeIfAbsent(window.bucketIndex(now), b -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(postId, id -> new DoubleAdder()).add(delta));
+        });
+        pruneLocal(now);
+
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                    byte[] member = bytes(String.valueOf(entry.getKey()));
+                    connection.zSetCommands().zIncrBy(bytes(ALL_TIME_KEY), entry.getValue(), member);
+                    for (Window window : List.of(Window.HOUR, Window.DAY)) {
+                        byte[] key = bytes(bucketKey(window, window.bucketIndex(now)));
+                        connection.zSetCommands().zIncrBy(key, entry.getValue(), member);
+                        // 윈도우 + 버킷 하나만큼 지나면 자동 삭제
+                        connection.keyCommands().pExpire(key, window.bucket.toMillis() * (window.buckets + 1));
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.debug("게시글 랭킹 Redis 갱신 실패 - 로컬 랭킹만 갱신: {}", e.getMessage());
+        }
+    }
+
+    /** 상위 limit개 (Redis 실패 시 로컬 랭킹) */
+    public List<Entry> top(Window window, int limit) {
+        int n = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        try {
+            List<Entry> entries = window == Window.ALL
+                    ? toEntries(redis.opsForZSet().reverseRangeWithScores(ALL_TIME_KEY, 0, n - 1))
+                    : trendingCache.get(window, this::trendingFromRedis);
+            return entries.size() > n ? entries.subList(0, n) : entries;
+        } catch (DataAccessException e) {
+            log.debug("게시글 랭킹 Redis 조회 실패 - 로컬 랭킹 사용: {}", e.getMessage());
+            return localTop(window, n, System.currentTimeMillis());
+        }
+    }
+
+    private List<Entry> trendingFromRedis(Window window) {
+        long current = window.bucketIndex(System.currentTimeMillis());
+        String first = bucketKey(window, current);
+        List<String> others = new ArrayList<>(window.buckets - 1);
+        double[] weights = new double[window.buckets];
+        weights[0] = window.weight(0);
+        for (int age = 1; age < window.buckets; age++) {
+            others.add(bucketKey(window, current - age));
+            weights[age] = window.weight(age);
+        }
+        String dest = TRENDING_KEY_PREFIX + window.name().toLowerCase() + ":top";
+        redis.opsForZSet().unionAndStore(first, others, dest, Aggregate.SUM, Weights.of(weights));
+        redis.expire(dest, Duration.ofMinutes(1));
+        return toEntries(redis.opsForZSet().reverseRangeWithScores(dest, 0, MAX_LIMIT - 1));
+    }
+
+    private List<Entry> localTop(Window window, int n, long now) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (window == Window.ALL) {
+            localAllTime.forEach((postId, adder) -> scores.put(postId, adder.sum()));
+        } else {
+            long current = window.bucketIndex(now);
+            localBuckets.get(window).tailMap(current - window.buckets, false).forEach((index, posts) -> {
+                double weight = window.weight(current - index);
+                posts.forEach((postId, adder) -> scores.merge(postId, adder.sum() * weight, Double::sum));
+            });
+        }
+
+        // 크기 n 최소 힙: O(m log n)
+        PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparingDouble(Entry::score));
+        scores.forEach((postId, score) -> {
+            if (heap.size() < n) {
+                heap.add(new Entry(postId, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.add(new Entry(postId, score));
+            }
+        });
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Entry::score).reversed());
+        return result;
+    }
+
+    private void pruneLocal(long now) {
+        localBuckets.forEach((window, buckets) ->
+                buckets.headMap(window.bucketIndex(now) - window.buckets, true).clear());
+    }
+
+    private boolean zadd(String key, List<PostSummary> posts) {
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (PostSummary post : posts) {
+                    connection.zSetCommands().zAdd(bytes(key), post.getViews(), bytes(String.valueOf(post.getId())));
+                }
+                return null;
+            });
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("게시글 랭킹 Redis 적재 실패 - 로컬 랭킹만 갱신합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /** 재구성 시작 시점의 전체 랭킹 복사 (교체 시 그 사이 증가분 계산용) */
+    private boolean snapshot(String baseKey) {
+        try {
+            redis.opsForZSet().unionAndStore(ALL_TIME_KEY, List.of(), baseKey);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("게시글 랭킹 스냅샷 실패 - 로컬 랭킹만 갱신합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteQuietly(String... keys) {
+        try {
+            redis.delete(List.of(keys));
+        } catch (DataAccessException ignored) {
+            // 임시 키 정리 실패는 무시
+        }
+    }
+
+    private static String bucketKey(Window window, long index) {
+        return TRENDING_KEY_PREFIX + window.name().toLowerCase() + ":" + index;
+    }
+
+    private static List<Entry> toEntries(Set<TypedTuple<String>> tuples) {
+        List<Entry> entries = new ArrayList<>();
+        if (tuples != null) {
+            for (TypedTuple<String> tuple : tuples) {
+                entries.add(new Entry(Long.valueOf(tuple.getValue()), tuple.getScore() != null ? tuple.getScore() : 0));
+            }
+        }
+        return entries;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
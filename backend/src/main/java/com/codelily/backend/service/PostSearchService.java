@@ -0,0 +1,303 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSearchDocument;
+import com.codelily.backend.dto.PostSearchHit;
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import com.codelily.backend.search.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 전문 검색 (제목/본문/카테고리/태그, 한글 bigram + BM25).
+ * - MySQL LIKE '%..%' 전체 스캔 대신 노드 로컬 역색인(InvertedIndex)에서 검색
+ * - 기동 시 디스크 스냅샷을 읽고 이후 변경분(updated_at)만 반영, 스냅샷이 없으면 전체 색인
+ * - 주기적 증분 동기화 + 게시글 저장 직후 재색인(PostChangeListener)
+ * - 삭제된 글은 주기적으로 게시 중인 id와 대조해 제거 (응답은 항상 DB의 게시 중인 글만 반환)
+ * - 같은 변경분으로 자동완성(PostSuggestService)과 태그 비트맵(PostTagIndex)도 갱신
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+    static final int MAX_QUERY_LENGTH = 100;
+
+    private final PostMapper postMapper;
+    private final PostSuggestService postSuggestService;
+    private final PostTagIndex postTagIndex;
+    private final Path snapshotPath;
+    private final int batchSize;
+    private final int maxContentChars;
+    private final Duration syncOverlap;
+    private final boolean indexOnStartup;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    private LocalDateTime watermark; // 이 시각 이후 변경분만 동기화 (sync/reindex는 synchronized)
+
+    private final Timer queryTimer;
+    private final Timer syncTimer;
+
+    public PostSearchService(PostMapper postMapper,
+                             PostSuggestService postSuggestService,
+                             PostTagIndex postTagIndex,
+                             MeterRegistry meterRegistry,
+                             @Value("${post.search.snapshot-path:}") String snapshotPath,
+                             @Value("${post.search.batch-size:500}") int batchSize,
+                             @Value("${post.search.max-content-chars:20000}") int maxContentChars,
+                             @Value("${post.search.sync-overlap:PT1M}") Duration syncOverlap,
+                             @Value("${post.search.index-on-startup:true}") boolean indexOnStartup) {
+        this.postMapper = postMapper;
+        this.postSuggestService = postSuggestService;
+        this.postTagIndex = postTagIndex;
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.batchSize = batchSize;
+        this.maxContentChars = maxContentChars;
+        this.syncOverlap = syncOverlap;
+        this.indexOnStartup = indexOnStartup;
+
+        this.queryTimer = Timer.builder("post.search.query")
+                .description("검색 색인 조회 소요 시간").register(meterRegistry);
+        this.syncTimer = Timer.builder("post.search.sync")
+                .description("검색 색인 증분 동기화 소요 시간").register(meterRegistry);
+        Gauge.builder("post.search.documents", this, s -> s.index.size())
+                .description("검색 색인에 포함된 게시글 수").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void initializeOnStartup() {
+        if (indexOnStartup) {
+            initialize();
+        }
+    }
+
+    /**
+     * 스냅샷 로드 후 변경분 반영 (스냅샷이 없거나 손상됐으면 전체 색인)
+     * - 스냅샷에는 자동완성 원본이 없으므로 제목/태그만 따로 읽어 채움 (본문 제외)
+     */
+    public synchronized void initialize() {
+        if (loadSnapshot()) {
+            loadSuggestions();
+        } else {
+            index = new InvertedIndex();
+            watermark = null;
+        }
+        sync();
+        reconcile();
+        log.info("검색 색인 준비 완료: 게시글 {}건", index.size());
+    }
+
+    /**
+     * 게시글 검색
+     * - q: 공백 포함 최대 100자, limit: 기본 10 / 최대 50
+     * - 색인 결과 중 현재 게시 중인 글만 반환 (비공개 전환/삭제 직후 반영 지연 대비)
+     */
+    public List<PostSearchHit> search(String q, Integer limit) {
+        String query = q == null ? "" : q.strip();
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하로 입력해 주세요.");
+        }
+        int n = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        List<InvertedIndex.Hit> hits = queryTimer.record(() -> index.search(query, n));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> posts = postMapper.findPublishedSummariesByIds(
+                        hits.stream().map(InvertedIndex.Hit::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        List<PostSearchHit> results = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            PostSummary post = posts.get(hit.postId());
+            if (post != null) {
+                results.add(new PostSearchHit(hit.score(), post));
+            }
+        }
+        return results;
+    }
+
+    /** 게시글 저장 직후 재색인 (게시 중이 아니면 색인에서 제거) */
+    public synchronized void reindex(Long postId) {
+        postMapper.findSearchDocument(postId)
+                .ifPresentOrElse(this::apply, () -> remove(postId));
+    }
+
+    /** 게시글 삭제 */
+    public void remove(Long postId) {
+        unindex(postId);
+        postTagIndex.remove(postId);
+    }
+
+    /** 검색/자동완성 대상에서 제외 (삭제 또는 비공개) */
+    private void unindex(Long postId) {
+        index.remove(postId);
+        postSuggestService.removePost(postId);
+    }
+
+    /** 마지막 동기화 이후 변경된 게시글 반영 (커밋 지연을 고려해 sync-overlap만큼 겹쳐 읽음) */
+    @Scheduled(fixedDelayString = "${post.search.sync-interval-ms:30000}",
+            initialDelayString = "${post.search.sync-interval-ms:30000}")
+    public synchronized void sync() {
+        syncTimer.record(() -> {
+            LocalDateTime since = watermark == null ? null : watermark.minus(syncOverlap);
+            LocalDateTime cursorUpdatedAt = null;
+            Long cursorId = null;
+            int applied = 0;
+            while (true) {
+                List<PostSearchDocument> rows = postMapper.findSearchDocuments(since, cursorUpdatedAt, cursorId, batchSize);
+                for (PostSearchDocument row : rows) {
+                    apply(row);
+                    if (watermark == null || row.getUpdatedAt().isAfter(watermark)) {
+                        watermark = row.getUpdatedAt();
+                    }
+                }
+                applied += rows.size();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                PostSearchDocument last = rows.get(rows.size() - 1);
+                cursorUpdatedAt = last.getUpdatedAt();
+                cursorId = last.getId();
+            }
+            if (applied > 0) {
+                log.debug("검색 색인 동기화: {}건", applied);
+            }
+        });
+    }
+
+    /** 색인에만 남아 있는 글(삭제/비공개) 제거 후 스냅샷 저장 */
+    @Scheduled(fixedDelayString = "${post.search.snapshot-interval-ms:600000}",
+            initialDelayString = "${post.search.snapshot-interval-ms:600000}")
+    public void maintain() {
+        reconcile();
+        saveSnapshot();
+    }
+
+    @PreDestroy
+    void saveOnShutdown() {
+        saveSnapshot();
+    }
+
+    synchronized void reconcile() {
+        Set<Long> published = new HashSet<>();
+        long afterId = 0;
+        while (true) {
+            List<PostSummary> page = postMapper.findViewCounts(afterId, batchSize);
+            Map<Long, Long> views = new HashMap<>(page.size() * 2);
+            page.forEach(p -> {
+                published.add(p.getId());
+                views.put(p.getId(), (long) p.getViews());
+            });
+            postSuggestService.updateViews(views);
+            if (page.size() < batchSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        for (Long postId : index.postIds()) {
+            if (!published.contains(postId)) {
+                unindex(postId);
+            }
+        }
+    }
+
+    private void apply(PostSearchDocument row) {
+        postTagIndex.update(row.getId(), row.getStatus(), row.getCategory(), row.getTags());
+        if (!"PUBLISHED".equals(row.getStatus())) {
+            unindex(row.getId());
+            return;
+        }
+        String content = row.getContent();
+        if (content != null && content.length() > maxContentChars) {
+            content = content.substring(0, maxContentChars);
+        }
+        index.upsert(row.getId(), InvertedIndex.fields(row.getTitle(), content, row.getCategory(),
+                row.getTags() == null ? null : row.getTags().replace(',', ' ')));
+        postSuggestService.upsertPost(row.getId(), row.getSlug(), row.getTitle(), row.getTags());
+    }
+
+    private void loadSuggestions() {
+        long afterId = 0;
+        while (true) {
+            List<PostSearchDocument> page = postMapper.findSuggestionSources(afterId, batchSize);
+            page.forEach(row -> postSuggestService.upsertPost(row.getId(), row.getSlug(), row.getTitle(), row.getTags()));
+            if (page.size() < batchSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /** 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료돼도 이전 스냅샷 유지) */
+    synchronized void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotPath.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeUTF(watermark == null ? "" : watermark.toString());
+                index.writeTo(data);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            DataInputStream data = new DataInputStream(in);
+            String savedWatermark = data.readUTF();
+            InvertedIndex loaded = InvertedIndex.readFrom(data);
+            index = loaded;
+            watermark = savedWatermark.isEmpty() ? null : LocalDateTime.parse(savedWatermark);
+            log.info("검색 색인 스냅샷 로드: 게시글 {}건 (기준 {})", loaded.size(), watermark);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못해 전체 색인합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
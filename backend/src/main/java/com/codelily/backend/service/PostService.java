@@ -0,0 +1,213 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.dto.PostPageResponse;
+import com.codelily.backend.dto.PostRanking;
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class PostService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> STATUSES = Set.of("PUBLISHED", "DRAFT");
+    private static final int MAX_TAG_PAGE_ROUNDS = 3;
+
+    private final PostMapper postMapper;
+    private final PostDetailCache postDetailCache;
+    private final PostViewCounter postViewCounter;
+    private final PostLeaderboard postLeaderboard;
+    private final PostTagIndex postTagIndex;
+
+    // 인기 게시글 응답 (key: 기간 + 개수) – 만료 순간 동시 요청이 몰려도 DB 조회는 한 번
+    private final SingleFlightLoader<TopKey, List<PostRanking>> topPostsCache;
+
+    public PostService(PostMapper postMapper,
+                       PostDetailCache postDetailCache,
+                       PostViewCounter postViewCounter,
+                       PostLeaderboard postLeaderboard,
+                       PostTagIndex postTagIndex,
+                       MeterRegistry meterRegistry,
+                       @Value("${post.top.refresh-after:PT5S}") Duration topRefreshAfter,
+                       @Value("${post.top.ttl:PT1M}") Duration topTtl) {
+        this.postMapper = postMapper;
+        this.postDetailCache = postDetailCache;
+        this.postViewCounter = postViewCounter;
+        this.postLeaderboard = postLeaderboard;
+        this.postTagIndex = postTagIndex;
+        this.topPostsCache = new SingleFlightLoader<>("post.top", 1000, topRefreshAfter, topTtl, meterRegistry);
+    }
+
+    /**
+     * 게시글 목록 (커서 기반)
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 null)
+     * - size+1건을 조회해 다음 페이지 존재 여부 판단
+     * - tags가 있으면 태그 비트맵에서 id 페이지를 고른 뒤 해당 요약만 조회 (post_tags 조인 없음)
+     * - DRAFT는 로그인 사용자 본인 글만 (관리자는 전체), 비로그인은 항상 PUBLISHED
+     */
+    public PostPageResponse listPosts(String cursor, Integer size, String category, String status, String tags,
+                                      Long viewerId, boolean admin) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String normalizedStatus = status == null || status.isBlank() ? "PUBLISHED" : status.toUpperCase();
+        if (!STATUSES.contains(normalizedStatus)) {
+            throw new IllegalArgumentException("지원하지 않는 게시글 상태입니다: " + status);
+        }
+        if (viewerId == null) {
+            normalizedStatus = "PUBLISHED";
+        }
+        Long authorId = "DRAFT".equals(normalizedStatus) && !admin ? viewerId : null;
+        String normalizedCategory = category == null || category.isBlank() ? null : category;
+
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        if (tags != null && !tags.isBlank()) {
+            return listByTags(PostTagIndex.TagQuery.parse(tags), after, limit, normalizedCategory, normalizedStatus,
+                    authorId);
+        }
+        List<PostSummary> rows = postMapper.findPostSummaries(normalizedStatus, normalizedCategory, authorId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<PostSummary> items = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = items.get(items.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new PostPageResponse(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 태그 필터 목록: 비트맵에서 id를 최신순(id 내림차순)으로 골라 PK로 요약 조회
+     * - 비트맵 반영 전 상태/카테고리가 바뀐 글은 DB 값으로 다시 걸러냄 (걸러진 만큼 다음 id를 더 읽음)
+     * - 커서 형식은 일반 목록과 같음 (id만 사용)
+     * - 걸러지는 글이 많아 MAX_TAG_PAGE_ROUNDS 안에 페이지를 못 채우면 덜 찬 페이지 + 마지막으로 읽은 id 커서 반환
+     * - authorId가 있으면 해당 작성자 글만 (비트맵에는 작성자가 없으므로 DB 값으로 거름)
+     */
+    private PostPageResponse listByTags(PostTagIndex.TagQuery query, Cursor after, int limit,
+                                        String category, String status, Long authorId) {
+        List<PostSummary> items = new ArrayList<>(limit + 1);
+        Long beforeId = after != null ? after.id() : null;
+        PostSummary lastScanned = null;
+        boolean exhausted = false;
+        for (int round = 0; round < MAX_TAG_PAGE_ROUNDS && items.size() <= limit; round++) {
+            int want = limit + 1 - items.size();
+            long[] ids = postTagIndex.findIds(query, status, category, beforeId, want);
+            if (ids.length == 0) {
+                exhausted = true;
+                break;
+            }
+            for (PostSummary row : postMapper.findSummariesByIds(Arrays.stream(ids).boxed().toList())) {
+                if (status.equals(row.getStatus()) && (category == null || category.equals(row.getCategory()))
+                        && (authorId == null || authorId.equals(row.getAuthorId()))) {
+                    items.add(row);
+                }
+                lastScanned = row;
+            }
+            beforeId = ids[ids.length - 1];
+            exhausted = ids.length < want;
+        }
+
+        if (items.size() > limit) {
+            List<PostSummary> page = items.subList(0, limit);
+            PostSummary last = page.get(page.size() - 1);
+            return new PostPageResponse(page, new Cursor(last.getCreatedAt(), last.getId()).encode(), true);
+        }
+        if (!exhausted && lastScanned != null) {
+            // 조회 횟수 한도에 걸림: 덜 찬 페이지라도 마지막으로 읽은 id 다음부터 이어서 읽도록 커서를 줌
+            return new PostPageResponse(items, new Cursor(lastScanned.getCreatedAt(), beforeId).encode(), true);
+        }
+        return new PostPageResponse(items, null, false);
+    }
+
+    /**
+     * 게시글 상세 조회 (slug) + 조회수 기록
+     * - 상세는 로컬/Redis 2단 캐시에서 조회 (캐시 적중 시 DB 접근 없음)
+     * - 조회수는 Redis에 누적 후 주기적으로 반영 (응답의 views는 캐시 시점 값)
+     * - 게시 중인 글만 응답/조회수 기록 (임시글은 없는 글과 같게 404)
+     */
+    public Optional<PostDetail> getPost(String slug, String viewerKey) {
+        Optional<PostDetail> post = postDetailCache.get(slug).filter(p -> "PUBLISHED".equals(p.getStatus()));
+        post.ifPresent(p -> postViewCounter.recordView(p.getId(), viewerKey));
+        return post;
+    }
+
+    /**
+     * 인기 게시글 (Redis/로컬 랭킹 → 상위 id만 PK로 조회)
+     * - window: all(기본) | hour | day
+     * - 비공개 전환 등으로 빠지는 글을 고려해 limit의 2배까지 후보를 조회
+     * - 결과는 post.top.refresh-after 동안 재사용, 이후에는 옛 값 응답 + 백그라운드 갱신
+     */
+    public List<PostRanking> topPosts(int limit, String window) {
+        PostLeaderboard.Window period = PostLeaderboard.Window.from(window);
+        int n = Math.min(Math.max(limit, 1), PostLeaderboard.MAX_LIMIT);
+        return topPostsCache.get(new TopKey(period, n), this::loadTopPosts);
+    }
+
+    private List<PostRanking> loadTopPosts(TopKey key) {
+        PostLeaderboard.Window period = key.window();
+        int n = key.limit();
+        List<PostLeaderboard.Entry> candidates = postLeaderboard.top(period, n * 2);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummary> posts = postMapper.findPublishedSummariesByIds(
+                        candidates.stream().map(PostLeaderboard.Entry::postId).toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::getId, Function.identity()));
+
+        List<PostRanking> rankings = new ArrayList<>(n);
+        for (PostLeaderboard.Entry entry : candidates) {
+            PostSummary post = posts.get(entry.postId());
+            if (post != null) {
+                rankings.add(new PostRanking(rankings.size() + 1, entry.score(), post));
+                if (rankings.size() == n) {
+                    break;
+                }
+            }
+        }
+        return List.copyOf(rankings);
+    }
+
+    private record TopKey(PostLeaderboard.Window window, int limit) {
+    }
+
+    /** (created_at, id) 커서 – 클라이언트에는 불투명한 base64url 문자열로 전달 */
+    record Cursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSuggestion;
+import com.codelily.backend.search.HangulJamo;
+import com.codelily.backend.search.SuggestionIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색어 자동완성 (게시글 제목 + 태그, 입력 중인 한글 자모 단위 접두사 일치).
+ * - 요청 처리 시 DB 접근 없음: 메모리 색인(SuggestionIndex)만 조회
+ * - 원본은 PostSearchService 동기화가 채움 (제목/태그 변경, 게시 상태, 조회수)
+ * - 변경이 있으면 rebuild-interval마다 색인을 새로 만들어 교체 (조회 중인 요청은 이전 색인 사용)
+ * - 순위: 게시글은 조회수, 태그는 해당 태그 게시글의 조회수 합 + 게시글 수
+ */
+@Slf4j
+@Service
+public class PostSuggestService {
+
+    static final int DEFAULT_LIMIT = 8;
+    static final int MAX_LIMIT = 10;
+    static final int MAX_KEY_LENGTH = 48;   // 자모 기준 (한글 약 16자)
+    static final int MAX_KEYS_PER_TITLE = 4; // 제목 앞 + 단어 시작 위치 3곳
+
+    private record PostEntry(String slug, String title, List<String> tags) {
+    }
+
+    private final Map<Long, PostEntry> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Long> views = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private volatile SuggestionIndex<PostSuggestion> index = SuggestionIndex.empty();
+
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+
+    public PostSuggestService(MeterRegistry meterRegistry) {
+        this.queryTimer = Timer.builder("post.suggest.query")
+                .description("자동완성 조회 소요 시간").register(meterRegistry);
+        this.rebuildTimer = Timer.builder("post.suggest.rebuild")
+                .description("자동완성 색인 재구성 소요 시간").register(meterRegistry);
+        Gauge.builder("post.suggest.keys", this, s -> s.index.keyCount())
+                .description("자동완성 색인 키 수").register(meterRegistry);
+    }
+
+    /**
+     * 입력 중인 검색어로 자동완성 (빈 입력은 빈 목록)
+     * - limit: 기본 8 / 최대 10
+     */
+    public List<PostSuggestion> suggest(String q, Integer limit) {
+        String prefix = HangulJamo.normalize(q);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_KEY_LENGTH) {
+            prefix = prefix.substring(0, MAX_KEY_LENGTH);
+        }
+        int n = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        String key = prefix;
+        return queryTimer.record(() -> index.suggest(key, n));
+    }
+
+    /** 게시 중인 글 추가/변경 (tags: 쉼표로 구분) */
+    public void upsertPost(Long postId, String slug, String title, String tags) {
+        List<String> tagList = tags == null || tags.isBlank() ? List.of()
+                : Arrays.stream(tags.split(",")).map(String::strip).filter(t -> !t.isEmpty()).toList();
+        PostEntry entry = new PostEntry(slug, title, tagList);
+        if (!entry.equals(posts.put(postId, entry))) {
+            dirty.set(true);
+        }
+    }
+
+    public void removePost(Long postId) {
+        if (posts.remove(postId) != null) {
+            dirty.set(true);
+        }
+        views.remove(postId);
+    }
+
+    /** 조회수 갱신 (순위 반영) */
+    public void updateViews(Map<Long, Long> latest) {
+        latest.forEach((postId, count) -> {
+            if (!Objects.equals(views.put(postId, count), count)) {
+                dirty.set(true);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${post.suggest.rebuild-interval-ms:1000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    synchronized void rebuild() {
+        rebuildTimer.record(() -> {
+            SuggestionIndex.Builder<PostSuggestion> builder = SuggestionIndex.builder();
+            Map<String, double[]> tagScores = new HashMap<>(); // 태그 → [조회수 합, 게시글 수]
+            Map<String, String> tagNames = new HashMap<>();
+
+            posts.forEach((postId, entry) -> {
+                long viewCount = views.getOrDefault(postId, 0L);
+                builder.add(new PostSuggestion("POST", entry.title(), postId, entry.slug()),
+                        viewCount, titleKeys(entry.title()));
+                for (String tag : entry.tags()) {
+                    String key = HangulJamo.normalize(tag);
+                    double[] score = tagScores.computeIfAbsent(key, k -> new double[2]);
+                    score[0] += viewCount;
+                    score[1]++;
+                    tagNames.putIfAbsent(key, tag);
+                }
+            });
+            tagScores.forEach((key, score) -> builder.add(new PostSuggestion("TAG", tagNames.get(key), null, null),
+                    score[0] + score[1], List.of(truncate(key))));
+
+            index = builder.build();
+        });
+    }
+
+    /** 제목 전체 + 단어 시작 위치별 키 ("스프링 시큐리티" → "스프링 시큐리티", "시큐리티") */
+    static List<String> titleKeys(String title) {
+        String normalized = HangulJamo.normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(truncate(normalized));
+        int from = 0;
+        while (keys.size() < MAX_KEYS_PER_TITLE) {
+            int space = normalized.indexOf(' ', from);
+            if (space < 0) {
+                break;
+            }
+            keys.add(truncate(normalized.substring(space + 1)));
+            from = space + 1;
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
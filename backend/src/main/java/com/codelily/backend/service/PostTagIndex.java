@@ -0,0 +1,295 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSearchDocument;
+import com.codelily.backend.mapper.PostMapper;
+import com.codelily.backend.search.CompressedBitmap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 태그/카테고리/상태별 게시글 id 비트맵 (CompressedBitmap).
+ * - post_tags 자체 조인 없이 여러 태그의 AND/OR/NOT 조합을 메모리에서 계산
+ * - 게시글 변경은 PostSearchService 동기화가 update/remove로 반영
+ * - updated_at을 바꾸지 않는 태그 변경까지 맞추기 위해 주기적으로 전체 재구성 (id/상태/카테고리/태그만 읽음)
+ */
+@Slf4j
+@Service
+public class PostTagIndex {
+
+    private record PostTags(String status, String category, Set<String> tags) {
+    }
+
+    /**
+     * 태그 조건: 쉼표로 구분한 항목을 모두 만족(AND)
+     * - "a|b": a 또는 b (OR), "-a": a 제외 (NOT)
+     * 예) "spring,java|kotlin,-legacy"
+     */
+    public record TagQuery(List<Set<String>> required, Set<String> excluded) {
+
+        static final int MAX_TERMS = 20;
+
+        public static TagQuery parse(String expression) {
+            List<Set<String>> required = new ArrayList<>();
+            Set<String> excluded = new HashSet<>();
+            int terms = 0;
+            for (String raw : expression.split(",")) {
+                String term = raw.strip();
+                if (term.isEmpty()) {
+                    continue;
+                }
+                if (++terms > MAX_TERMS) {
+                    throw new IllegalArgumentException("태그 조건은 " + MAX_TERMS + "개까지 지정할 수 있습니다.");
+                }
+                if (term.startsWith("-")) {
+                    String tag = normalize(term.substring(1));
+                    if (!tag.isEmpty()) {
+                        excluded.add(tag);
+                    }
+                    continue;
+                }
+                Set<String> anyOf = Arrays.stream(term.split("\\|"))
+                        .map(PostTagIndex::normalize)
+                        .filter(t -> !t.isEmpty())
+                        .collect(Collectors.toSet());
+                if (!anyOf.isEmpty()) {
+                    required.add(anyOf);
+                }
+            }
+            if (required.isEmpty() && excluded.isEmpty()) {
+                throw new IllegalArgumentException("태그 조건이 비어 있습니다.");
+            }
+            return new TagQuery(required, excluded);
+        }
+    }
+
+    private final PostMapper postMapper;
+    private final int batchSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps();
+
+    // 전체 재구성 중 들어온 변경 (재구성 결과에 다시 적용)
+    private List<Runnable> replay;
+
+    private final Timer queryTimer;
+
+    public PostTagIndex(PostMapper postMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${post.tags.batch-size:2000}") int batchSize) {
+        this.postMapper = postMapper;
+        this.batchSize = batchSize;
+        this.queryTimer = Timer.builder("post.tags.query")
+                .description("태그 비트맵 조회 소요 시간").register(meterRegistry);
+        Gauge.builder("post.tags.tags", this, t -> t.bitmaps.byTag.size())
+                .description("태그 비트맵 수").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void buildOnStartup() {
+        rebuild();
+    }
+
+    /** post_tags 기준 전체 재구성 */
+    @Scheduled(fixedDelayString = "${post.tags.rebuild-interval-ms:300000}",
+            initialDelayString = "${post.tags.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps fresh = new Bitmaps();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<PostSearchDocument> page = postMapper.findTagIndexRows(afterId, batchSize);
+                page.stream().filter(row -> fits(row.getId()))
+                        .forEach(row -> fresh.apply(row.getId(), tags(row.getStatus(), row.getCategory(), row.getTags())));
+                if (page.size() < batchSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = fresh;
+            List<Runnable> pending = replay;
+            replay = null;
+            pending.forEach(Runnable::run);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("태그 비트맵 재구성: 게시글 {}건, 태그 {}개", fresh.posts.size(), fresh.byTag.size());
+    }
+
+    /** 게시글의 상태/카테고리/태그 반영 (tags: 쉼표로 구분) */
+    public void update(Long postId, String status, String category, String tags) {
+        if (!fits(postId)) {
+            return;
+        }
+        PostTags next = tags(status, category, tags);
+        lock.writeLock().lock();
+        try {
+            bitmaps.apply(postId, next);
+            if (replay != null) {
+                replay.add(() -> bitmaps.apply(postId, next));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        if (!fits(postId)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            bitmaps.apply(postId, null);
+            if (replay != null) {
+                replay.add(() -> bitmaps.apply(postId, null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 게시글 id (큰 id부터, beforeId 미만, 최대 limit개)
+     * - id는 생성 순서로 발급되므로 id 내림차순 = 최신순
+     */
+    public long[] findIds(TagQuery query, String status, String category, Long beforeId, int limit) {
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                Bitmaps current = bitmaps;
+                CompressedBitmap result = current.byStatus.get(status);
+                if (result == null) {
+                    return new long[0];
+                }
+                if (category != null) {
+                    result = result.and(current.byCategory.getOrDefault(category, new CompressedBitmap()));
+                }
+                for (Set<String> anyOf : query.required()) {
+                    CompressedBitmap union = new CompressedBitmap();
+                    for (String tag : anyOf) {
+                        CompressedBitmap bitmap = current.byTag.get(tag);
+                        if (bitmap != null) {
+                            union = union.or(bitmap);
+                        }
+                    }
+                    result = result.and(union);
+                    if (result.isEmpty()) {
+                        return new long[0];
+                    }
+                }
+                for (String tag : query.excluded()) {
+                    CompressedBitmap bitmap = current.byTag.get(tag);
+                    if (bitmap != null) {
+                        result = result.andNot(bitmap);
+                    }
+                }
+                int upper = beforeId == null || beforeId > Integer.MAX_VALUE ? Integer.MAX_VALUE : beforeId.intValue();
+                return Arrays.stream(result.descendingBelow(upper, limit)).asLongStream().toArray();
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    private static PostTags tags(String status, String category, String tags) {
+        Set<String> tagSet = tags == null ? Set.of() : Arrays.stream(tags.split(","))
+                .map(PostTagIndex::normalize).filter(t -> !t.isEmpty()).collect(Collectors.toSet());
+        return new PostTags(status, category, tagSet);
+    }
+
+    private static boolean fits(Long postId) {
+        if (postId == null || postId < 0 || postId > Integer.MAX_VALUE) {
+            log.warn("태그 비트맵에 담을 수 없는 게시글 id: {}", postId);
+            return false;
+        }
+        return true;
+    }
+
+    static String normalize(String tag) {
+        return tag == null ? "" : tag.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** 게시글별 현재 값 + 값별 비트맵 (변경 시 이전 값의 비트를 지우기 위해 게시글별 값도 보관) */
+    private static final class Bitmaps {
+
+        private final Map<Long, PostTags> posts = new HashMap<>();
+        private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+        private final Map<String, CompressedBitmap> byCategory = new HashMap<>();
+        private final Map<String, CompressedBitmap> byStatus = new HashMap<>();
+
+        void apply(Long postId, PostTags next) {
+            PostTags previous = next == null ? posts.remove(postId) : posts.put(postId, next);
+            if (Objects.equals(previous, next)) {
+                return;
+            }
+            int id = postId.intValue();
+            if (previous != null) {
+                unset(byStatus, previous.status(), id);
+                unset(byCategory, previous.category(), id);
+                previous.tags().forEach(tag -> unset(byTag, tag, id));
+            }
+            if (next != null) {
+                set(byStatus, next.status(), id);
+                set(byCategory, next.category(), id);
+                next.tags().forEach(tag -> set(byTag, tag, id));
+            }
+        }
+
+        private static void set(Map<String, CompressedBitmap> index, String key, int id) {
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new CompressedBitmap()).add(id);
+            }
+        }
+
+        private static void unset(Map<String, CompressedBitmap> index, String key, int id) {
+            if (key == null) {
+                return;
+            }
+            CompressedBitmap bitmap = index.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
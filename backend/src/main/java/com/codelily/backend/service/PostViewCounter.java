@@ -0,0 +1,230 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.RedisScripts;
+import com.codelily.backend.mapper.PostMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 조회수 집계.
+ * - 조회 시점에는 MySQL을 건드리지 않고 Redis(HINCRBY pv:pending)에만 누적
+ * - 같은 조회자는 게시글/일자별 HyperLogLog로 하루 한 번만 집계 (HLL 추정치 기준, 오차 약 1%)
+ * - Redis 장애 시 노드 로컬 LongAdder(스트라이프 카운터)에 누적하고 로컬 캐시로 중복 제거
+ *   (로컬 카운터는 장애 중 조회된 게시글 수만큼만 생기므로 비워진 뒤에도 재사용)
+ * - 주기적으로 누적분을 UPDATE ... CASE 한 문장으로 posts.views에 반영하고 랭킹(PostLeaderboard)에 누적
+ * - 종료 시 마지막 반영은 Redis 연결이 닫히기 전에 실행 (SmartLifecycle.stop, @PreDestroy 시점엔 이미 닫혀 있음)
+ */
+@Slf4j
+@Service
+public class PostViewCounter implements SmartLifecycle {
+
+    static final String PENDING_KEY = "pv:pending";
+    private static final String UNIQUE_KEY_PREFIX = "pv:uv:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Duration UNIQUE_TTL = Duration.ofDays(2); // 자정 전후 조회를 고려해 하루 더 유지
+    // 웹 서버 종료(DEFAULT_PHASE - 2048) 이후, LettuceConnectionFactory(phase 0) 종료 이전
+    static final int SHUTDOWN_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final RedisScript<Long> VIEW_SCRIPT =
+            RedisScripts.load("redis/post_view.lua", Long.class);
+    private static final RedisScript<List> DRAIN_SCRIPT =
+            RedisScripts.load("redis/hash_drain.lua", List.class);
+
+    private final StringRedisTemplate redis;
+    private final PostMapper postMapper;
+    private final PostLeaderboard postLeaderboard;
+    private final int batchSize;
+
+    // Redis 장애 시 사용하는 로컬 누적/중복 제거
+    private final ConcurrentHashMap<Long, LongAdder> localPending = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> localSeen;
+
+    private final Counter redisViews;
+    private final Counter localViews;
+    private final Counter duplicateViews;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+
+    public PostViewCounter(StringRedisTemplate redis,
+                           PostMapper postMapper,
+                           PostLeaderboard postLeaderboard,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.views.batch-size:500}") int batchSize,
+                           @Value("${post.views.local-dedupe-size:100000}") long localDedupeSize) {
+        this.redis = redis;
+        this.postMapper = postMapper;
+        this.postLeaderboard = postLeaderboard;
+        this.batchSize = batchSize;
+        this.localSeen = Caffeine.newBuilder()
+                .maximumSize(localDedupeSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+
+        this.redisViews = Counter.builder("post.views.recorded")
+                .tag("store", "redis").description("집계된 조회").register(meterRegistry);
+        this.localViews = Counter.builder("post.views.recorded")
+                .tag("store", "local").description("Redis 장애로 로컬에 집계된 조회").register(meterRegistry);
+        this.duplicateViews = Counter.builder("post.views.duplicates")
+                .description("같은 날 같은 조회자의 중복 조회").register(meterRegistry);
+        this.flushTimer = Timer.builder("post.views.flush")
+                .description("조회수 DB 반영 소요 시간").register(meterRegistry);
+        Gauge.builder("post.views.local-pending", localPending, Map::size)
+                .description("로컬에 누적된 게시글 수").register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록 (MySQL 접근 없음)
+     * @param viewerKey 사용자 id 또는 IP 기반 조회자 식별자
+     * @return 새로 집계되었으면 true, 오늘 이미 집계된 조회자면 false
+     */
+    public boolean recordView(Long postId, String viewerKey) {
+        String day = LocalDate.now().format(DAY);
+        try {
+            Long added = redis.execute(VIEW_SCRIPT, List.of(UNIQUE_KEY_PREFIX + postId + ":" + day, PENDING_KEY),
+                    viewerKey, String.valueOf(postId), String.valueOf(UNIQUE_TTL.toMillis()));
+            return counted(added != null && added > 0, redisViews);
+        } catch (DataAccessException e) {
+            log.debug("조회수 Redis 기록 실패 - 로컬 카운터 사용: {}", e.getMessage());
+            boolean first = localSeen.asMap().putIfAbsent(postId + ":" + day + ":" + viewerKey, Boolean.TRUE) == null;
+            if (first) {
+                localPending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+            }
+            return counted(first, localViews);
+        }
+    }
+
+    /** Redis/로컬 누적분을 posts.views에 일괄 반영 */
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> redisDeltas = drainRedis();
+        Map<Long, Long> localDeltas = drainLocal();
+
+        write(redisDeltas, this::restoreRedis);
+        write(localDeltas, this::restoreLocal);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /** 종료 전 마지막 반영 (새 요청이 끊긴 뒤, Redis 연결이 살아 있을 때) */
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SHUTDOWN_PHASE;
+    }
+
+    private boolean counted(boolean counted, Counter store) {
+        (counted ? store : duplicateViews).increment();
+        return counted;
+    }
+
+    private Map<Long, Long> drainRedis() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        try {
+            List<?> entries = redis.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+            if (entries == null) {
+                return deltas;
+            }
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                deltas.merge(Long.valueOf(String.valueOf(entries.get(i))),
+                        Long.valueOf(String.valueOf(entries.get(i + 1))), Long::sum);
+            }
+        } catch (RuntimeException e) {
+            // 연결 팩토리가 이미 멈춘 경우(IllegalStateException) 등도 포함 - 로컬 누적분 반영은 계속
+            log.warn("조회수 Redis 누적분 조회 실패 - 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+        return deltas;
+    }
+
+    private Map<Long, Long> drainLocal() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        localPending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void write(Map<Long, Long> deltas, Consumer<Map<Long, Long>> restore) {
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                writeBatch(batch, restore);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        writeBatch(batch, restore);
+    }
+
+    private void writeBatch(Map<Long, Long> batch, Consumer<Map<Long, Long>> restore) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> postMapper.incrementViews(batch));
+        } catch (RuntimeException e) {
+            log.warn("조회수 DB 반영 실패 ({}건) - 누적분을 되돌립니다.", batch.size(), e);
+            restore.accept(batch);
+            return;
+        }
+        // DB에 반영된 만큼만 랭킹에 누적 (실패분은 되돌려져 다음 주기에 다시 반영되므로)
+        postLeaderboard.recordViews(batch);
+    }
+
+    private void restoreRedis(Map<Long, Long> batch) {
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = PENDING_KEY.getBytes(StandardCharsets.UTF_8);
+                batch.forEach((postId, delta) -> connection.hashCommands()
+                        .hIncrBy(key, String.valueOf(postId).getBytes(StandardCharsets.UTF_8), delta));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            restoreLocal(batch);
+        }
+    }
+
+    private void restoreLocal(Map<Long, Long> batch) {
+        batch.forEach((postId, delta) -> localPending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+    }
+}
@@ -0,0 +1,177 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.RateLimitProperties;
+import com.codelily.backend.config.RateLimitProperties.Policy;
+import com.codelily.backend.config.RedisScripts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 토큰 버킷 + 노드 로컬 리스 방식의 Rate Limiter.
+ * - 버킷 상태는 Redis에 두고 Lua 스크립트로 원자적으로 갱신합니다.
+ * - 한 번에 여러 토큰을 빌려와 로컬에서 소진하므로 대부분의 판정은 네트워크 없이 끝납니다.
+ * - 거절된 키는 다음 토큰 시각까지 로컬에서 바로 거절합니다.
+ * - Redis 장애 시에는 같은 설정의 로컬 버킷으로만 판정합니다.
+ *   장애를 감지하면 redis-retry-interval 동안은 Redis를 호출하지 않고, 이후 한 요청만 다시 시도합니다.
+ *   (장애/복구 전환 시에만 로그)
+ */
+@Slf4j
+@Service
+public class RateLimiter {
+
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScripts.load("redis/token_bucket.lua", List.class);
+
+    private final StringRedisTemplate redis;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, Lease> leases = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(5))
+            .build();
+
+    // Redis 장애 중 다음 재시도 시각 (0 = 정상)
+    private final AtomicLong redisRetryAt = new AtomicLong();
+
+    public RateLimiter(StringRedisTemplate redis, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** 판정 결과 (응답 헤더용 값 포함) */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {}
+
+    public Decision tryAcquire(Policy policy, String key) {
+        String bucketKey = "rl:" + policy.getName() + ":" + key;
+        Lease lease = leases.get(bucketKey, k -> new Lease());
+        Decision decision;
+        synchronized (lease) {
+            decision = acquire(policy, bucketKey, lease, System.currentTimeMillis());
+        }
+        meterRegistry.counter("rate-limit.decisions",
+                "policy", policy.getName(), "outcome", decision.allowed() ? "allowed" : "throttled").increment();
+        return decision;
+    }
+
+    private Decision acquire(Policy policy, String bucketKey, Lease lease, long now) {
+        // 1. 로컬 리스에 남은 토큰 사용
+        if (lease.tokens > 0 && now < lease.expiresAt) {
+            lease.tokens--;
+            return allowed(policy, lease);
+        }
+        // 2. 최근 거절된 키는 다음 토큰 시각까지 로컬에서 거절
+        if (now < lease.deniedUntil) {
+            return denied(policy, lease.deniedUntil - now);
+        }
+
+        // 3. Redis에서 토큰 묶음을 원자적으로 빌려옴
+        long leaseSize = Math.max(1, Math.min(policy.getCapacity(),
+                policy.getLeaseSize() > 0 ? policy.getLeaseSize() : properties.getLeaseSize()));
+        long granted = -1;
+        long retryAfterMillis = 0;
+        if (shouldCallRedis(now)) {
+            try {
+                List<?> result = redis.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                        String.valueOf(policy.getCapacity()),
+                        String.valueOf(refillPerMilli(policy)),
+                        String.valueOf(leaseSize));
+                granted = toLong(result.get(0));
+                lease.globalRemaining = toLong(result.get(1));
+                retryAfterMillis = toLong(result.get(2));
+                markRedisUp();
+            } catch (DataAccessException e) {
+                markRedisDown(now, e);
+            }
+        }
+        if (granted < 0) {
+            granted = lease.takeLocal(policy, leaseSize, now);
+            retryAfterMillis = (long) Math.ceil(1 / refillPerMilli(policy));
+        }
+
+        if (granted <= 0) {
+            lease.tokens = 0;
+            lease.deniedUntil = now + Math.max(1, retryAfterMillis);
+            return denied(policy, retryAfterMillis);
+        }
+        lease.tokens = granted - 1;
+        lease.expiresAt = now + properties.getLeaseTtl().toMillis();
+        return allowed(policy, lease);
+    }
+
+    /** 정상이면 항상, 장애 중이면 재시도 시각이 지난 뒤 한 요청만 true */
+    private boolean shouldCallRedis(long now) {
+        long retryAt = redisRetryAt.get();
+        return retryAt == 0
+                || (now >= retryAt && redisRetryAt.compareAndSet(retryAt, now + properties.getRedisRetryInterval().toMillis()));
+    }
+
+    private void markRedisDown(long now, DataAccessException e) {
+        if (redisRetryAt.getAndSet(now + properties.getRedisRetryInterval().toMillis()) == 0) {
+            log.warn("Rate limit Redis 호출 실패 - {} 동안 로컬 버킷으로 판정합니다: {}",
+                    properties.getRedisRetryInterval(), e.getMessage());
+        }
+    }
+
+    private void markRedisUp() {
+        if (redisRetryAt.get() != 0 && redisRetryAt.getAndSet(0) != 0) {
+            log.info("Rate limit Redis 복구 - Redis 버킷으로 판정합니다.");
+        }
+    }
+
+    private Decision allowed(Policy policy, Lease lease) {
+        long remaining = Math.min(policy.getCapacity(), lease.tokens + lease.globalRemaining);
+        long missing = policy.getCapacity() - remaining;
+        long reset = (long) Math.ceil(missing / policy.getRefillPerSecond());
+        return new Decision(true, policy.getCapacity(), remaining, reset, 0);
+    }
+
+    private Decision denied(Policy policy, long retryAfterMillis) {
+        long retryAfter = Math.max(1, (long) Math.ceil(retryAfterMillis / 1000.0));
+        long reset = (long) Math.ceil(policy.getCapacity() / policy.getRefillPerSecond());
+        return new Decision(false, policy.getCapacity(), 0, reset, retryAfter);
+    }
+
+    private static double refillPerMilli(Policy policy) {
+        return policy.getRefillPerSecond() / 1000.0;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /** 키별 로컬 상태 (리스 토큰 + Redis 장애 시 로컬 버킷) */
+    private static final class Lease {
+        private long tokens;
+        private long expiresAt;
+        private long deniedUntil;
+        private long globalRemaining;
+
+        private double localTokens = -1;
+        private long localTs;
+
+        private long takeLocal(Policy policy, long requested, long now) {
+            if (localTokens < 0) {
+                localTokens = policy.getCapacity();
+                localTs = now;
+            }
+            localTokens = Math.min(policy.getCapacity(), localTokens + (now - localTs) * refillPerMilli(policy));
+            localTs = now;
+            long granted = Math.min(requested, (long) Math.floor(localTokens));
+            localTokens -= granted;
+            globalRemaining = (long) Math.floor(localTokens);
+            return granted;
+        }
+    }
+}
@@ -1,28 +1,44 @@
 package com.codelily.backend.service;
 
+import com.codelily.backend.config.JwtTokenProvider;
+import com.codelily.backend.config.RedisScripts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    // GET 비교 + SET 을 서버에서 한 번에 실행 (왕복 1회, 경쟁 조건 없음)
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScripts.load("redis/refresh_rotate.lua", Long.class);
+
     private final StringRedisTemplate redis;
+    private final BlacklistNearCache blacklistNearCache;
 
     private String rtKey(Long userId) { return "rt:" + userId; }
     private String blKey(String tokenIdOrHash) { return "bl:" + tokenIdOrHash; }
 
-    /** Refresh 저장(회전 시 갱신) */
+    /** Refresh 저장 (토큰 원문 대신 다이제스트 저장) */
     public void storeRefresh(Long userId, String refreshToken, Duration ttl) {
-        redis.opsForValue().set(rtKey(userId), refreshToken, ttl);
+        redis.opsForValue().set(rtKey(userId), JwtTokenProvider.digest(refreshToken), ttl);
     }
 
-    /** 현재 유효한 Refresh 조회 */
-    public String getRefresh(Long userId) {
-        return redis.opsForValue().get(rtKey(userId));
+    /**
+     * 저장된 Refresh가 currentToken일 때만 newToken으로 교체 (원자적 회전).
+     * 동시에 같은 토큰으로 요청하면 하나만 성공합니다.
+     */
+    public boolean rotateRefresh(Long userId, String currentToken, String newToken, Duration ttl) {
+        Long rotated = redis.execute(ROTATE_SCRIPT, List.of(rtKey(userId)),
+                JwtTokenProvider.digest(currentToken),
+                JwtTokenProvider.digest(newToken),
+                String.valueOf(ttl.toMillis()));
+        return rotated != null && rotated == 1L;
     }
 
     /** 로그아웃 등으로 Refresh 무효화 */
@@ -30,13 +46,19 @@ public class RefreshTokenService {
         redis.delete(rtKey(userId));
     }
 
-    /** 블랙리스트 등록 (jti 또는 토큰 해시) */
+    /** 블랙리스트 등록 (jti 또는 토큰 해시) → 전 노드의 로컬 필터에 전파 */
     public void blacklist(String tokenIdOrHash, Duration ttl) {
         redis.opsForValue().set(blKey(tokenIdOrHash), "1", ttl);
+        blacklistNearCache.add(tokenIdOrHash, ttl);
     }
 
-    /** 블랙리스트 확인 */
+    /** 블랙리스트 확인 (로컬 필터가 음성이면 Redis 조회 생략) */
     public boolean isBlacklisted(String tokenIdOrHash) {
-        return Boolean.TRUE.equals(redis.hasKey(blKey(tokenIdOrHash)));
+        if (!blacklistNearCache.mightBeBlacklisted(tokenIdOrHash)) {
+            return false;
+        }
+        boolean blacklisted = Boolean.TRUE.equals(redis.hasKey(blKey(tokenIdOrHash)));
+        blacklistNearCache.recordConfirmed(blacklisted);
+        return blacklisted;
     }
 }
@@ -0,0 +1,188 @@
+package com.codelily.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 키별 single-flight 로더 + stale-while-revalidate 로컬 캐시.
+ * - 캐시 미스가 동시에 몰리면 첫 요청만 loader를 실행하고 나머지는 같은 CompletableFuture를 기다림
+ * - freshFor가 지난 값은 그대로 응답하면서 백그라운드에서 한 번만 다시 로드 (maxStale 이후에는 만료)
+ * - invalidate() 이전에 시작된 로드 결과는 캐시에 저장하지 않음 (무효화 직후 옛 값 재캐시 방지)
+ * - null 결과는 캐시하지 않음
+ */
+@Slf4j
+public class SingleFlightLoader<K, V> {
+
+    private final Cache<K, Loaded<V>> values;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long freshNanos;
+    private final Ticker ticker;
+    private final Executor refresher;
+
+    private final Counter fresh;
+    private final Counter stale;
+    private final Counter loaded;
+    private final Counter joined;
+
+    /**
+     * @param name      메트릭 cache 태그 (cache.gets 등 Caffeine 메트릭과 cache.singleflight)
+     * @param freshFor  이 시간 동안은 다시 로드하지 않음
+     * @param maxStale  로드 후 이 시간이 지나면 만료 (다음 요청은 로드를 기다림)
+     */
+    public SingleFlightLoader(String name, long maxSize, Duration freshFor, Duration maxStale, MeterRegistry meterRegistry) {
+        this(name, maxSize, freshFor, maxStale, meterRegistry, Ticker.systemTicker(), refresherFor(name));
+    }
+
+    SingleFlightLoader(String name, long maxSize, Duration freshFor, Duration maxStale,
+                       MeterRegistry meterRegistry, Ticker ticker, Executor refresher) {
+        if (freshFor.compareTo(maxStale) > 0) {
+            throw new IllegalArgumentException("freshFor는 maxStale보다 길 수 없습니다: " + name);
+        }
+        this.freshNanos = freshFor.toNanos();
+        this.ticker = ticker;
+        this.refresher = refresher;
+        this.values = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxStale)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, values, name);
+
+        this.fresh = counter(meterRegistry, name, "fresh");
+        this.stale = counter(meterRegistry, name, "stale");
+        this.loaded = counter(meterRegistry, name, "loaded");
+        this.joined = counter(meterRegistry, name, "joined");
+    }
+
+    /**
+     * 캐시된 값 반환 (없으면 로드, 오래됐으면 옛 값 반환 후 백그라운드 갱신)
+     * - loader 예외는 같은 키를 기다리던 요청 모두에게 그대로 전달
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Loaded<V> cached = values.getIfPresent(key);
+        if (cached != null) {
+            if (ticker.read() - cached.loadedAt() < freshNanos) {
+                fresh.increment();
+            } else {
+                stale.increment();
+                refreshInBackground(key, loader);
+            }
+            return cached.value();
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            joined.increment();
+            return await(existing);
+        }
+        Loaded<V> justLoaded = values.getIfPresent(key); // 직전에 끝난 로드가 있으면 재사용
+        if (justLoaded != null) {
+            inFlight.remove(key, mine);
+            mine.complete(justLoaded.value());
+            fresh.increment();
+            return justLoaded.value();
+        }
+        loaded.increment();
+        load(key, loader, mine);
+        return await(mine);
+    }
+
+    /** 캐시된 값과 진행 중인 로드를 모두 무효화 */
+    public void invalidate(K key) {
+        inFlight.remove(key);
+        values.invalidate(key);
+    }
+
+    private void refreshInBackground(K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return; // 이미 갱신 중
+        }
+        try {
+            refresher.execute(() -> load(key, loader, mine));
+        } catch (RejectedExecutionException e) {
+            // 갱신 대기열이 가득 참 → 이번에는 옛 값으로 응답하고 다음 요청에서 다시 시도
+            inFlight.remove(key, mine);
+            mine.complete(null);
+        }
+    }
+
+    private void load(K key, Function<? super K, ? extends V> loader, CompletableFuture<V> future) {
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, future);
+            log.debug("캐시 로드 실패 (key={}): {}", key, e.toString());
+            future.completeExceptionally(e);
+            return;
+        }
+        // invalidate()와 같은 버킷 잠금 안에서 저장 여부를 결정 (무효화된 로드 결과는 버림)
+        inFlight.computeIfPresent(key, (k, current) -> {
+            if (current != future) {
+                return current;
+            }
+            if (value != null) {
+                values.put(k, new Loaded<>(value, ticker.read()));
+            }
+            return null;
+        });
+        future.complete(value);
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.singleflight")
+                .tag("cache", name).tag("result", result)
+                .description("single-flight 캐시 요청 (fresh/stale: 캐시 응답, loaded: 직접 로드, joined: 진행 중 로드 대기)")
+                .register(meterRegistry);
+    }
+
+    /** 키당 갱신은 한 번만 진행되므로 스레드 하나 + 작은 대기열이면 충분 */
+    private static Executor refresherFor(String name) {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + name);
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private record Loaded<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.codelily.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 시각 기준으로 버킷을 나눈 Bloom 필터.
+ * - 항목은 만료 시각이 속한 버킷에 기록되고, 버킷 전체가 만료되면 통째로 제거됩니다.
+ * - false negative는 없고, false positive는 버킷당 비트 수/해시 수로 조절합니다.
+ */
+public class TimeBucketedBloomFilter {
+
+    private final long bucketMillis;
+    private final int bitsPerBucket;
+    private final int hashFunctions;
+
+    // key: 버킷 인덱스 (버킷 만료 시각 = index * bucketMillis)
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    public TimeBucketedBloomFilter(long bucketMillis, int bitsPerBucket, int hashFunctions) {
+        if (bucketMillis <= 0 || bitsPerBucket < 64 || Integer.bitCount(bitsPerBucket) != 1 || hashFunctions < 1) {
+            throw new IllegalArgumentException("bucketMillis > 0, bitsPerBucket = 2^n (>= 64), hashFunctions >= 1 이어야 합니다.");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bitsPerBucket = bitsPerBucket;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /** 항목 추가 (expiresAtMillis 이후에는 조회되지 않아도 됨) */
+    public void put(String item, long expiresAtMillis) {
+        long index = Math.floorDiv(expiresAtMillis, bucketMillis) + 1;
+        buckets.computeIfAbsent(index, i -> new Bucket(bitsPerBucket)).put(hash64(item), hashFunctions);
+    }
+
+    /** 포함 가능성 확인 (false면 확실히 없음) */
+    public boolean mightContain(String item, long nowMillis) {
+        long hash = hash64(item);
+        for (Bucket bucket : buckets.tailMap(Math.floorDiv(nowMillis, bucketMillis), false).values()) {
+            if (bucket.mightContain(hash, hashFunctions)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 만료 시각이 지난 버킷 제거 */
+    public void expire(long nowMillis) {
+        buckets.headMap(Math.floorDiv(nowMillis, bucketMillis), true).clear();
+    }
+
+    /** 살아있는 버킷 수 */
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    /** 기록된 항목 수 (중복 포함 근사치) */
+    public long approximateSize() {
+        long size = 0;
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            size += entry.getValue().insertions.sum();
+        }
+        return size;
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    private static long hash64(String item) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : item.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLongArray words;
+        private final int mask;
+        private final LongAdder insertions = new LongAdder();
+
+        private Bucket(int bits) {
+            this.words = new AtomicLongArray(bits >>> 6);
+            this.mask = bits - 1;
+        }
+
+        private void put(long hash, int k) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < k; i++) {
+                int bit = (h1 + i * h2) & mask;
+                int word = bit >>> 6;
+                long flag = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & flag) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | flag));
+            }
+            insertions.increment();
+        }
+
+        private boolean mightContain(long hash, int k) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < k; i++) {
+                int bit = (h1 + i * h2) & mask;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
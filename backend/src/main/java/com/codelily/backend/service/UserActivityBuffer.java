@@ -0,0 +1,146 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 활동 시각(last_login_at) write-behind 버퍼.
+ * - 로그인/토큰 재발급 경로에서는 메모리에만 기록 (사용자당 가장 최근 시각 하나로 병합)
+ * - 주기적으로 UPDATE ... CASE 한 문장으로 일괄 반영, 종료 시에도 남은 항목 반영
+ * - 반영 실패 시 버퍼로 되돌려 다음 주기에 다시 시도 (그 사이 들어온 더 최근 시각이 우선)
+ * - max-attempts번 연속 실패한 항목은 버리고 user.activity.dropped로 집계 (DB 장애 중 버퍼가 무한히 커지지 않도록)
+ * - 장애 중에는 첫 실패만 스택 트레이스와 함께 경고, 복구 시 한 번 기록
+ */
+@Slf4j
+@Component
+public class UserActivityBuffer {
+
+    private final UserMapper userMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // userId → 가장 최근 로그인 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+    // userId → 연속 반영 실패 횟수 (flush에서만 접근)
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+    // 연속 실패 중인 주기 수 (0이면 정상)
+    private int failingCycles;
+
+    private final Timer flushTimer;
+    private final Counter failures;
+    private final Counter dropped;
+
+    public UserActivityBuffer(UserMapper userMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${user.activity.batch-size:500}") int batchSize,
+                              @Value("${user.activity.max-attempts:3}") int maxAttempts) {
+        this.userMapper = userMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("user.activity.buffer.size", pendingLogins, Map::size)
+                .description("DB 반영 대기 중인 사용자 수").register(meterRegistry);
+        this.flushTimer = Timer.builder("user.activity.flush")
+                .description("활동 시각 일괄 반영 소요 시간").register(meterRegistry);
+        this.failures = Counter.builder("user.activity.flush.failures")
+                .description("활동 시각 일괄 반영 실패 (배치 단위)").register(meterRegistry);
+        this.dropped = Counter.builder("user.activity.dropped")
+                .description("반복 실패로 버린 활동 시각 (사용자 단위)").register(meterRegistry);
+    }
+
+    /** 로그인 시각 기록 (DB 쓰기 없음) */
+    public void recordLogin(Long userId) {
+        recordLogin(userId, LocalDateTime.now());
+    }
+
+    void recordLogin(Long userId, LocalDateTime loginAt) {
+        if (userId != null) {
+            pendingLogins.merge(userId, loginAt, UserActivityBuffer::latest);
+        }
+    }
+
+    /** 버퍼에 쌓인 항목을 batchSize 단위 UPDATE로 반영 */
+    @Scheduled(fixedDelayString = "${user.activity.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pendingLogins.isEmpty()) {
+            return;
+        }
+        boolean succeeded = true;
+        Map<Long, LocalDateTime> batch = new LinkedHashMap<>();
+        for (Long userId : new ArrayList<>(pendingLogins.keySet())) {
+            LocalDateTime loginAt = pendingLogins.remove(userId);
+            if (loginAt == null) {
+                continue;
+            }
+            batch.put(userId, loginAt);
+            if (batch.size() == batchSize) {
+                succeeded &= write(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        succeeded &= write(batch);
+
+        if (succeeded && failingCycles > 0) {
+            log.info("사용자 활동 시각 반영 복구 (연속 실패 {}회)", failingCycles);
+            failingCycles = 0;
+        } else if (!succeeded) {
+            failingCycles++;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingCount() {
+        return pendingLogins.size();
+    }
+
+    /** 배치 1개 반영, 실패 시 재시도 횟수가 남은 항목만 버퍼로 되돌림 */
+    private boolean write(Map<Long, LocalDateTime> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            flushTimer.record(() -> userMapper.updateLastLoginAt(batch));
+            batch.keySet().forEach(failedAttempts::remove);
+            return true;
+        } catch (RuntimeException e) {
+            failures.increment();
+            if (failingCycles == 0) {
+                log.warn("사용자 활동 시각 반영 실패 ({}건) - 다음 주기에 다시 시도합니다.", batch.size(), e);
+            } else {
+                log.debug("사용자 활동 시각 반영 실패 ({}건): {}", batch.size(), e.getMessage());
+            }
+            batch.forEach((userId, loginAt) -> {
+                if (failedAttempts.merge(userId, 1, Integer::sum) >= maxAttempts) {
+                    failedAttempts.remove(userId);
+                    dropped.increment();
+                } else {
+                    pendingLogins.merge(userId, loginAt, UserActivityBuffer::latest);
+                }
+            });
+            return false;
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
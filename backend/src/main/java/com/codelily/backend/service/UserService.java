@@ -1,6 +1,8 @@
 package com.codelily.backend.service;
 
 import com.codelily.backend.domain.User;
+import com.codelily.backend.dto.PublicUserProfile;
+import com.codelily.backend.dto.UserProfile;
 import com.codelily.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,6 +16,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService customUserDetailsService;
 
     /** 회원가입 (Local) */
     public User register(User user) {
@@ -32,6 +35,16 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    /** 내 정보 (응답용 프로젝션) */
+    public Optional<UserProfile> findProfile(Long id) {
+        return userRepository.findProfileById(id);
+    }
+
+    /** 다른 사용자 공개 프로필 */
+    public Optional<PublicUserProfile> findPublicProfile(Long id) {
+        return userRepository.findPublicProfileById(id);
+    }
+
     /** 이메일로 사용자 조회 */
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
@@ -43,11 +56,13 @@ public class UserService {
     }
 
     /** 프로필 업데이트 */
-    public User updateProfile(Long id, String nickname, String avatarUrl) {
+    public UserProfile updateProfile(Long id, String nickname, String avatarUrl) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.setNickname(nickname);
         user.setAvatarUrl(avatarUrl);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        customUserDetailsService.evict(id);
+        return UserProfile.from(saved);
     }
 }
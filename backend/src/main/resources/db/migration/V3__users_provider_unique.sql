@@ -0,0 +1,5 @@
+-- 소셜 로그인 upsert(ON DUPLICATE KEY UPDATE) 기준 키: (provider, provider_id)
+-- local 사용자는 provider_id가 NULL이므로 충돌하지 않음
+ALTER TABLE users
+  DROP INDEX idx_users_provider,
+  ADD UNIQUE INDEX uk_users_provider (provider, provider_id);
@@ -0,0 +1,6 @@
+-- 게시글 목록 keyset 페이지네이션용 인덱스 (WHERE status [, category] ORDER BY created_at DESC, id DESC)
+-- 기존 idx_posts_category는 새 복합 인덱스의 접두사이므로 대체
+ALTER TABLE posts
+  ADD INDEX idx_posts_status_created (status, created_at, id),
+  ADD INDEX idx_posts_category_status_created (category, status, created_at, id),
+  DROP INDEX idx_posts_category;
@@ -0,0 +1,3 @@
+-- 검색 색인 증분 동기화용 인덱스 (WHERE updated_at >= ? ORDER BY updated_at, id)
+ALTER TABLE posts
+  ADD INDEX idx_posts_updated (updated_at, id);
@@ -0,0 +1,145 @@
+-- 사이드바 집계 (태그 클라우드 / 카테고리별 / 월별 보관함) – 게시 중인 글만 집계
+-- 게시글/태그 변경과 같은 트랜잭션에서 트리거로 갱신 (목록 조회마다 GROUP BY 하지 않음)
+-- 어긋난 값은 PostAggregateService.repair가 주기적으로 바로잡음
+CREATE TABLE IF NOT EXISTS post_aggregates (
+  kind       ENUM('TAG','CATEGORY','MONTH') NOT NULL,
+  name       VARCHAR(60) NOT NULL,          -- 태그 이름 / 카테고리 / 'YYYY-MM'
+  post_count INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (kind, name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO post_aggregates (kind, name, post_count)
+SELECT 'CATEGORY', category, COUNT(*)
+FROM posts
+WHERE status = 'PUBLISHED' AND category IS NOT NULL
+GROUP BY category;
+
+INSERT INTO post_aggregates (kind, name, post_count)
+SELECT 'MONTH', DATE_FORMAT(created_at, '%Y-%m'), COUNT(*)
+FROM posts
+WHERE status = 'PUBLISHED'
+GROUP BY DATE_FORMAT(created_at, '%Y-%m');
+
+INSERT INTO post_aggregates (kind, name, post_count)
+SELECT 'TAG', t.name, COUNT(*)
+FROM post_tags pt
+JOIN tags t ON t.id = pt.tag_id
+JOIN posts p ON p.id = pt.post_id
+WHERE p.status = 'PUBLISHED'
+GROUP BY t.name;
+
+-- 게시글 생성: 카테고리/월 (태그는 post_tags 트리거에서)
+CREATE TRIGGER trg_posts_aggregates_insert
+AFTER INSERT ON posts
+FOR EACH ROW
+BEGIN
+  IF NEW.status = 'PUBLISHED' THEN
+    IF NEW.category IS NOT NULL THEN
+      INSERT INTO post_aggregates (kind, name, post_count) VALUES ('CATEGORY', NEW.category, 1)
+      ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+    END IF;
+    INSERT INTO post_aggregates (kind, name, post_count) VALUES ('MONTH', DATE_FORMAT(NEW.created_at, '%Y-%m'), 1)
+    ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+  END IF;
+END;
+
+-- 게시/비공개 전환, 카테고리 변경: 이전 값을 빼고 새 값을 더함 (태그는 게시 상태가 바뀔 때만)
+CREATE TRIGGER trg_posts_aggregates_update
+AFTER UPDATE ON posts
+FOR EACH ROW
+BEGIN
+  IF NOT (OLD.status <=> NEW.status)
+     OR NOT (OLD.category <=> NEW.category)
+     OR DATE_FORMAT(OLD.created_at, '%Y-%m') <> DATE_FORMAT(NEW.created_at, '%Y-%m') THEN
+    IF OLD.status = 'PUBLISHED' THEN
+      UPDATE post_aggregates SET post_count = post_count - 1
+      WHERE kind = 'CATEGORY' AND name = OLD.category;
+      UPDATE post_aggregates SET post_count = post_count - 1
+      WHERE kind = 'MONTH' AND name = DATE_FORMAT(OLD.created_at, '%Y-%m');
+    END IF;
+    IF NEW.status = 'PUBLISHED' THEN
+      IF NEW.category IS NOT NULL THEN
+        INSERT INTO post_aggregates (kind, name, post_count) VALUES ('CATEGORY', NEW.category, 1)
+        ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+      END IF;
+      INSERT INTO post_aggregates (kind, name, post_count) VALUES ('MONTH', DATE_FORMAT(NEW.created_at, '%Y-%m'), 1)
+      ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+    END IF;
+  END IF;
+
+  IF OLD.status = 'PUBLISHED' AND NOT (NEW.status <=> 'PUBLISHED') THEN
+    UPDATE post_aggregates a
+    JOIN tags t ON t.name = a.name
+    JOIN post_tags pt ON pt.tag_id = t.id
+    SET a.post_count = a.post_count - 1
+    WHERE a.kind = 'TAG' AND pt.post_id = NEW.id;
+  ELSEIF NEW.status = 'PUBLISHED' AND NOT (OLD.status <=> 'PUBLISHED') THEN
+    INSERT INTO post_aggregates (kind, name, post_count)
+    SELECT 'TAG', t.name, 1
+    FROM post_tags pt
+    JOIN tags t ON t.id = pt.tag_id
+    WHERE pt.post_id = NEW.id
+    ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+  END IF;
+END;
+
+-- 게시글 삭제: post_tags는 FK CASCADE로 지워지고 CASCADE는 트리거를 실행하지 않으므로 태그도 여기서 뺌
+CREATE TRIGGER trg_posts_aggregates_delete
+BEFORE DELETE ON posts
+FOR EACH ROW
+BEGIN
+  IF OLD.status = 'PUBLISHED' THEN
+    UPDATE post_aggregates SET post_count = post_count - 1
+    WHERE kind = 'CATEGORY' AND name = OLD.category;
+    UPDATE post_aggregates SET post_count = post_count - 1
+    WHERE kind = 'MONTH' AND name = DATE_FORMAT(OLD.created_at, '%Y-%m');
+    UPDATE post_aggregates a
+    JOIN tags t ON t.name = a.name
+    JOIN post_tags pt ON pt.tag_id = t.id
+    SET a.post_count = a.post_count - 1
+    WHERE a.kind = 'TAG' AND pt.post_id = OLD.id;
+  END IF;
+END;
+
+-- 태그 달기/떼기
+CREATE TRIGGER trg_post_tags_aggregates_insert
+AFTER INSERT ON post_tags
+FOR EACH ROW
+BEGIN
+  IF EXISTS (SELECT 1 FROM posts WHERE id = NEW.post_id AND status = 'PUBLISHED') THEN
+    INSERT INTO post_aggregates (kind, name, post_count)
+    SELECT 'TAG', name, 1 FROM tags WHERE id = NEW.tag_id
+    ON DUPLICATE KEY UPDATE post_count = post_count + 1;
+  END IF;
+END;
+
+CREATE TRIGGER trg_post_tags_aggregates_delete
+AFTER DELETE ON post_tags
+FOR EACH ROW
+BEGIN
+  IF EXISTS (SELECT 1 FROM posts WHERE id = OLD.post_id AND status = 'PUBLISHED') THEN
+    UPDATE post_aggregates a
+    JOIN tags t ON t.name = a.name
+    SET a.post_count = a.post_count - 1
+    WHERE a.kind = 'TAG' AND t.id = OLD.tag_id;
+  END IF;
+END;
+
+-- 태그 이름 변경/삭제 (태그 삭제 시 post_tags는 CASCADE로 지워짐)
+CREATE TRIGGER trg_tags_aggregates_update
+AFTER UPDATE ON tags
+FOR EACH ROW
+BEGIN
+  IF OLD.name <> NEW.name THEN
+    DELETE FROM post_aggregates WHERE kind = 'TAG' AND name = NEW.name; -- 이전에 같은 이름으로 남은 0건 행
+    UPDATE post_aggregates SET name = NEW.name
+    WHERE kind = 'TAG' AND name = OLD.name;
+  END IF;
+END;
+
+CREATE TRIGGER trg_tags_aggregates_delete
+AFTER DELETE ON tags
+FOR EACH ROW
+BEGIN
+  DELETE FROM post_aggregates WHERE kind = 'TAG' AND name = OLD.name;
+END;
@@ -0,0 +1,26 @@
+-- 댓글 스레드 (CommentService)
+-- 1) posts.comment_count: 삭제되지 않은 댓글 수 (댓글 작성/삭제와 같은 트랜잭션에서 증감)
+ALTER TABLE posts
+  ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_deleted = 0),
+    p.updated_at = p.updated_at;
+
+-- 2) path를 고정 폭 구간(/ + 10자리 id)으로 통일: 문자열 순서 = 스레드 순서 (예: /0000000001/0000000004)
+--    "/10" < "/9" 처럼 자릿수가 다른 id가 섞여도 (post_id, path) 인덱스 순서대로 읽을 수 있게 함
+UPDATE comments c
+JOIN (
+  WITH RECURSIVE thread AS (
+    SELECT id, CAST(CONCAT('/', LPAD(id, 10, '0')) AS CHAR(1000)) AS path, 0 AS depth
+    FROM comments
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT child.id, CONCAT(thread.path, '/', LPAD(child.id, 10, '0')), thread.depth + 1
+    FROM comments child
+    JOIN thread ON child.parent_id = thread.id
+  )
+  SELECT id, path, depth FROM thread
+) t ON t.id = c.id
+SET c.path = t.path,
+    c.depth = t.depth;
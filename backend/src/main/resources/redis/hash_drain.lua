@@ -0,0 +1,8 @@
+-- 해시 전체를 읽고 삭제 (원자적, 읽은 뒤 들어온 증가분은 다음 주기에 반영)
+-- KEYS[1] = 대상 해시
+-- 반환: [field1, value1, field2, value2, ...]
+local entries = redis.call('HGETALL', KEYS[1])
+if #entries > 0 then
+    redis.call('DEL', KEYS[1])
+end
+return entries
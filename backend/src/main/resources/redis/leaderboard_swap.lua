@@ -0,0 +1,16 @@
+-- 재구성한 전체 랭킹으로 교체 (재구성 중 ZINCRBY된 증가분은 보존)
+-- KEYS[1] = 현재 랭킹, KEYS[2] = 재구성한 임시 키, KEYS[3] = 재구성 시작 시점 스냅샷, KEYS[4] = 증가분 계산용 키
+-- 현재 랭킹 - 스냅샷 = 재구성 중 (모든 노드에서) 누적된 조회수 → 임시 키에 더한 뒤 RENAME
+-- 반환: 증가분을 다시 더한 게시글 수
+redis.call('ZUNIONSTORE', KEYS[4], 2, KEYS[1], KEYS[3], 'WEIGHTS', 1, -1)
+local deltas = redis.call('ZRANGEBYSCORE', KEYS[4], '(0', '+inf', 'WITHSCORES')
+for i = 1, #deltas, 2 do
+    redis.call('ZINCRBY', KEYS[2], deltas[i + 1], deltas[i])
+end
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('RENAME', KEYS[2], KEYS[1])
+else
+    redis.call('DEL', KEYS[1])
+end
+redis.call('DEL', KEYS[3], KEYS[4])
+return #deltas / 2
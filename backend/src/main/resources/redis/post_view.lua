@@ -0,0 +1,16 @@
+-- 게시글 조회 기록 (일별 HyperLogLog로 중복 제거 후 대기 해시에 누적)
+-- KEYS[1] = pv:uv:<postId>:<yyyyMMdd>, KEYS[2] = pv:pending
+-- ARGV[1] = 조회자 키, ARGV[2] = postId, ARGV[3] = HLL TTL(ms)
+-- PFADD 반환값만 쓰면 레지스터가 바뀌지 않은 새 조회자가 빠지므로, PFCOUNT 증가분만큼 누적
+-- (PFCOUNT는 변경이 없으면 캐시된 값을 반환)
+-- 반환: 누적된 조회수 (0 = 오늘 이미 집계된 조회자)
+local before = redis.call('PFCOUNT', KEYS[1])
+if redis.call('PFADD', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+local delta = redis.call('PFCOUNT', KEYS[1]) - before
+if delta > 0 then
+    redis.call('HINCRBY', KEYS[2], ARGV[2], delta)
+end
+return delta
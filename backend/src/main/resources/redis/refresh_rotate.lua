@@ -0,0 +1,9 @@
+-- Refresh 토큰 원자적 회전 (compare-and-rotate)
+-- KEYS[1] = rt:<userId>
+-- ARGV[1] = 현재 토큰 다이제스트, ARGV[2] = 새 토큰 다이제스트, ARGV[3] = TTL(ms)
+-- 반환: 1 = 회전 성공, 0 = 저장된 토큰과 불일치 (재사용/동시 회전)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+return 0
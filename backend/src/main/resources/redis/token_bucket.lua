@@ -0,0 +1,27 @@
+-- 토큰 버킷에서 최대 ARGV[3]개의 토큰을 원자적으로 가져감 (노드 로컬 리스용)
+-- KEYS[1] = rl:<policy>:<key>
+-- ARGV[1] = 버킷 크기, ARGV[2] = ms당 충전량, ARGV[3] = 요청 토큰 수
+-- 반환: { 획득 토큰 수, 남은 토큰 수, 다음 토큰까지 대기(ms) }
+local capacity = tonumber(ARGV[1])
+local refill_per_ms = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1]) or capacity
+local ts = tonumber(state[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+
+local retry_after = 0
+if granted < requested then
+    retry_after = math.ceil((1 - (tokens - math.floor(tokens))) / refill_per_ms)
+end
+return { granted, math.floor(tokens), retry_after }
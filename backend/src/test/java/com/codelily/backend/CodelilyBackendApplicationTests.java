@@ -1,13 +1,276 @@
 package com.codelily.backend;
 
+import com.codelily.backend.config.CustomUserDetails;
+import com.codelily.backend.config.QueryCounter;
+import com.codelily.backend.domain.User;
+import com.codelily.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨텍스트 로드 + API별 SQL 문장 수 예산 (N+1 회귀 방지).
+ * - 문장 수는 QueryBudgetFilter가 요청마다 JPA/MyBatis 문장을 센 값 (캐시 적중 시 0일 수 있으므로 상한만 확인)
+ * - 게시글/댓글 예산은 게시 중인 글과 댓글을 넣고 측정 (빈 결과로 통과하지 않도록), 응답 상태도 확인
+ * - 조회 API는 결과 건수(작성자 수)만 다른 두 데이터셋에서 문장 수가 같아야 함
+ * - 로그인은 비밀번호 검증과 사용자 조회가 별도 스레드라 요청 스레드 예산 대상이 아님
+ */
 @SpringBootTest
+@AutoConfigureMockMvc
 class CodelilyBackendApplicationTests {
 
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	private User member;
+
+	private final List<Long> seededUsers = new ArrayList<>();
+	private final List<Long> seededPosts = new ArrayList<>();
+
+	@BeforeEach
+	void createMember() {
+		String suffix = Long.toString(System.nanoTime(), 36);
+		member = userRepository.save(User.builder()
+				.email("budget-" + suffix + "@codelily.test")
+				.nickname("budget-" + suffix)
+				.role(User.Role.USER)
+				.provider("local")
+				.build());
+	}
+
+	@AfterEach
+	void deleteMember() {
+		// 댓글은 게시글 삭제 시 ON DELETE CASCADE
+		seededPosts.forEach(id -> jdbc.update("DELETE FROM posts WHERE id = ?", id));
+		seededUsers.forEach(userRepository::deleteById);
+		userRepository.deleteById(member.getId());
+	}
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void postEndpointsStayWithinQueryBudget() throws Exception {
+		Seed seed = seed(1);
+
+		assertThat(statements(get("/api/posts"), HttpStatus.OK)).isLessThanOrEqualTo(2);
+		assertThat(statements(get("/api/posts").param("tags", "spring"), HttpStatus.OK)).isLessThanOrEqualTo(3);
+		assertThat(statements(get("/api/posts/{slug}", seed.slug()), HttpStatus.OK)).isLessThanOrEqualTo(1);
+		assertThat(statements(get("/api/posts/{slug}", "no-such-post"), HttpStatus.NOT_FOUND)).isLessThanOrEqualTo(1);
+		assertThat(statements(get("/api/posts/top"), HttpStatus.OK)).isLessThanOrEqualTo(1);
+		assertThat(statements(get("/api/posts/search").param("q", "스프링"), HttpStatus.OK)).isLessThanOrEqualTo(1);
+		assertThat(statements(get("/api/posts/suggest").param("q", "스"), HttpStatus.OK)).isZero();
+		assertThat(statements(get("/api/posts/sidebar"), HttpStatus.OK)).isZero();
+	}
+
+	@Test
+	void readStatementsDoNotGrowWithResultSize() throws Exception {
+		Seed one = seed(1);
+		Seed many = seed(20);
+
+		assertThat(statements(postList(many), HttpStatus.OK)).isEqualTo(statements(postList(one), HttpStatus.OK));
+		assertThat(statements(get("/api/posts/{slug}", many.slug()), HttpStatus.OK))
+				.isEqualTo(statements(get("/api/posts/{slug}", one.slug()), HttpStatus.OK));
+		assertThat(statements(thread(many), HttpStatus.OK)).isEqualTo(statements(thread(one), HttpStatus.OK));
+		assertThat(statements(replies(many), HttpStatus.OK)).isEqualTo(statements(replies(one), HttpStatus.OK));
+
+		// 건수 차이가 실제로 응답에 반영됐는지 (빈 결과끼리 비교한 것이 아님)
+		mockMvc.perform(postList(many)).andExpect(jsonPath("$.items.length()").value(20));
+		mockMvc.perform(thread(many)).andExpect(jsonPath("$.items.length()").value(40));
+		mockMvc.perform(replies(many)).andExpect(jsonPath("$.items.length()").value(20));
+	}
+
+	@Test
+	void draftSlugIsNotFound() throws Exception {
+		String slug = "budget-draft-" + Long.toString(System.nanoTime(), 36);
+		jdbc.update("INSERT INTO posts (slug, title, content, status, author_id) VALUES (?, 'draft', 'wip', 'DRAFT', ?)",
+				slug, member.getId());
+		try {
+			mockMvc.perform(get("/api/posts/{slug}", slug)).andExpect(status().isNotFound());
+			mockMvc.perform(get("/api/posts/{slug}", slug).with(member())).andExpect(status().isNotFound());
+		} finally {
+			jdbc.update("DELETE FROM posts WHERE slug = ?", slug);
+		}
+	}
+
+	@Test
+	void commentEndpointsStayWithinQueryBudget() throws Exception {
+		Seed seed = seed(1);
+
+		assertThat(statements(thread(seed), HttpStatus.OK)).isLessThanOrEqualTo(3);
+		assertThat(statements(replies(seed), HttpStatus.OK)).isLessThanOrEqualTo(4);
+		assertThat(statements(post("/api/posts/{postId}/comments", seed.postId()).with(member())
+				.contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"hello\"}"), HttpStatus.CREATED))
+				.isLessThanOrEqualTo(5);
+		Long created = jdbc.queryForObject("SELECT MAX(id) FROM comments WHERE post_id = ? AND author_id = ?",
+				Long.class, seed.postId(), member.getId());
+		assertThat(statements(delete("/api/posts/{postId}/comments/{commentId}", seed.postId(), created).with(member()),
+				HttpStatus.NO_CONTENT)).isLessThanOrEqualTo(3);
+		assertThat(statements(post("/api/posts/{postId}/comments", Long.MAX_VALUE).with(member())
+				.contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"hello\"}"), HttpStatus.NOT_FOUND))
+				.isLessThanOrEqualTo(5);
+	}
+
+	@Test
+	void userEndpointsStayWithinQueryBudget() throws Exception {
+		assertThat(statements(get("/api/users/me").with(member()), HttpStatus.OK)).isEqualTo(1);
+		assertThat(statements(get("/api/users/{id}", member.getId()).with(member()), HttpStatus.OK)).isEqualTo(1);
+		assertThat(statements(get("/api/users/check-nickname").with(member()).param("nickname", "budget"), HttpStatus.OK))
+				.isEqualTo(1);
+		assertThat(statements(put("/api/users/{id}", member.getId()).with(member())
+				.param("nickname", member.getNickname() + "-r"), HttpStatus.OK)).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void loginReturnsRefreshCookieOnTheResponse() throws Exception {
+		member.setPasswordHash(passwordEncoder.encode("password"));
+		userRepository.save(member);
+
+		MvcResult login = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"email\":\"" + member.getEmail() + "\",\"password\":\"password\"}"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(login))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accessToken").isNotEmpty())
+				.andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("refreshToken=")))
+				.andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("HttpOnly")));
+	}
+
+	@Test
+	void authAndHealthEndpointsRunNoQueries() throws Exception {
+		assertThat(statements(post("/api/auth/logout"), HttpStatus.OK)).isZero();
+		assertThat(statements(get("/api/auth/oauth2/success"), HttpStatus.OK)).isZero();
+		assertThat(statements(get("/api/health"), HttpStatus.OK)).isZero();
+	}
+
+	/** 요청 1건의 SQL 문장 수 (응답 상태와 컨트롤러 @QueryBudget 초과 여부도 확인) */
+	private int statements(MockHttpServletRequestBuilder request, HttpStatus expected) throws Exception {
+		MvcResult result = mockMvc.perform(request).andReturn();
+		String call = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+		assertThat(result.getResponse().getStatus()).as(call).isEqualTo(expected.value());
+		assertThat(result.getResponse().getHeader(QueryCounter.EXCEEDED_HEADER)).as(call).isNull();
+		return (Integer) result.getRequest().getAttribute(QueryCounter.COUNT_ATTRIBUTE);
+	}
+
+	private RequestPostProcessor member() {
+		return user(new CustomUserDetails(member));
+	}
+
+	private static MockHttpServletRequestBuilder postList(Seed seed) {
+		return get("/api/posts").param("category", seed.category()).param("size", "100");
+	}
+
+	private static MockHttpServletRequestBuilder thread(Seed seed) {
+		return get("/api/posts/{postId}/comments", seed.postId()).param("size", "100");
+	}
+
+	private static MockHttpServletRequestBuilder replies(Seed seed) {
+		return get("/api/posts/{postId}/comments/{commentId}/replies", seed.postId(), seed.rootCommentId()).param("size", "100");
+	}
+
+	/** 조회 대상 데이터셋 (category의 글 목록, 첫 글의 댓글 스레드, 첫 댓글의 답글) */
+	private record Seed(String category, long postId, String slug, long rootCommentId) {
+	}
+
+	/**
+	 * 작성자 n명이 각각 글 1개, 첫 글에 댓글 1개, 첫 댓글에 답글 1개를 쓴 데이터 (게시 상태, 테스트 후 삭제)
+	 * - 작성자가 모두 달라 작성자 정보를 건별로 읽으면 문장 수가 n에 비례
+	 */
+	private Seed seed(int n) {
+		String category = "budget-" + Long.toString(System.nanoTime(), 36);
+		List<Long> authors = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			User author = userRepository.save(User.builder()
+					.email(category + "-" + i + "@codelily.test")
+					.nickname(category + "-" + i)
+					.role(User.Role.USER)
+					.provider("local")
+					.build());
+			seededUsers.add(author.getId());
+			authors.add(author.getId());
+		}
+
+		List<Long> posts = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			long postId = insert("INSERT INTO posts (slug, title, content, category, status, author_id) "
+					+ "VALUES (?, ?, 'body', ?, 'PUBLISHED', ?)", category + "-" + i, "post " + i, category, authors.get(i));
+			seededPosts.add(postId);
+			posts.add(postId);
+		}
+
+		long postId = posts.get(0);
+		List<Long> roots = new ArrayList<>();
+		for (Long author : authors) {
+			roots.add(comment(postId, null, author));
+		}
+		for (Long author : authors) {
+			comment(postId, roots.get(0), author);
+		}
+		return new Seed(category, postId, category + "-0", roots.get(0));
+	}
+
+	/** 댓글 1개 (path는 CommentService와 같은 고정 폭 형식) */
+	private long comment(long postId, Long parentId, long authorId) {
+		String parentPath = parentId == null ? ""
+				: jdbc.queryForObject("SELECT path FROM comments WHERE id = ?", String.class, parentId);
+		long id = insert("INSERT INTO comments (post_id, parent_id, author_id, content, depth) VALUES (?, ?, ?, 'hello', ?)",
+				postId, parentId, authorId, parentId == null ? 0 : 1);
+		jdbc.update("UPDATE comments SET path = ? WHERE id = ?", parentPath + String.format("/%010d", id), id);
+		return id;
+	}
+
+	private long insert(String sql, Object... args) {
+		KeyHolder keys = new GeneratedKeyHolder();
+		jdbc.update(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			new ArgumentPreparedStatementSetter(args).setValues(statement);
+			return statement;
+		}, keys);
+		return keys.getKey().longValue();
+	}
 }
@@ -0,0 +1,103 @@
+package com.codelily.backend.config;
+
+import com.codelily.backend.domain.User;
+import com.codelily.backend.repository.UserRepository;
+import com.codelily.backend.service.BlacklistNearCache;
+import com.codelily.backend.service.CustomUserDetailsService;
+import com.codelily.backend.service.RefreshTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+	private final JwtTokenProvider tokenProvider = new JwtTokenProvider();
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final String accessToken = tokenProvider.createAccessToken(42L, "USER");
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void claimsOnlyRequestDoesNotLoadUser() throws Exception {
+		JwtAuthenticationFilter filter = filter(true);
+
+		CustomUserDetails principal = authenticate(filter, "/api/posts");
+
+		assertThat(principal.getId()).isEqualTo(42L);
+		assertThat(principal.getRole()).isEqualTo("USER");
+		assertThat(principal.getEmail()).isNull();
+		verify(userRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	void fullUserPathsLoadUserThroughCache() throws Exception {
+		JwtAuthenticationFilter filter = filter(true);
+
+		for (int i = 0; i < 3; i++) {
+			CustomUserDetails principal = authenticate(filter, "/api/users/me");
+			assertThat(principal.getEmail()).isEqualTo("lily@codelily.dev");
+		}
+
+		verify(userRepository, times(1)).findById(42L);
+	}
+
+	@Test
+	void statefulModeLoadsUserForEveryPath() throws Exception {
+		JwtAuthenticationFilter filter = filter(false);
+
+		assertThat(authenticate(filter, "/api/posts").getEmail()).isEqualTo("lily@codelily.dev");
+		assertThat(authenticate(filter, "/api/comments").getEmail()).isEqualTo("lily@codelily.dev");
+
+		verify(userRepository, times(1)).findById(42L);
+	}
+
+	private JwtAuthenticationFilter filter(boolean statelessPrincipal) {
+		when(userRepository.findById(42L)).thenReturn(Optional.of(User.builder()
+				.id(42L).email("lily@codelily.dev").nickname("lily").role(User.Role.USER).provider("local")
+				.build()));
+		BlacklistNearCache blacklistNearCache = mock(BlacklistNearCache.class);
+		when(blacklistNearCache.mightBeBlacklisted(anyString())).thenReturn(false);
+		RefreshTokenService refreshTokenService = new RefreshTokenService(mock(StringRedisTemplate.class), blacklistNearCache);
+
+		JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenProvider,
+				new CustomUserDetailsService(userRepository, 100, Duration.ofMinutes(1)), refreshTokenService);
+		ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+		ReflectionTestUtils.setField(filter, "fullUserPaths", List.of("/api/users/me"));
+		return filter;
+	}
+
+	/** 요청 1건을 필터에 통과시키고 설정된 principal 반환 (요청마다 컨텍스트를 비움) */
+	private CustomUserDetails authenticate(JwtAuthenticationFilter filter, String path) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+		try {
+			filter.doFilterInternal(request, new MockHttpServletResponse(), (req, res) -> {
+			});
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+			return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.codelily.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+	private final JwtTokenProvider provider = new JwtTokenProvider();
+
+	@Test
+	void verifyReturnsAllClaimsFromSingleParse() {
+		String token = provider.createAccessToken(42L, "ADMIN");
+
+		Optional<JwtClaims> claims = provider.verify(token);
+
+		assertThat(claims).isPresent();
+		assertThat(claims.get().userId()).isEqualTo(42L);
+		assertThat(claims.get().role()).isEqualTo("ADMIN");
+		assertThat(claims.get().jti()).isNotBlank();
+		assertThat(claims.get().isExpired(Instant.now())).isFalse();
+	}
+
+	@Test
+	void repeatedVerificationReturnsCachedClaims() {
+		String token = provider.createAccessToken(7L, "USER");
+
+		JwtClaims first = provider.verify(token).orElseThrow();
+		JwtClaims second = provider.verify(token).orElseThrow();
+
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void tamperedTokenIsRejected() {
+		String token = provider.createAccessToken(1L, "USER");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(provider.verify(tampered)).isEmpty();
+		assertThat(provider.validateToken(tampered)).isFalse();
+		assertThat(provider.verify(null)).isEmpty();
+		assertThat(provider.verify("not-a-jwt")).isEmpty();
+	}
+
+	@Test
+	void legacyAccessorsUseVerifiedClaims() {
+		String token = provider.createRefreshToken(99L);
+
+		assertThat(provider.validateToken(token)).isTrue();
+		assertThat(provider.getUserId(token)).isEqualTo(99L);
+		assertThat(provider.getJti(token)).isNotBlank();
+		assertThat(provider.getExpiration(token)).isInTheFuture();
+	}
+}
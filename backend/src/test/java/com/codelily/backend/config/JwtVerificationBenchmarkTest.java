@@ -0,0 +1,81 @@
+package com.codelily.backend.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JwtAuthenticationFilter 기준 토큰 검증 비용 비교 (./gradlew benchmark).
+ * - legacy: validateToken / getJti / getUserId 각각 파서 생성 + 서명 검증 (3회)
+ * - verify: 공유 파서로 1회 검증 + 검증 결과 캐시
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+	private static final int TOKENS = 1_000;
+	private static final int WARMUP = 50_000;
+	private static final int ITERATIONS = 200_000;
+
+	private final JwtTokenProvider provider = new JwtTokenProvider();
+	private final Key key = Keys.hmacShaKeyFor("codelily-secret-key-for-jwt-signature-codelily".getBytes());
+
+	@Test
+	void compareLegacyAndSinglePassVerification() {
+		List<String> tokens = new ArrayList<>();
+		for (long i = 0; i < TOKENS; i++) {
+			tokens.add(provider.createAccessToken(i, "USER"));
+		}
+
+		run("legacy (3x parse)", tokens, WARMUP);
+		long legacy = run("legacy (3x parse)", tokens, ITERATIONS);
+
+		runVerify(tokens, WARMUP);
+		long verify = runVerify(tokens, ITERATIONS);
+
+		System.out.printf("legacy: %,d ns/op, verify: %,d ns/op, speedup: %.1fx%n",
+				legacy, verify, (double) legacy / Math.max(1, verify));
+	}
+
+	private long run(String name, List<String> tokens, int iterations) {
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+			legacyParse(token);
+			String jti = legacyParse(token).getId();
+			Long userId = Long.parseLong(legacyParse(token).getSubject());
+			sink += jti.length() + userId;
+		}
+		long elapsed = System.nanoTime() - start;
+		if (sink == 42) {
+			System.out.println(name);
+		}
+		return elapsed / iterations;
+	}
+
+	private long runVerify(List<String> tokens, int iterations) {
+		long sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+			JwtClaims claims = provider.verify(token).orElseThrow();
+			sink += claims.jti().length() + claims.userId();
+		}
+		long elapsed = System.nanoTime() - start;
+		if (sink == 42) {
+			System.out.println("verify");
+		}
+		return elapsed / iterations;
+	}
+
+	private Claims legacyParse(String token) {
+		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+	}
+}
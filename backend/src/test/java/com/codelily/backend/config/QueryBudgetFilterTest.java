@@ -0,0 +1,85 @@
+package com.codelily.backend.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetFilterTest {
+
+	static class Handlers {
+
+		@QueryBudget(2)
+		public void listPosts() {
+		}
+
+		public void unannotated() {
+		}
+	}
+
+	private final QueryBudgetFilter filter = new QueryBudgetFilter(5);
+	private final QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor();
+
+	@Test
+	void countsStatementsWithinRequest() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, chain("listPosts", 2));
+
+		assertThat(request.getAttribute(QueryCounter.COUNT_ATTRIBUTE)).isEqualTo(2);
+		assertThat(response.getHeader(QueryCounter.EXCEEDED_HEADER)).isNull();
+	}
+
+	@Test
+	void flagsRequestsOverHandlerBudget() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, chain("listPosts", 4));
+
+		assertThat(request.getAttribute(QueryCounter.COUNT_ATTRIBUTE)).isEqualTo(4);
+		assertThat(response.getHeader(QueryCounter.EXCEEDED_HEADER)).isEqualTo("4/2");
+	}
+
+	@Test
+	void usesDefaultBudgetWithoutAnnotation() throws Exception {
+		MockHttpServletResponse within = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/a"), within, chain("unannotated", 5));
+		MockHttpServletResponse over = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("GET", "/a"), over, chain("unannotated", 6));
+
+		assertThat(within.getHeader(QueryCounter.EXCEEDED_HEADER)).isNull();
+		assertThat(over.getHeader(QueryCounter.EXCEEDED_HEADER)).isEqualTo("6/5");
+	}
+
+	@Test
+	void ignoresStatementsOutsideRequests() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+		filter.doFilter(request, new MockHttpServletResponse(), chain("listPosts", 1));
+
+		QueryCounter.increment(); // 스케줄러 등 요청 밖
+
+		assertThat(QueryCounter.end()).isNull();
+	}
+
+	/** 핸들러 선택(인터셉터) 후 SQL을 statements번 실행하는 요청 */
+	private MockFilterChain chain(String handler, int statements) throws NoSuchMethodException {
+		HandlerMethod method = new HandlerMethod(new Handlers(), handler);
+		return new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) {
+				interceptor.preHandle(request, response, method);
+				for (int i = 0; i < statements; i++) {
+					QueryCounter.increment();
+				}
+			}
+		});
+	}
+}
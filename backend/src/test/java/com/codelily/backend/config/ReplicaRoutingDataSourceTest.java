@@ -0,0 +1,244 @@
+package com.codelily.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두(세) 개를 primary/복제본 대역으로 두고, 각 DB의 marker 값으로 실제 연결 대상을 확인.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	interface MarkerMapper {
+
+		@Select("SELECT name FROM marker")
+		String where();
+
+		@Insert("INSERT INTO writes (note) VALUES (#{note})")
+		int write(String note);
+	}
+
+	private final List<EmbeddedDatabase> databases = new ArrayList<>();
+	private final AtomicLong nanos = new AtomicLong();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private ReplicaRoutingDataSource routing;
+	private DataSource dataSource;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		databases.forEach(EmbeddedDatabase::shutdown);
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesToPrimary() throws SQLException {
+		setUp(database("replica"));
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+		tx.setReadOnly(true);
+		assertThat(inTransaction(tx, () -> where(jdbc))).isEqualTo("replica");
+		tx.setReadOnly(false);
+		assertThat(inTransaction(tx, () -> where(jdbc))).isEqualTo("primary");
+		// 트랜잭션 밖의 일반 JDBC (Flyway 등)
+		assertThat(where(jdbc)).isEqualTo("primary");
+	}
+
+	@Test
+	void mybatisSelectsOutsideTransactionGoToReplica() throws Exception {
+		setUp(database("replica"));
+		MarkerMapper mapper = mapper();
+
+		assertThat(mapper.where()).isEqualTo("replica");
+		assertThat(mapper.write("hello")).isEqualTo(1);
+		assertThat(count("primary")).isEqualTo(1);
+		assertThat(count("replica")).isZero();
+	}
+
+	@Test
+	void writerReadsFromPrimaryDuringStickyWindow() throws Exception {
+		setUp(database("replica"));
+		MarkerMapper mapper = mapper();
+
+		signIn(1L);
+		mapper.write("hello");
+		assertThat(mapper.where()).isEqualTo("primary");
+		TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		readOnly.setReadOnly(true);
+		assertThat(inTransaction(readOnly, mapper::where)).isEqualTo("primary");
+
+		signIn(2L);
+		assertThat(mapper.where()).isEqualTo("replica");
+
+		signIn(1L);
+		nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+		assertThat(mapper.where()).isEqualTo("replica");
+	}
+
+	@Test
+	void readWriteTransactionPinsWriter() throws SQLException {
+		setUp(database("replica"));
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+		signIn(1L);
+		tx.executeWithoutResult(status -> jdbc.update("INSERT INTO writes (note) VALUES ('hello')"));
+		tx.setReadOnly(true);
+
+		assertThat(inTransaction(tx, () -> where(jdbc))).isEqualTo("primary");
+	}
+
+	@Test
+	void balancesAcrossReplicas() throws Exception {
+		setUp(database("replica-a"), database("replica-b"));
+		MarkerMapper mapper = mapper();
+
+		List<String> seen = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			seen.add(mapper.where());
+		}
+
+		assertThat(seen).containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+	}
+
+	@Test
+	void failedReplicaIsSkippedUntilHealthCheckPasses() throws Exception {
+		FlakyDataSource flaky = new FlakyDataSource(database("replica-a"));
+		setUp(flaky, database("replica-b"));
+		MarkerMapper mapper = mapper();
+
+		flaky.down = true;
+		assertThat(mapper.where()).isEqualTo("replica-b");
+		assertThat(mapper.where()).isEqualTo("replica-b");
+		assertThat(registry.get("db.routing.replicas.healthy").gauge().value()).isEqualTo(1);
+
+		routing.checkHealth();
+		assertThat(mapper.where()).isEqualTo("replica-b");
+
+		flaky.down = false;
+		routing.checkHealth();
+		assertThat(List.of(mapper.where(), mapper.where())).containsExactlyInAnyOrder("replica-a", "replica-b");
+	}
+
+	@Test
+	void fallsBackToPrimaryWhenNoReplicaIsReachable() throws Exception {
+		FlakyDataSource flaky = new FlakyDataSource(database("replica"));
+		flaky.down = true;
+		setUp(flaky);
+		MarkerMapper mapper = mapper();
+
+		assertThat(mapper.where()).isEqualTo("primary");
+		assertThat(registry.get("db.routing.fallbacks").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void onPrimaryOverridesReplicaRouting() throws Exception {
+		setUp(database("replica"));
+		MarkerMapper mapper = mapper();
+
+		assertThat(ReplicaRoutingDataSource.onPrimary(mapper::where)).isEqualTo("primary");
+		assertThat(mapper.where()).isEqualTo("replica");
+	}
+
+	private void setUp(DataSource... replicas) throws SQLException {
+		Map<String, DataSource> byName = new LinkedHashMap<>();
+		for (int i = 0; i < replicas.length; i++) {
+			byName.put("replica-" + i, replicas[i]);
+		}
+		routing = new ReplicaRoutingDataSource(database("primary"), byName, registry,
+				Duration.ofSeconds(5), Duration.ofSeconds(1), nanos::get);
+		dataSource = new LazyConnectionDataSourceProxy(routing);
+		// 프록시의 기본 연결 속성 확인(첫 연결 1회)을 미리 끝내 라우팅 횟수에 섞이지 않게 함
+		dataSource.getConnection().close();
+	}
+
+	private MarkerMapper mapper() throws Exception {
+		SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPlugins(new ReadStatementInterceptor(routing));
+		SqlSessionFactory factory = factoryBean.getObject();
+		factory.getConfiguration().addMapper(MarkerMapper.class);
+		return new SqlSessionTemplate(factory).getMapper(MarkerMapper.class);
+	}
+
+	private EmbeddedDatabase database(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.generateUniqueName(true)
+				.build();
+		JdbcTemplate jdbc = new JdbcTemplate(database);
+		jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+		jdbc.execute("CREATE TABLE writes (id BIGINT AUTO_INCREMENT PRIMARY KEY, note VARCHAR(20))");
+		jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+		databases.add(database);
+		return database;
+	}
+
+	private int count(String name) {
+		EmbeddedDatabase database = databases.stream()
+				.filter(db -> name.equals(where(new JdbcTemplate(db))))
+				.findFirst().orElseThrow();
+		return new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM writes", Integer.class);
+	}
+
+	private static String inTransaction(TransactionTemplate tx, Supplier<String> work) {
+		return tx.execute(status -> work.get());
+	}
+
+	private static String where(JdbcTemplate jdbc) {
+		return jdbc.queryForObject("SELECT name FROM marker", String.class);
+	}
+
+	private static void signIn(Long userId) {
+		CustomUserDetails user = CustomUserDetails.fromClaims(new JwtClaims("jti", userId, "USER", null, null));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+
+	/** 연결 실패를 흉내 내는 복제본 */
+	private static final class FlakyDataSource extends DelegatingDataSource {
+
+		private volatile boolean down;
+
+		FlakyDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("replica unreachable");
+			}
+			return super.getConnection();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.codelily.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlMetricsTest {
+
+	interface NoteMapper {
+
+		@Select("SELECT body FROM notes WHERE author = #{author} ORDER BY id")
+		List<String> findByAuthor(@Param("author") String author);
+
+		@Insert("INSERT INTO notes (author, body, password_hash) VALUES (#{author}, #{body}, #{passwordHash})")
+		int insert(@Param("author") String author, @Param("body") String body, @Param("passwordHash") String passwordHash);
+	}
+
+	interface NoteRepository {
+
+		Optional<String> findByAuthor(String author);
+
+		List<String> findAll();
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private EmbeddedDatabase database;
+
+	@AfterEach
+	void tearDown() {
+		if (database != null) {
+			database.shutdown();
+		}
+	}
+
+	@Test
+	void mybatisStatementsAreTimedWithRowCounts() throws Exception {
+		SqlMetrics metrics = new SqlMetrics(registry, Duration.ofHours(1), 10);
+		NoteMapper mapper = mapper(metrics);
+
+		mapper.insert("lily", "a", "x");
+		mapper.insert("lily", "b", "x");
+		mapper.findByAuthor("lily");
+		mapper.findByAuthor("rose");
+
+		assertThat(registry.get("db.statement").tags("layer", "mybatis", "statement", "NoteMapper.findByAuthor")
+				.timer().count()).isEqualTo(2);
+		assertThat(registry.get("db.statement.rows").tags("statement", "NoteMapper.findByAuthor")
+				.summary().totalAmount()).isEqualTo(2);
+		assertThat(registry.get("db.statement.rows").tags("statement", "NoteMapper.insert")
+				.summary().totalAmount()).isEqualTo(2);
+		assertThat(metrics.slowQueries()).isEmpty();
+	}
+
+	@Test
+	void slowStatementsKeepSqlAndMaskedBindValues() throws Exception {
+		SqlMetrics metrics = new SqlMetrics(registry, Duration.ZERO, 2);
+		NoteMapper mapper = mapper(metrics);
+
+		mapper.insert("lily", "hello", "secret-hash");
+		List<SqlMetrics.SlowQuery> afterInsert = metrics.slowQueries();
+		mapper.findByAuthor("lily");
+		mapper.findByAuthor("rose");
+
+		assertThat(afterInsert.get(0).params())
+				.containsEntry("author", "lily").containsEntry("passwordHash", "****");
+		List<SqlMetrics.SlowQuery> slow = metrics.slowQueries();
+		assertThat(slow).hasSize(2);
+		assertThat(slow.get(0).statement()).isEqualTo("NoteMapper.findByAuthor");
+		assertThat(slow.get(0).sql()).isEqualTo("SELECT body FROM notes WHERE author = ? ORDER BY id");
+		assertThat(slow.get(0).params()).containsEntry("author", "rose");
+	}
+
+	@Test
+	void repositoryMethodsAreTimedWithCapturedSql() {
+		SqlMetrics metrics = new SqlMetrics(registry, Duration.ZERO, 10);
+		NoteRepository target = new NoteRepository() {
+			@Override
+			public Optional<String> findByAuthor(String author) {
+				RepositoryTimingInterceptor.STATEMENT_INSPECTOR.inspect("select n.body from notes n where n.author=?");
+				return Optional.of("hello");
+			}
+
+			@Override
+			public List<String> findAll() {
+				RepositoryTimingInterceptor.STATEMENT_INSPECTOR.inspect("select n.body from notes n");
+				return List.of("a", "b", "c");
+			}
+		};
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.addInterface(NoteRepository.class);
+		proxyFactory.addAdvice(new RepositoryTimingInterceptor(metrics, "NoteRepository"));
+		NoteRepository repository = (NoteRepository) proxyFactory.getProxy();
+
+		repository.findByAuthor("lily");
+		repository.findAll();
+
+		assertThat(registry.get("db.statement").tags("layer", "jpa", "statement", "NoteRepository.findAll")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get("db.statement.rows").tags("statement", "NoteRepository.findAll")
+				.summary().totalAmount()).isEqualTo(3);
+		assertThat(registry.get("db.statement.rows").tags("statement", "NoteRepository.findByAuthor")
+				.summary().totalAmount()).isEqualTo(1);
+		SqlMetrics.SlowQuery sample = metrics.slowQueries().get(1);
+		assertThat(sample.sql()).isEqualTo("select n.body from notes n where n.author=?");
+		assertThat(sample.params()).hasSize(1).containsValue("lily");
+
+		// 리포지토리 호출 밖의 SQL은 모으지 않음
+		assertThat(RepositoryTimingInterceptor.STATEMENT_INSPECTOR.inspect("select 1")).isEqualTo("select 1");
+	}
+
+	@Test
+	void objectParametersAreShownByTypeOnly() {
+		record Account(String email, String passwordHash) {
+		}
+
+		assertThat(SqlMetrics.params(Map.of("account", new Account("a@b.c", "hash"))))
+				.containsEntry("account", "Account");
+	}
+
+	private NoteMapper mapper(SqlMetrics metrics) throws Exception {
+		if (database == null) {
+			database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+			new JdbcTemplate(database).execute(
+					"CREATE TABLE notes (id BIGINT AUTO_INCREMENT PRIMARY KEY, author VARCHAR(20), body VARCHAR(100), password_hash VARCHAR(100))");
+		}
+		SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+		factoryBean.setDataSource(database);
+		factoryBean.setPlugins(new SqlTimingInterceptor(metrics));
+		SqlSessionFactory factory = factoryBean.getObject();
+		factory.getConfiguration().addMapper(NoteMapper.class);
+		return new SqlSessionTemplate(factory).getMapper(NoteMapper.class);
+	}
+}
@@ -0,0 +1,205 @@
+package com.codelily.backend.mapper;
+
+import com.codelily.backend.service.PostAggregateService;
+import com.codelily.backend.support.EmbeddedMariaDb;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사이드바 집계(post_aggregates) 트리거와 보정 SQL을 마이그레이션 그대로 올린 내장 MariaDB에서 실행 (테스트마다 롤백).
+ * - V1_init/V2는 Flyway 파일명 규칙(V<n>__)을 따르지 않아 V1을 직접 적용 (V2의 컬럼은 V1에 이미 포함)
+ *   단, comments.path VARCHAR(1000)은 utf8mb4 인덱스 길이 상한(3072바이트)을 넘어 그대로는 만들 수 없으므로 700으로 적용
+ * - 나머지(V3~V7)는 운영과 같이 Flyway가 baseline-on-migrate로 적용
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.sql.init.mode=never",
+		"spring.flyway.enabled=true",
+		"spring.flyway.baseline-on-migrate=true"
+})
+class PostAggregateMapperTest {
+
+	private static final String DATABASE = "post_aggregates";
+	private static final LocalDateTime JAN = LocalDateTime.of(2025, 1, 5, 9, 0);
+	private static final LocalDateTime FEB = LocalDateTime.of(2025, 2, 5, 9, 0);
+
+	@DynamicPropertySource
+	static void dataSource(DynamicPropertyRegistry registry) throws Exception {
+		String url = EmbeddedMariaDb.jdbcUrl(DATABASE);
+		applyInitialSchema(url);
+		registry.add("spring.datasource.url", () -> url);
+		registry.add("spring.datasource.username", () -> "root");
+		registry.add("spring.datasource.password", () -> "");
+	}
+
+	/** 빈 데이터베이스에 V1_init.sql만 적용 (Flyway 적용 전 운영 DB와 같은 상태) */
+	private static void applyInitialSchema(String url) throws Exception {
+		SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, "root", "", true);
+		try (Connection connection = dataSource.getConnection()) {
+			connection.createStatement().execute("DROP DATABASE IF EXISTS " + DATABASE);
+			connection.createStatement().execute("CREATE DATABASE " + DATABASE);
+			connection.createStatement().execute("USE " + DATABASE);
+			String v1 = new ClassPathResource("db/migration/V1_init.sql").getContentAsString(StandardCharsets.UTF_8)
+					.replace("path       VARCHAR(1000)", "path       VARCHAR(700)");
+			ScriptUtils.executeSqlScript(connection, new ByteArrayResource(v1.getBytes(StandardCharsets.UTF_8)));
+		} finally {
+			dataSource.destroy();
+		}
+	}
+
+	@Autowired
+	private PostMapper postMapper;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private long author;
+	private long spring;
+	private long java;
+
+	@BeforeEach
+	void setUp() {
+		jdbc.update("INSERT INTO users (nickname, provider) VALUES ('lily', 'local')");
+		author = jdbc.queryForObject("SELECT id FROM users WHERE nickname = 'lily'", Long.class);
+		spring = tag("spring");
+		java = tag("java");
+	}
+
+	@Test
+	void onlyPublishedPostsAreCounted() {
+		long published = post("published", "PUBLISHED", "dev", JAN);
+		long draft = post("draft", "DRAFT", "dev", JAN);
+		tagPost(published, spring);
+		tagPost(draft, spring);
+		tagPost(draft, java);
+
+		assertThat(aggregates()).containsExactlyInAnyOrderEntriesOf(Map.of(
+				"CATEGORY:dev", 1, "MONTH:2025-01", 1, "TAG:spring", 1));
+	}
+
+	@Test
+	void publishingAndUnpublishingMoveAllCounts() {
+		long post = post("post", "DRAFT", "dev", JAN);
+		tagPost(post, spring);
+		assertThat(aggregates()).isEmpty();
+
+		jdbc.update("UPDATE posts SET status = 'PUBLISHED' WHERE id = ?", post);
+		assertThat(aggregates()).containsExactlyInAnyOrderEntriesOf(Map.of(
+				"CATEGORY:dev", 1, "MONTH:2025-01", 1, "TAG:spring", 1));
+
+		jdbc.update("UPDATE posts SET category = 'life', created_at = ? WHERE id = ?", FEB, post);
+		assertThat(aggregates()).containsExactlyInAnyOrderEntriesOf(Map.of(
+				"CATEGORY:life", 1, "MONTH:2025-02", 1, "TAG:spring", 1));
+
+		jdbc.update("UPDATE posts SET status = 'DRAFT' WHERE id = ?", post);
+		assertThat(aggregates()).isEmpty();
+	}
+
+	@Test
+	void retaggingAndRenamingTagsFollowTheTag() {
+		long post = post("post", "PUBLISHED", "dev", JAN);
+		tagPost(post, spring);
+
+		jdbc.update("DELETE FROM post_tags WHERE post_id = ? AND tag_id = ?", post, spring);
+		tagPost(post, java);
+		assertThat(aggregates()).containsEntry("TAG:java", 1).doesNotContainKey("TAG:spring");
+
+		jdbc.update("UPDATE tags SET name = 'jvm' WHERE id = ?", java);
+		assertThat(aggregates()).containsEntry("TAG:jvm", 1).doesNotContainKey("TAG:java");
+
+		jdbc.update("DELETE FROM tags WHERE id = ?", java);
+		assertThat(aggregates()).doesNotContainKeys("TAG:jvm", "TAG:java");
+		assertThat(storedTagNames()).doesNotContain("jvm", "java");
+	}
+
+	@Test
+	void deletingPostAlsoUncountsItsCascadedTags() {
+		long kept = post("kept", "PUBLISHED", "dev", JAN);
+		long deleted = post("deleted", "PUBLISHED", "dev", JAN);
+		tagPost(kept, spring);
+		tagPost(deleted, spring);
+		tagPost(deleted, java);
+
+		// post_tags는 FK CASCADE로 지워져 post_tags 트리거가 실행되지 않음 → posts BEFORE DELETE 트리거가 처리
+		jdbc.update("DELETE FROM posts WHERE id = ?", deleted);
+
+		assertThat(aggregates()).containsExactlyInAnyOrderEntriesOf(Map.of(
+				"CATEGORY:dev", 1, "MONTH:2025-01", 1, "TAG:spring", 1));
+	}
+
+	@Test
+	void repairRestoresDriftedRows() {
+		long post = post("post", "PUBLISHED", "dev", JAN);
+		tagPost(post, spring);
+		tagPost(post, java);
+		Map<String, Integer> expected = aggregates();
+
+		// 트리거 밖의 변경으로 어긋난 경우: 값이 틀림 / 행이 없음 / 없어야 할 행이 남음
+		jdbc.update("UPDATE post_aggregates SET post_count = 7 WHERE kind = 'CATEGORY' AND name = 'dev'");
+		jdbc.update("DELETE FROM post_aggregates WHERE kind = 'TAG' AND name = 'java'");
+		jdbc.update("INSERT INTO post_aggregates (kind, name, post_count) VALUES ('MONTH', '2024-12', 3)");
+		assertThat(postMapper.findPostAggregateDrift()).hasSize(3);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new PostAggregateService(postMapper, registry, Duration.ofSeconds(30), 100).repair();
+
+		assertThat(aggregates()).isEqualTo(expected);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM post_aggregates", Integer.class)).isEqualTo(expected.size());
+		assertThat(postMapper.findPostAggregateDrift()).isEmpty();
+		assertThat(registry.get("post.aggregates.repaired").counter().count()).isEqualTo(3);
+	}
+
+	private long tag(String name) {
+		jdbc.update("INSERT INTO tags (name) VALUES (?)", name);
+		return jdbc.queryForObject("SELECT id FROM tags WHERE name = ?", Long.class, name);
+	}
+
+	private long post(String slug, String status, String category, LocalDateTime createdAt) {
+		jdbc.update("INSERT INTO posts (slug, title, content, category, status, author_id, created_at) "
+				+ "VALUES (?, ?, 'body', ?, ?, ?, ?)", slug, slug, category, status, author, createdAt);
+		return jdbc.queryForObject("SELECT id FROM posts WHERE slug = ?", Long.class, slug);
+	}
+
+	private void tagPost(long postId, long tagId) {
+		jdbc.update("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", postId, tagId);
+	}
+
+	/**
+	 * "KIND:name" → post_count (0건 행 제외, 사이드바가 읽는 것과 같은 조건)
+	 * - 같은 트랜잭션에서 반복 조회하므로 MyBatis 세션 캐시를 거치지 않게 JdbcTemplate으로 읽음
+	 */
+	private Map<String, Integer> aggregates() {
+		Map<String, Integer> counts = new HashMap<>();
+		jdbc.query("SELECT kind, name, post_count FROM post_aggregates WHERE post_count > 0",
+				(RowCallbackHandler) rs -> counts.put(rs.getString("kind") + ":" + rs.getString("name"), rs.getInt("post_count")));
+		return counts;
+	}
+
+	private List<String> storedTagNames() {
+		return jdbc.queryForList("SELECT name FROM post_aggregates WHERE kind = 'TAG'", String.class);
+	}
+}
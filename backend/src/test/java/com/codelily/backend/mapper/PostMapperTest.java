@@ -0,0 +1,101 @@
+package com.codelily.backend.mapper;
+
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostMapper.xml 목록 쿼리를 내장 MariaDB에서 실행 (테스트마다 롤백).
+ * - 상태/작성자 필터와 snake_case 컬럼 → DTO 속성 매핑 확인
+ * - 상세 조회는 게시 중인 글만
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema/users.sql,classpath:schema/posts.sql",
+		"spring.flyway.enabled=false"
+})
+class PostMapperTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+	@DynamicPropertySource
+	static void dataSource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> EmbeddedMariaDb.jdbcUrl("post_mapper"));
+		registry.add("spring.datasource.username", () -> "root");
+		registry.add("spring.datasource.password", () -> "");
+	}
+
+	@Autowired
+	private PostMapper postMapper;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private long lily;
+	private long rose;
+
+	@BeforeEach
+	void setUp() {
+		lily = user("lily");
+		rose = user("rose");
+		post("published-1", "PUBLISHED", lily, T0);
+		post("lily-draft", "DRAFT", lily, T0.plusMinutes(1));
+		post("rose-draft", "DRAFT", rose, T0.plusMinutes(2));
+	}
+
+	@Test
+	void summariesMapColumnsToCamelCaseProperties() {
+		List<PostSummary> rows = postMapper.findPostSummaries("PUBLISHED", null, null, null, null, 10);
+
+		assertThat(rows).singleElement().satisfies(row -> {
+			assertThat(row.getSlug()).isEqualTo("published-1");
+			assertThat(row.getAuthorId()).isEqualTo(lily);
+			assertThat(row.getAuthorNickname()).isEqualTo("lily");
+			assertThat(row.getCommentCount()).isEqualTo(2);
+			assertThat(row.getCreatedAt()).isEqualTo(T0);
+		});
+	}
+
+	@Test
+	void draftsCanBeRestrictedToOneAuthor() {
+		assertThat(postMapper.findPostSummaries("DRAFT", null, lily, null, null, 10))
+				.extracting(PostSummary::getSlug).containsExactly("lily-draft");
+		assertThat(postMapper.findPostSummaries("DRAFT", null, null, null, null, 10))
+				.extracting(PostSummary::getSlug).containsExactly("rose-draft", "lily-draft");
+	}
+
+	@Test
+	void detailIsOnlyFoundForPublishedPosts() {
+		assertThat(postMapper.findPostDetailBySlug("published-1")).hasValueSatisfying(detail -> {
+			assertThat(detail.getContent()).isEqualTo("body");
+			assertThat(detail.getAuthorNickname()).isEqualTo("lily");
+			assertThat(detail.getUpdatedAt()).isNotNull();
+		});
+		assertThat(postMapper.findPostDetailBySlug("lily-draft")).isEmpty();
+	}
+
+	private long user(String nickname) {
+		jdbc.update("INSERT INTO users (nickname, provider) VALUES (?, 'local')", nickname);
+		return jdbc.queryForObject("SELECT id FROM users WHERE nickname = ?", Long.class, nickname);
+	}
+
+	private void post(String slug, String status, long authorId, LocalDateTime createdAt) {
+		jdbc.update("INSERT INTO posts (slug, title, content, category, status, comment_count, author_id, created_at) "
+				+ "VALUES (?, ?, 'body', 'dev', ?, 2, ?, ?)", slug, slug, status, authorId, createdAt);
+	}
+}
@@ -0,0 +1,127 @@
+package com.codelily.backend.mapper;
+
+import com.codelily.backend.domain.User;
+import com.codelily.backend.dto.UserSummary;
+import com.codelily.backend.support.EmbeddedMariaDb;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserMapper.xml을 application.yml의 mybatis.* 설정 그대로 올려 내장 MariaDB에서 실행.
+ * - XML 매퍼가 로드되지 않으면(설정 바인딩 실패) BindingException으로 실패
+ * - 테스트마다 롤백 (스키마는 schema/users.sql)
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.sql.init.mode=always",
+		"spring.sql.init.schema-locations=classpath:schema/users.sql",
+		"spring.flyway.enabled=false"
+})
+class UserMapperTest {
+
+	@DynamicPropertySource
+	static void dataSource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> EmbeddedMariaDb.jdbcUrl("user_mapper"));
+		registry.add("spring.datasource.username", () -> "root");
+		registry.add("spring.datasource.password", () -> "");
+	}
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Test
+	void firstSocialLoginCreatesUser() {
+		SocialUserUpsert upsert = upsert("kakao", "1001", "릴리", "lily@kakao.com");
+
+		userMapper.upsertSocialUser(upsert);
+
+		assertThat(upsert.isProvisioned()).isTrue();
+		assertThat(upsert.getRole()).isEqualTo("USER");
+		User user = userMapper.findByProviderId("kakao", "1001").orElseThrow();
+		assertThat(user.getId()).isEqualTo(upsert.getId());
+		assertThat(user.getNickname()).isEqualTo("릴리");
+		assertThat(user.getAvatarUrl()).isEqualTo("https://k.kakaocdn.net/1001.jpg");
+		assertThat(user.isEmailVerified()).isTrue();
+		assertThat(user.getLastLoginAt()).isNotNull();
+	}
+
+	@Test
+	void repeatedSocialLoginUpdatesSameRow() {
+		SocialUserUpsert first = upsert("google", "sub-1", "lily", "lily@gmail.com");
+		userMapper.upsertSocialUser(first);
+
+		SocialUserUpsert again = upsert("google", "sub-1", "lily", "lily@gmail.com");
+		again.setAvatarUrl("https://lh3.googleusercontent.com/new.jpg");
+		userMapper.upsertSocialUser(again);
+
+		assertThat(again.getId()).isEqualTo(first.getId());
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM users", Integer.class)).isEqualTo(1);
+		assertThat(userMapper.findByProviderId("google", "sub-1").orElseThrow().getAvatarUrl())
+				.isEqualTo("https://lh3.googleusercontent.com/new.jpg");
+	}
+
+	@Test
+	void takenNicknameAndEmailFallBackWithoutTouchingOtherAccount() {
+		userMapper.upsertSocialUser(upsert("kakao", "1001", "릴리", "lily@example.com"));
+
+		SocialUserUpsert other = upsert("google", "sub-9", "릴리", "lily@example.com");
+		userMapper.upsertSocialUser(other);
+
+		assertThat(other.isProvisioned()).isTrue();
+		User created = userMapper.findByProviderId("google", "sub-9").orElseThrow();
+		assertThat(created.getNickname()).isEqualTo(other.getFallbackNickname());
+		assertThat(created.getEmail()).isNull();
+		assertThat(userMapper.findByProviderId("kakao", "1001").orElseThrow().getEmail()).isEqualTo("lily@example.com");
+	}
+
+	@Test
+	void columnsMapToCamelCaseProperties() {
+		SocialUserUpsert upsert = upsert("kakao", "1002", "로즈", null);
+		userMapper.upsertSocialUser(upsert);
+
+		List<UserSummary> summaries = userMapper.findSummariesByIds(List.of(upsert.getId()));
+
+		assertThat(summaries).singleElement()
+				.satisfies(summary -> assertThat(summary.getAvatarUrl()).isEqualTo("https://k.kakaocdn.net/1002.jpg"));
+	}
+
+	@Test
+	void lastLoginIsOnlyMovedForward() {
+		SocialUserUpsert upsert = upsert("kakao", "1003", "데이지", null);
+		userMapper.upsertSocialUser(upsert);
+		LocalDateTime later = LocalDateTime.now().plusDays(1).withNano(0);
+
+		userMapper.updateLastLoginAt(Map.of(upsert.getId(), later));
+		userMapper.updateLastLoginAt(Map.of(upsert.getId(), later.minusDays(2)));
+
+		assertThat(userMapper.findById(upsert.getId()).orElseThrow().getLastLoginAt()).isEqualTo(later);
+	}
+
+	private static SocialUserUpsert upsert(String provider, String providerId, String nickname, String email) {
+		return SocialUserUpsert.builder()
+				.provider(provider)
+				.providerId(providerId)
+				.email(email)
+				.nickname(nickname)
+				.fallbackNickname(nickname + "#" + providerId)
+				.avatarUrl(provider.equals("kakao") ? "https://k.kakaocdn.net/" + providerId + ".jpg" : null)
+				.emailVerified(true)
+				.build();
+	}
+}
@@ -0,0 +1,26 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTest {
+
+	@Test
+	void splitsKoreanIntoOverlappingBigramsAndKeepsWords() {
+		assertThat(BigramTokenizer.tokenize("스프링부트 JWT 인증!"))
+				.containsExactly("스프", "프링", "링부", "부트", "jwt", "인증");
+	}
+
+	@Test
+	void splitsAtScriptBoundariesAndNormalizesWidth() {
+		assertThat(BigramTokenizer.tokenize("Ｒｅｄｉｓ캐시 v2, 자"))
+				.containsExactly("redis", "캐시", "v2", "자");
+	}
+
+	@Test
+	void returnsNothingForBlankOrSymbols() {
+		assertThat(BigramTokenizer.tokenize(null)).isEmpty();
+		assertThat(BigramTokenizer.tokenize("  ...!? ")).isEmpty();
+	}
+}
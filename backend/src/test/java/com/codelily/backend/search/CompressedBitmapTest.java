@@ -0,0 +1,77 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedBitmapTest {
+
+	@Test
+	void switchesBetweenArrayAndBitmapContainersWithoutLosingValues() {
+		CompressedBitmap bitmap = new CompressedBitmap();
+		IntStream.range(0, 5000).forEach(i -> bitmap.add(i * 2)); // 구간 0: 4096개 초과 → 비트맵
+		bitmap.add(70_000);
+
+		assertThat(bitmap.cardinality()).isEqualTo(5001);
+		assertThat(bitmap.contains(9998)).isTrue();
+		assertThat(bitmap.contains(9999)).isFalse();
+
+		IntStream.range(0, 4000).forEach(i -> bitmap.remove(i * 2)); // 다시 배열로
+		assertThat(bitmap.cardinality()).isEqualTo(1001);
+		assertThat(bitmap.contains(8000)).isTrue();
+		assertThat(bitmap.contains(0)).isFalse();
+
+		bitmap.remove(70_000);
+		assertThat(bitmap.contains(70_000)).isFalse();
+	}
+
+	@Test
+	void setOperationsMatchBitSet() {
+		Random random = new Random(17);
+		BitSet a = new BitSet();
+		BitSet b = new BitSet();
+		CompressedBitmap ca = new CompressedBitmap();
+		CompressedBitmap cb = new CompressedBitmap();
+		for (int i = 0; i < 20_000; i++) {
+			// 밀집 구간(0~65535)과 희소 구간이 섞이도록
+			int x = random.nextBoolean() ? random.nextInt(65_536) : random.nextInt(1_000_000);
+			int y = random.nextBoolean() ? random.nextInt(65_536) : random.nextInt(1_000_000);
+			a.set(x);
+			ca.add(x);
+			b.set(y);
+			cb.add(y);
+		}
+
+		BitSet and = (BitSet) a.clone();
+		and.and(b);
+		BitSet or = (BitSet) a.clone();
+		or.or(b);
+		BitSet andNot = (BitSet) a.clone();
+		andNot.andNot(b);
+
+		assertThat(ca.and(cb).descendingBelow(Integer.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(descending(and));
+		assertThat(ca.or(cb).descendingBelow(Integer.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(descending(or));
+		assertThat(ca.andNot(cb).descendingBelow(Integer.MAX_VALUE, Integer.MAX_VALUE)).containsExactly(descending(andNot));
+		// 연산 결과는 새 비트맵 (원본 불변)
+		assertThat(ca.cardinality()).isEqualTo(a.cardinality());
+		assertThat(cb.cardinality()).isEqualTo(b.cardinality());
+	}
+
+	@Test
+	void descendingBelowPagesFromUpperBound() {
+		CompressedBitmap bitmap = CompressedBitmap.of(3, 64, 65, 127, 65_535, 65_536, 200_000);
+
+		assertThat(bitmap.descendingBelow(Integer.MAX_VALUE, 3)).containsExactly(200_000, 65_536, 65_535);
+		assertThat(bitmap.descendingBelow(65_535, 3)).containsExactly(127, 65, 64);
+		assertThat(bitmap.descendingBelow(64, 10)).containsExactly(3);
+		assertThat(bitmap.descendingBelow(3, 10)).isEmpty();
+	}
+
+	private static int[] descending(BitSet set) {
+		return set.stream().boxed().sorted((x, y) -> y - x).mapToInt(Integer::intValue).toArray();
+	}
+}
@@ -0,0 +1,90 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 10만 건 검색 지연 비교: 역색인 vs 전체 스캔(LIKE '%..%'와 같은 부분 문자열 비교)
+ * ./gradlew benchmark --tests '*InvertedIndexBenchmarkTest'
+ */
+@Tag("benchmark")
+class InvertedIndexBenchmarkTest {
+
+	private static final int POSTS = 100_000;
+	private static final String[] WORDS = {
+			"스프링", "부트", "시큐리티", "레디스", "캐시", "트랜잭션", "인덱스", "쿼리", "성능", "최적화",
+			"리액트", "컴포넌트", "상태", "관리", "배포", "도커", "쿠버네티스", "모니터링", "로그", "장애",
+			"자바", "스트림", "동시성", "스레드", "메모리", "가비지", "컬렉션", "네트워크", "프로토콜", "보안",
+			"jwt", "oauth", "mysql", "redis", "kotlin", "gradle", "docker", "nginx", "linux", "api"
+	};
+	private static final String[] QUERIES = {"레디스 캐시", "쿠버네티스", "spring", "동시성 스레드", "jwt 보안", "성능 최적화"};
+
+	@Test
+	void indexedSearchIsFasterThanFullScan() {
+		Random random = new Random(42);
+		List<String> contents = new ArrayList<>(POSTS);
+		InvertedIndex index = new InvertedIndex();
+
+		long indexStart = System.nanoTime();
+		for (long id = 1; id <= POSTS; id++) {
+			String title = sentence(random, 4);
+			String content = sentence(random, 80);
+			contents.add((title + " " + content).toLowerCase(Locale.ROOT));
+			index.upsert(id, InvertedIndex.fields(title, content, WORDS[random.nextInt(10)], null));
+		}
+		long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+		// 워밍업
+		for (int i = 0; i < 50; i++) {
+			index.search(QUERIES[i % QUERIES.length], 10);
+		}
+
+		long[] indexed = new long[300];
+		for (int i = 0; i < indexed.length; i++) {
+			long start = System.nanoTime();
+			index.search(QUERIES[i % QUERIES.length], 10);
+			indexed[i] = System.nanoTime() - start;
+		}
+
+		long[] scanned = new long[30];
+		for (int i = 0; i < scanned.length; i++) {
+			String query = QUERIES[i % QUERIES.length].toLowerCase(Locale.ROOT);
+			long start = System.nanoTime();
+			int matches = 0;
+			for (String content : contents) {
+				if (content.contains(query)) {
+					matches++;
+				}
+			}
+			scanned[i] = System.nanoTime() - start;
+			assertThat(matches).isGreaterThanOrEqualTo(0);
+		}
+
+		System.out.printf("search over %d posts (index built in %d ms): index p50=%.2fms p99=%.2fms | full scan p50=%.2fms p99=%.2fms%n",
+				POSTS, indexMillis, percentile(indexed, 50), percentile(indexed, 99),
+				percentile(scanned, 50), percentile(scanned, 99));
+		assertThat(percentile(indexed, 50)).isLessThan(percentile(scanned, 50));
+	}
+
+	private static String sentence(Random random, int words) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			sb.append(WORDS[random.nextInt(WORDS.length)]).append(i % 7 == 6 ? ". " : " ");
+		}
+		return sb.toString();
+	}
+
+	private static double percentile(long[] nanos, int p) {
+		long[] sorted = nanos.clone();
+		Arrays.sort(sorted);
+		return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)] / 1_000_000.0;
+	}
+}
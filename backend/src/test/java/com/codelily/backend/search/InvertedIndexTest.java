@@ -0,0 +1,68 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+	private final InvertedIndex index = new InvertedIndex();
+
+	@Test
+	void ranksTitleMatchesAboveContentMatches() {
+		index.upsert(1L, InvertedIndex.fields("일상 기록", "오늘은 스프링 시큐리티 설정을 조금 만졌다", "diary", null));
+		index.upsert(2L, InvertedIndex.fields("스프링 시큐리티 정리", "필터 체인 구성", "backend", "spring,security"));
+		index.upsert(3L, InvertedIndex.fields("리액트 훅", "useEffect 정리", "frontend", null));
+
+		assertThat(index.search("시큐리티", 10)).extracting(InvertedIndex.Hit::postId).containsExactly(2L, 1L);
+		assertThat(index.search("security", 10)).extracting(InvertedIndex.Hit::postId).containsExactly(2L);
+	}
+
+	@Test
+	void prefersDocumentsMatchingAllTermsAndFallsBackToAny() {
+		index.upsert(1L, InvertedIndex.fields("레디스 캐시", null, null, null));
+		index.upsert(2L, InvertedIndex.fields("레디스 랭킹", null, null, null));
+
+		assertThat(index.search("레디스 캐시", 10)).extracting(InvertedIndex.Hit::postId).containsExactly(1L);
+		assertThat(index.search("캐시 없는 랭킹", 10)).extracting(InvertedIndex.Hit::postId)
+				.containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	void updatesAndRemovalsAreVisibleAndSurviveCompaction() {
+		for (long id = 1; id <= 3000; id++) {
+			index.upsert(id, InvertedIndex.fields("게시글 " + id, "공통 본문", null, null));
+		}
+		index.upsert(7L, InvertedIndex.fields("제목 변경", "새로운 내용", null, null));
+		for (long id = 100; id < 1500; id++) {
+			index.remove(id);
+		}
+
+		assertThat(index.search("새로운", 10)).extracting(InvertedIndex.Hit::postId).containsExactly(7L);
+		assertThat(index.search("7", 10)).isEmpty();
+		assertThat(index.search("공통", 5000)).hasSize(3000 - 1400 - 1);
+		assertThat(index.size()).isEqualTo(1600);
+	}
+
+	@Test
+	void snapshotRoundTripPreservesResults() throws Exception {
+		index.upsert(1L, InvertedIndex.fields("자바 스트림", "map filter reduce", "java", null));
+		index.upsert(2L, InvertedIndex.fields("자바 동시성", "CompletableFuture 정리", "java", null));
+		index.upsert(1L, InvertedIndex.fields("자바 스트림 심화", "collector", "java", null));
+		index.remove(2L);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		index.writeTo(out);
+		InvertedIndex restored = InvertedIndex.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+		assertThat(restored.postIds()).containsExactly(1L);
+		assertThat(restored.search("스트림", 10)).isEqualTo(index.search("스트림", 10));
+		assertThat(restored.search("동시성", 10)).isEmpty();
+
+		restored.upsert(3L, InvertedIndex.fields("스트림 병렬 처리", null, null, null));
+		assertThat(restored.search("스트림", 10)).extracting(InvertedIndex.Hit::postId).contains(1L, 3L);
+	}
+}
@@ -0,0 +1,67 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 제목 10만 건 자동완성 지연 (입력 중인 한 글자씩 늘어나는 접두사)
+ * ./gradlew benchmark --tests '*SuggestionIndexBenchmarkTest'
+ */
+@Tag("benchmark")
+class SuggestionIndexBenchmarkTest {
+
+	private static final int TITLES = 100_000;
+	private static final String[] WORDS = {
+			"스프링", "부트", "시큐리티", "레디스", "캐시", "트랜잭션", "인덱스", "쿼리", "성능", "최적화",
+			"리액트", "컴포넌트", "상태", "관리", "배포", "도커", "쿠버네티스", "모니터링", "로그", "장애",
+			"자바", "스트림", "동시성", "스레드", "메모리", "가비지", "컬렉션", "네트워크", "프로토콜", "보안"
+	};
+	private static final String[] TYPING = {"ㅅ", "스", "습", "스프", "스프ㄹ", "스프리", "스프링", "스프링 ", "스프링 ㅂ", "스프링 부"};
+
+	@Test
+	void prefixLookupStaysUnderOneMillisecondAtP99() {
+		Random random = new Random(7);
+		SuggestionIndex.Builder<String> builder = SuggestionIndex.builder();
+		for (int i = 0; i < TITLES; i++) {
+			String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+					+ " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+			String normalized = HangulJamo.normalize(title);
+			List<String> keys = new ArrayList<>();
+			keys.add(normalized);
+			int space = normalized.indexOf(' ');
+			while (space >= 0 && keys.size() < 4) {
+				keys.add(normalized.substring(space + 1));
+				space = normalized.indexOf(' ', space + 1);
+			}
+			builder.add(title, random.nextInt(10_000), keys);
+		}
+		long buildStart = System.nanoTime();
+		SuggestionIndex<String> index = builder.build();
+		long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+		String[] prefixes = Arrays.stream(TYPING).map(HangulJamo::normalize).toArray(String[]::new);
+		for (int i = 0; i < 20_000; i++) {
+			index.suggest(prefixes[i % prefixes.length], 10);
+		}
+		long[] latencies = new long[20_000];
+		for (int i = 0; i < latencies.length; i++) {
+			long start = System.nanoTime();
+			index.suggest(prefixes[i % prefixes.length], 10);
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		double p50 = latencies[latencies.length / 2] / 1_000.0;
+		double p99 = latencies[latencies.length * 99 / 100] / 1_000.0;
+
+		System.out.printf("suggest over %d titles (%d keys, built in %d ms): p50=%.1fus p99=%.1fus%n",
+				TITLES, index.keyCount(), buildMillis, p50, p99);
+		assertThat(p99).isLessThan(1_000.0);
+	}
+}
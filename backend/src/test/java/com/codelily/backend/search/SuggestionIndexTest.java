@@ -0,0 +1,54 @@
+package com.codelily.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionIndexTest {
+
+	@Test
+	void decomposesHangulSoPartiallyTypedSyllablesMatch() {
+		assertThat(HangulJamo.normalize("닭갈비")).isEqualTo("ㄷㅏㄹㄱㄱㅏㄹㅂㅣ");
+		assertThat(HangulJamo.normalize("달ㄱ")).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulJamo.normalize("Spring  Boot!")).isEqualTo("spring boot");
+		assertThat(HangulJamo.normalize("과")).isEqualTo(HangulJamo.normalize("고ㅏ"));
+	}
+
+	@Test
+	void returnsHighestScoredEntriesForPrefixWhileTyping() {
+		SuggestionIndex<String> index = SuggestionIndex.<String>builder()
+				.add("한글 자모 분해", 10, keys("한글 자모 분해", "자모 분해", "분해"))
+				.add("한국어 형태소", 50, keys("한국어 형태소", "형태소"))
+				.add("하루 회고", 99, keys("하루 회고", "회고"))
+				.add("spring", 5, keys("spring"))
+				.build();
+
+		// "한그" 입력 중 (ㅎㅏㄴㄱㅡ) → 한글
+		assertThat(index.suggest(HangulJamo.normalize("한그"), 10)).containsExactly("한글 자모 분해");
+		// "한" 입력 → 점수순
+		assertThat(index.suggest(HangulJamo.normalize("한"), 10)).containsExactly("한국어 형태소", "한글 자모 분해");
+		// "ㅎ" → 세 항목 모두, limit 적용
+		assertThat(index.suggest(HangulJamo.normalize("ㅎ"), 2)).containsExactly("하루 회고", "한국어 형태소");
+		// 단어 중간 시작 키
+		assertThat(index.suggest(HangulJamo.normalize("자모"), 10)).containsExactly("한글 자모 분해");
+		assertThat(index.suggest(HangulJamo.normalize("SPR"), 10)).containsExactly("spring");
+		assertThat(index.suggest(HangulJamo.normalize("없음"), 10)).isEmpty();
+	}
+
+	@Test
+	void entryWithSeveralMatchingKeysIsReturnedOnce() {
+		SuggestionIndex<String> index = SuggestionIndex.<String>builder()
+				.add("자바 자바스크립트", 10, keys("자바 자바스크립트", "자바스크립트"))
+				.add("자바 입문", 1, keys("자바 입문", "입문"))
+				.build();
+
+		assertThat(index.suggest(HangulJamo.normalize("자바"), 10)).containsExactly("자바 자바스크립트", "자바 입문");
+		assertThat(SuggestionIndex.<String>empty().suggest("ㄱ", 10)).isEmpty();
+	}
+
+	private static List<String> keys(String... texts) {
+		return java.util.Arrays.stream(texts).map(HangulJamo::normalize).toList();
+	}
+}
@@ -0,0 +1,40 @@
+package com.codelily.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomOAuth2UserServiceTest {
+
+	@Test
+	void fallbackNicknameIsDeterministicPerAccount() {
+		String first = CustomOAuth2UserService.fallbackNickname("kakao", "12345", "릴리");
+
+		assertThat(first).startsWith("릴리#").hasSize("릴리#".length() + 8);
+		assertThat(CustomOAuth2UserService.fallbackNickname("kakao", "12345", "릴리")).isEqualTo(first);
+		assertThat(CustomOAuth2UserService.fallbackNickname("google", "12345", "릴리")).isNotEqualTo(first);
+	}
+
+	@Test
+	void fallbackNicknameFitsColumn() {
+		String nickname = CustomOAuth2UserService.fallbackNickname("google", "sub-1", "가".repeat(80));
+
+		assertThat(nickname).hasSizeLessThanOrEqualTo(50);
+	}
+
+	@Test
+	void missingOrBlankNicknameFallsBackToProviderDefault() {
+		Map<String, Object> profile = new HashMap<>();
+		profile.put("nickname", null);
+		Map<String, Object> kakao = Map.of("id", 1L, "kakao_account", Map.of("profile", profile));
+		Map<String, Object> kakaoWithoutProfile = Map.of("id", 2L);
+		Map<String, Object> google = Map.of("sub", "sub-1", "name", "  ");
+
+		assertThat(CustomOAuth2UserService.extractKakao(kakao).nickname()).isEqualTo("KakaoUser");
+		assertThat(CustomOAuth2UserService.extractKakao(kakaoWithoutProfile).nickname()).isEqualTo("KakaoUser");
+		assertThat(CustomOAuth2UserService.extractGoogle(google).nickname()).isEqualTo("GoogleUser");
+	}
+}
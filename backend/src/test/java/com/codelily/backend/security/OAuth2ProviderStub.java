@@ -0,0 +1,56 @@
+package com.codelily.backend.security;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 오프라인 벤치마크용 카카오/구글 사용자 정보 API 스텁 (keep-alive 지원).
+ * - GET /kakao/v2/user/me
+ * - GET /google/userinfo
+ */
+class OAuth2ProviderStub implements AutoCloseable {
+
+	private static final byte[] KAKAO = """
+			{"id":1234567890,"kakao_account":{"email":"lily@kakao.com","is_email_verified":true,
+			"profile":{"nickname":"릴리","profile_image_url":"https://k.kakaocdn.net/p.jpg"}}}"""
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] GOOGLE = """
+			{"sub":"109876543210","name":"Lily","email":"lily@gmail.com","email_verified":true,
+			"picture":"https://lh3.googleusercontent.com/p.jpg"}"""
+			.getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+
+	OAuth2ProviderStub() throws IOException {
+		// 헤더/본문 분할 전송 시 Nagle + delayed ACK(~40ms)로 측정이 왜곡되지 않도록
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+		server.createContext("/kakao/v2/user/me", exchange -> respond(exchange, KAKAO));
+		server.createContext("/google/userinfo", exchange -> respond(exchange, GOOGLE));
+		server.setExecutor(Executors.newFixedThreadPool(16));
+		server.start();
+	}
+
+	String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	private static void respond(com.sun.net.httpserver.HttpExchange exchange, byte[] body) throws IOException {
+		exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+}
@@ -0,0 +1,109 @@
+package com.codelily.backend.security;
+
+import com.codelily.backend.config.OAuth2ClientConfig;
+import com.codelily.backend.mapper.SocialUserUpsert;
+import com.codelily.backend.mapper.UserMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스텁 제공자로 소셜 로그인 처리량 비교 (./gradlew benchmark).
+ * - per-call: 로그인마다 DefaultOAuth2UserService(RestTemplate) 새로 생성 (기존 방식)
+ * - pooled: OAuth2ClientConfig의 공유 커넥션 풀 클라이언트
+ */
+@Tag("benchmark")
+class OAuth2UserInfoClientBenchmarkTest {
+
+	private static final int WARMUP = 500;
+	private static final int LOGINS = 3_000;
+
+	@Test
+	void pooledClientBeatsPerLoginClient() throws Exception {
+		try (OAuth2ProviderStub stub = new OAuth2ProviderStub()) {
+			OAuth2UserRequest kakao = request("kakao", stub.baseUrl() + "/kakao/v2/user/me", "id");
+			OAuth2UserRequest google = request("google", stub.baseUrl() + "/google/userinfo", "sub");
+
+			OAuth2ClientConfig config = new OAuth2ClientConfig();
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			PoolingHttpClientConnectionManager manager = config.oauth2ConnectionManager(registry, 100, 50,
+					Duration.ofSeconds(2), Duration.ofSeconds(3), Duration.ofMinutes(5));
+			try (CloseableHttpClient httpClient = config.oauth2HttpClient(manager,
+					Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(30))) {
+				CustomOAuth2UserService pooled = service(config.oauth2UserInfoClient(httpClient), registry);
+
+				run(() -> pooled, kakao, google, WARMUP);
+				long pooledNanos = run(() -> pooled, kakao, google, LOGINS);
+
+				run(() -> service(new DefaultOAuth2UserService(), registry), kakao, google, WARMUP);
+				long perCallNanos = run(() -> service(new DefaultOAuth2UserService(), registry), kakao, google, LOGINS);
+
+				Timer kakaoTimer = registry.get("oauth2.userinfo.requests")
+						.tags("provider", "kakao", "outcome", "success").timer();
+				System.out.printf("per-call: %,d logins/s, pooled: %,d logins/s (kakao mean %.3f ms)%n",
+						perSecond(perCallNanos), perSecond(pooledNanos), kakaoTimer.mean(TimeUnit.MILLISECONDS));
+
+				assertThat(kakaoTimer.count()).isGreaterThan(0);
+			} finally {
+				manager.close();
+			}
+		}
+	}
+
+	private long run(Supplier<CustomOAuth2UserService> services, OAuth2UserRequest kakao,
+			OAuth2UserRequest google, int logins) {
+		long start = System.nanoTime();
+		for (int i = 0; i < logins; i++) {
+			services.get().loadUser(i % 2 == 0 ? kakao : google);
+		}
+		return (System.nanoTime() - start) / logins;
+	}
+
+	private static CustomOAuth2UserService service(DefaultOAuth2UserService client, SimpleMeterRegistry registry) {
+		UserMapper userMapper = mock(UserMapper.class);
+		doAnswer(invocation -> {
+			SocialUserUpsert upsert = invocation.getArgument(0);
+			upsert.setId(1L);
+			upsert.setRole("USER");
+			return 1;
+		}).when(userMapper).upsertSocialUser(any());
+		return new CustomOAuth2UserService(userMapper, client, registry);
+	}
+
+	private static OAuth2UserRequest request(String registrationId, String userInfoUri, String nameAttribute) {
+		ClientRegistration registration = ClientRegistration.withRegistrationId(registrationId)
+				.clientId("stub")
+				.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+				.redirectUri("http://localhost/login/oauth2/code/" + registrationId)
+				.authorizationUri("http://localhost/authorize")
+				.tokenUri("http://localhost/token")
+				.userInfoUri(userInfoUri)
+				.userNameAttributeName(nameAttribute)
+				.build();
+		OAuth2AccessToken token = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "stub-token",
+				Instant.now(), Instant.now().plusSeconds(3600));
+		return new OAuth2UserRequest(registration, token);
+	}
+
+	private static long perSecond(long nanosPerLogin) {
+		return TimeUnit.SECONDS.toNanos(1) / Math.max(1, nanosPerLogin);
+	}
+}
@@ -0,0 +1,95 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.support.LocalRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 경로는 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class BlacklistNearCacheTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis().deleteAfterEach("bl:test-*");
+
+	@Test
+	void bypassesFilterUntilFirstSync() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+		BlacklistNearCache cache = cache(redis, localRedis.listenerContainer(redis));
+		String token = token();
+
+		// 동기화 전에는 어떤 토큰이든 Redis 확인 필요
+		assertThat(cache.mightBeBlacklisted(token)).isTrue();
+
+		cache.resync();
+
+		assertThat(cache.mightBeBlacklisted(token)).isFalse();
+	}
+
+	@Test
+	void revokeOnOneNodeIsVisibleOnAnother() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+		BlacklistNearCache nodeA = cache(redis, localRedis.listenerContainer(redis));
+		BlacklistNearCache nodeB = cache(redis, localRedis.listenerContainer(redis));
+		nodeA.resync();
+		nodeB.resync();
+		Thread.sleep(200); // 구독 등록 대기
+		String token = token();
+
+		nodeA.add(token, Duration.ofMinutes(1));
+
+		assertThat(nodeA.mightBeBlacklisted(token)).isTrue();
+		long deadline = System.currentTimeMillis() + 2000;
+		while (!nodeB.mightBeBlacklisted(token) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(nodeB.mightBeBlacklisted(token)).isTrue();
+	}
+
+	@Test
+	void resyncPicksUpEntriesWhoseMessageWasMissed() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+		BlacklistNearCache cache = cache(redis, localRedis.listenerContainer(redis));
+		cache.resync();
+		String withTtl = token();
+		String withoutTtl = token();
+
+		// pub/sub 없이 Redis에만 기록 (구독이 끊긴 사이 다른 노드가 등록한 경우)
+		redis.opsForValue().set("bl:" + withTtl, "1", Duration.ofMinutes(5));
+		redis.opsForValue().set("bl:" + withoutTtl, "1");
+		assertThat(cache.mightBeBlacklisted(withTtl)).isFalse();
+
+		cache.resync();
+
+		assertThat(cache.mightBeBlacklisted(withTtl)).isTrue();
+		assertThat(cache.mightBeBlacklisted(withoutTtl)).isTrue();
+	}
+
+	@Test
+	void failedResyncFallsBackToRedisLookups() {
+		BlacklistNearCache cache = cache(localRedis.down(), mock(RedisMessageListenerContainer.class));
+
+		cache.resync();
+
+		assertThat(cache.mightBeBlacklisted(token())).isTrue();
+	}
+
+	private static BlacklistNearCache cache(StringRedisTemplate redis, RedisMessageListenerContainer container) {
+		BlacklistNearCache cache = new BlacklistNearCache(redis, container, new SimpleMeterRegistry(), 60_000, 65_536, 4);
+		cache.subscribe();
+		return cache;
+	}
+
+	private static String token() {
+		return "test-" + UUID.randomUUID();
+	}
+}
@@ -0,0 +1,142 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.CommentPageResponse;
+import com.codelily.backend.dto.CommentView;
+import com.codelily.backend.dto.UserSummary;
+import com.codelily.backend.mapper.CommentMapper;
+import com.codelily.backend.mapper.UserMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+	private final CommentMapper commentMapper = mock(CommentMapper.class);
+	private final UserMapper userMapper = mock(UserMapper.class);
+	private final CommentStreamHub commentStreamHub = mock(CommentStreamHub.class);
+	private final CommentService commentService = new CommentService(commentMapper, userMapper, commentStreamHub, 2);
+
+	@Test
+	void loadsPageInPathOrderWithAuthorsInOneQuery() {
+		CommentView root = comment(1L, 0, "/0000000001", 10L);
+		CommentView reply = comment(4L, 1, "/0000000001/0000000004", 11L);
+		CommentView deleted = comment(5L, 1, "/0000000001/0000000005", 12L);
+		deleted.setDeleted(true);
+		CommentView next = comment(2L, 0, "/0000000002", 10L);
+		when(commentMapper.findThreadPage(7L, null, null, 0, 1, 4)).thenReturn(List.of(root, reply, deleted, next));
+		when(userMapper.findSummariesByIds(any())).thenReturn(List.of(user(10L), user(11L)));
+		when(commentMapper.findIdsWithReplies(eq(7L), any())).thenReturn(List.of(4L));
+
+		CommentPageResponse page = commentService.thread(7L, null, 3);
+
+		assertThat(page.getItems()).extracting(CommentView::getId).containsExactly(1L, 4L, 5L);
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo("/0000000001/0000000005");
+		verify(userMapper, times(1)).findSummariesByIds(Set.of(10L, 11L));
+		verify(commentMapper).findIdsWithReplies(7L, List.of(4L, 5L));
+		assertThat(reply.isHasMoreReplies()).isTrue();
+		assertThat(root.getAuthor().getId()).isEqualTo(10L);
+		assertThat(deleted.getContent()).isNull();
+		assertThat(deleted.getAuthor()).isNull();
+	}
+
+	@Test
+	void expandsSubtreeBelowComment() {
+		CommentView parent = comment(4L, 1, "/0000000001/0000000004", 10L);
+		when(commentMapper.findById(4L)).thenReturn(Optional.of(parent));
+		when(commentMapper.findThreadPage(any(), any(), any(), anyInt(), anyInt(), anyInt())).thenReturn(List.of());
+
+		Optional<CommentPageResponse> page = commentService.replies(7L, 4L, "/0000000001/0000000004/0000000009", null);
+
+		assertThat(page).isPresent();
+		verify(commentMapper).findThreadPage(7L, "/0000000001/0000000004", "/0000000001/0000000004/0000000009",
+				2, 3, CommentService.DEFAULT_PAGE_SIZE + 1);
+		assertThat(commentService.replies(8L, 4L, null, null)).isEmpty();
+	}
+
+	@Test
+	void rejectsMalformedCursor() {
+		assertThatThrownBy(() -> commentService.thread(7L, "/1/4", null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void createBuildsPathFromParentAndBumpsCommentCount() {
+		when(commentMapper.addCommentCount(7L, 1)).thenReturn(1);
+		when(commentMapper.findById(4L)).thenReturn(Optional.of(comment(4L, 1, "/0000000001/0000000004", 10L)));
+		doAnswer(invocation -> {
+			invocation.<CommentView>getArgument(0).setId(12L);
+			return 1;
+		}).when(commentMapper).insert(any());
+		when(userMapper.findSummariesByIds(any())).thenReturn(List.of(user(11L)));
+
+		CommentView created = commentService.create(7L, 4L, 11L, "  답글  ").orElseThrow();
+
+		assertThat(created.getContent()).isEqualTo("답글");
+		assertThat(created.getDepth()).isEqualTo(2);
+		verify(commentMapper).setPath(12L, "/0000000001/0000000004/0000000012", 2);
+		assertThat(created.getAuthor().getId()).isEqualTo(11L);
+		verify(commentStreamHub).publish(created);
+	}
+
+	@Test
+	void createOnMissingPostOrWithBadParentFails() {
+		when(commentMapper.addCommentCount(7L, 1)).thenReturn(0);
+		assertThat(commentService.create(7L, null, 11L, "hi")).isEmpty();
+		verify(commentMapper, never()).insert(any());
+
+		when(commentMapper.addCommentCount(8L, 1)).thenReturn(1);
+		when(commentMapper.findById(4L)).thenReturn(Optional.of(comment(4L, 0, "/0000000004", 10L))); // 7번 글의 댓글
+		assertThatThrownBy(() -> commentService.create(8L, 4L, 11L, "hi"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> commentService.create(8L, null, 11L, " "))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void deleteIsLimitedToAuthorOrAdminAndDecrementsOnce() {
+		when(commentMapper.findById(4L)).thenReturn(Optional.of(comment(4L, 0, "/0000000004", 10L)));
+		when(commentMapper.markDeleted(4L)).thenReturn(1, 0);
+
+		assertThatThrownBy(() -> commentService.delete(7L, 4L, 11L, false))
+				.isInstanceOf(AccessDeniedException.class);
+		assertThat(commentService.delete(7L, 4L, 10L, false)).isTrue();
+		assertThat(commentService.delete(7L, 4L, 99L, true)).isTrue(); // 이미 삭제됨 → 다시 빼지 않음
+		assertThat(commentService.delete(8L, 4L, 10L, false)).isFalse();
+
+		verify(commentMapper, times(1)).addCommentCount(7L, -1);
+	}
+
+	private static CommentView comment(Long id, int depth, String path, Long authorId) {
+		CommentView comment = new CommentView();
+		comment.setId(id);
+		comment.setPostId(7L);
+		comment.setDepth(depth);
+		comment.setPath(path);
+		comment.setAuthorId(authorId);
+		comment.setContent("댓글 " + id);
+		return comment;
+	}
+
+	private static UserSummary user(Long id) {
+		UserSummary user = new UserSummary();
+		user.setId(id);
+		user.setNickname("user" + id);
+		return user;
+	}
+}
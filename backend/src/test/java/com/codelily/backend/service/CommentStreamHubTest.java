@@ -0,0 +1,200 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.CommentView;
+import com.codelily.backend.support.LocalRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 노드 간 전달은 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class CommentStreamHubTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis();
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final List<CommentStreamHub> hubs = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		hubs.forEach(CommentStreamHub::shutdown);
+	}
+
+	@Test
+	void fansOutToSubscribersOfThePostOnlyWhenRedisIsDown() throws Exception {
+		CommentStreamHub hub = hub(localRedis.down(), mock(RedisMessageListenerContainer.class), 8, 100);
+		RecordingEmitter a = (RecordingEmitter) hub.open(1L);
+		RecordingEmitter b = (RecordingEmitter) hub.open(1L);
+		RecordingEmitter other = (RecordingEmitter) hub.open(2L);
+
+		hub.publish(comment(1L, 5L));
+
+		assertThat(a.nextData()).contains("\"id\":5");
+		assertThat(b.nextData()).contains("\"id\":5");
+		assertThat(other.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	void dropsSlowConsumerWhenItsBufferIsFull() throws Exception {
+		CommentStreamHub hub = hub(localRedis.down(), mock(RedisMessageListenerContainer.class), 2, 100);
+		RecordingEmitter slow = (RecordingEmitter) hub.open(1L);
+		slow.block = new CountDownLatch(1);
+		RecordingEmitter fast = (RecordingEmitter) hub.open(1L);
+		assertThat(hub.subscriberCount()).isEqualTo(2);
+
+		for (long id = 1; id <= 10; id++) {
+			hub.publish(comment(1L, id));
+		}
+
+		await(() -> hub.subscriberCount() == 1);
+		assertThat(slow.completed).isTrue();
+		slow.block.countDown();
+		assertThat(fast.completed).isFalse();
+	}
+
+	@Test
+	void blockedSubscribersDoNotDelayOthers() throws Exception {
+		// 전송 스레드(2)보다 많은 구독자가 쓰기에서 막혀도 빠른 구독자는 send-timeout 안에 받음
+		CommentStreamHub hub = hub(localRedis.down(), mock(RedisMessageListenerContainer.class), 8, 100, Duration.ofMillis(200));
+		CountDownLatch stalled = new CountDownLatch(1);
+		List<RecordingEmitter> blocked = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			RecordingEmitter emitter = (RecordingEmitter) hub.open(1L);
+			emitter.block = stalled;
+			blocked.add(emitter);
+		}
+		RecordingEmitter fast = (RecordingEmitter) hub.open(1L);
+
+		// 구독자 순서와 무관하게 두 번째 이벤트 시점에는 전송 스레드가 모두 막힌 쓰기를 만난 상태
+		hub.publish(comment(1L, 5L));
+		assertThat(fast.nextData()).contains("\"id\":5");
+		hub.publish(comment(1L, 6L));
+		assertThat(fast.nextData()).contains("\"id\":6");
+
+		await(() -> hub.subscriberCount() == 1);
+		stalled.countDown();
+		await(() -> blocked.stream().allMatch(emitter -> emitter.completed));
+		assertThat(fast.completed).isFalse();
+	}
+
+	@Test
+	void rejectsSubscribersOverNodeLimit() {
+		CommentStreamHub hub = hub(localRedis.down(), mock(RedisMessageListenerContainer.class), 8, 1);
+		hub.open(1L);
+
+		assertThatThrownBy(() -> hub.open(1L)).isInstanceOf(IllegalStateException.class);
+		assertThat(hub.subscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	void deliversCommentsToSubscribersOnOtherNodes() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+
+		CommentStreamHub nodeA = hub(redis, localRedis.listenerContainer(redis), 8, 100);
+		CommentStreamHub nodeB = hub(redis, localRedis.listenerContainer(redis), 8, 100);
+		nodeA.subscribe();
+		nodeB.subscribe();
+		RecordingEmitter onA = (RecordingEmitter) nodeA.open(42L);
+		RecordingEmitter onB = (RecordingEmitter) nodeB.open(42L);
+		Thread.sleep(200); // 구독 등록 대기
+
+		nodeA.publish(comment(42L, 7L));
+
+		assertThat(onB.nextData()).contains("\"id\":7");
+		assertThat(onA.nextData()).contains("\"id\":7"); // 발행한 노드도 Redis를 거쳐 한 번만 받음
+		assertThat(onA.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	private CommentStreamHub hub(StringRedisTemplate redis, RedisMessageListenerContainer container,
+								 int bufferSize, int maxSubscribers) {
+		return hub(redis, container, bufferSize, maxSubscribers, Duration.ofSeconds(5));
+	}
+
+	private CommentStreamHub hub(StringRedisTemplate redis, RedisMessageListenerContainer container,
+								 int bufferSize, int maxSubscribers, Duration sendTimeout) {
+		CommentStreamHub hub = new CommentStreamHub(redis, container, objectMapper, new SimpleMeterRegistry(),
+				Duration.ofMinutes(1), sendTimeout, bufferSize, maxSubscribers, 2) {
+			@Override
+			SseEmitter newEmitter() {
+				return new RecordingEmitter();
+			}
+		};
+		hubs.add(hub);
+		return hub;
+	}
+
+	private static CommentView comment(Long postId, Long id) {
+		CommentView comment = new CommentView();
+		comment.setId(id);
+		comment.setPostId(postId);
+		comment.setContent("댓글 " + id);
+		return comment;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 2000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	/** 전송 내용을 기록하는 emitter (block이 있으면 첫 전송에서 대기 → 느린 구독자) */
+	private static class RecordingEmitter extends SseEmitter {
+
+		final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+		volatile CountDownLatch block;
+		volatile boolean completed;
+
+		@Override
+		public synchronized void send(Set<DataWithMediaType> items) {
+			String text = items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining());
+			if (text.startsWith(":")) {
+				return; // connected/ping 주석
+			}
+			CountDownLatch latch = block;
+			if (latch != null) {
+				try {
+					latch.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			events.add(text);
+		}
+
+		@Override
+		public synchronized void complete() {
+			completed = true;
+		}
+
+		String nextData() throws InterruptedException {
+			String event = events.poll(2, TimeUnit.SECONDS);
+			assertThat(event).isNotNull();
+			return event;
+		}
+	}
+}
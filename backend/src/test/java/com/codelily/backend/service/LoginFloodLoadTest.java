@@ -0,0 +1,145 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.JwtTokenProvider;
+import com.codelily.backend.domain.User;
+import com.codelily.backend.dto.LoginRequest;
+import com.codelily.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 폭주 중 게시글 조회 지연 비교 (./gradlew benchmark).
+ * - inline: 요청 스레드에서 bcrypt 실행 (기존 방식 – 같은 AuthService.login 경로, 검증만 호출 스레드에서 완료)
+ * - offloaded: PasswordVerifier 전용 풀 + 대기열 초과 시 503
+ * 요청 스레드 풀(Tomcat 워커 대용)은 두 경우 모두 같은 크기입니다.
+ */
+@Tag("benchmark")
+class LoginFloodLoadTest {
+
+	private static final int REQUEST_THREADS = 8;
+	private static final int LOGIN_FLOOD = 400;
+	private static final int POST_READS = 200;
+
+	private final PasswordEncoder encoder = new BCryptPasswordEncoder();
+	private final String passwordHash = encoder.encode("password");
+
+	@Test
+	void postReadLatencyHoldsSteadyDuringLoginFlood() throws Exception {
+		long[] inline = runScenario(false);
+		long[] offloaded = runScenario(true);
+
+		System.out.printf("post read latency (ms) inline: p50=%d p99=%d | offloaded: p50=%d p99=%d%n",
+				inline[0], inline[1], offloaded[0], offloaded[1]);
+
+		assertThat(offloaded[1]).isLessThan(inline[1]);
+	}
+
+	private long[] runScenario(boolean offloaded) throws Exception {
+		UserRepository userRepository = mock(UserRepository.class);
+		User user = User.builder().id(1L).email("user@codelily.dev").nickname("lily")
+				.passwordHash(passwordHash).role(User.Role.USER).build();
+		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+
+		PasswordVerifier verifier = offloaded
+				? new PasswordVerifier(encoder, new SimpleMeterRegistry(), 0, 64, 1)
+				: inlineVerifier();
+		AuthService authService = new AuthService(userRepository, new JwtTokenProvider(),
+				mock(RefreshTokenService.class), verifier, mock(UserActivityBuffer.class));
+
+		ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+		AtomicInteger rejected = new AtomicInteger();
+		List<CompletableFuture<?>> logins = Collections.synchronizedList(new ArrayList<>());
+		try {
+			for (int i = 0; i < LOGIN_FLOOD; i++) {
+				requestThreads.submit(() -> {
+					try {
+						CompletableFuture<AuthService.LoginResult> login = authService.login(loginRequest());
+						if (!offloaded) {
+							login.join(); // 응답까지 요청 스레드를 점유
+						}
+						logins.add(login);
+					} catch (LoginOverloadedException e) {
+						rejected.incrementAndGet(); // 503 응답
+					}
+				});
+			}
+
+			long[] submittedAt = new long[POST_READS];
+			long[] completedAt = new long[POST_READS];
+			List<Future<?>> reads = new ArrayList<>();
+			for (int i = 0; i < POST_READS; i++) {
+				int index = i;
+				submittedAt[index] = System.nanoTime();
+				reads.add(requestThreads.submit(() -> {
+					sleep(1); // 게시글 조회 (DB 1ms 가정)
+					completedAt[index] = System.nanoTime();
+				}));
+				sleep(2);
+			}
+			for (Future<?> read : reads) {
+				read.get();
+			}
+
+			List<Long> latencies = new ArrayList<>();
+			for (int i = 0; i < POST_READS; i++) {
+				latencies.add(TimeUnit.NANOSECONDS.toMillis(completedAt[i] - submittedAt[i]));
+			}
+			Collections.sort(latencies);
+
+			if (offloaded) {
+				System.out.printf("offloaded: accepted=%d rejected(503)=%d%n", logins.size(), rejected.get());
+			}
+			return new long[]{percentile(latencies, 50), percentile(latencies, 99)};
+		} finally {
+			requestThreads.shutdownNow();
+			verifier.shutdown();
+		}
+	}
+
+	/** 요청 스레드에서 바로 bcrypt를 실행하는 검증기 (전용 풀 도입 전 동작) */
+	private PasswordVerifier inlineVerifier() {
+		PasswordVerifier verifier = mock(PasswordVerifier.class);
+		when(verifier.matches(anyString(), anyString())).thenAnswer(invocation ->
+				CompletableFuture.completedFuture(encoder.matches(invocation.getArgument(0), invocation.getArgument(1))));
+		return verifier;
+	}
+
+	private static LoginRequest loginRequest() {
+		LoginRequest request = new LoginRequest();
+		request.setEmail("user@codelily.dev");
+		request.setPassword("password");
+		return request;
+	}
+
+	private static long percentile(List<Long> sorted, int p) {
+		int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+		return sorted.get(Math.max(0, index));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostAggregateRow;
+import com.codelily.backend.dto.SidebarAggregates;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostAggregateServiceTest {
+
+	private final PostMapper postMapper = mock(PostMapper.class);
+	private final Clock clock = mock(Clock.class);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final PostAggregateService service = new PostAggregateService(postMapper, registry,
+			Duration.ofSeconds(30), 2, clock);
+
+	@Test
+	void groupsAndOrdersAggregatesForSidebar() {
+		when(clock.millis()).thenReturn(100_000L);
+		when(postMapper.findPostAggregates()).thenReturn(List.of(
+				row("TAG", "java", 3), row("TAG", "spring", 7), row("TAG", "kotlin", 3),
+				row("CATEGORY", "life", 2), row("CATEGORY", "dev", 9),
+				row("MONTH", "2025-01", 4), row("MONTH", "2025-03", 1)));
+
+		service.refreshIfStale();
+		SidebarAggregates sidebar = service.sidebar();
+
+		// 태그는 게시글 수 내림차순 + tag-limit, 같은 수면 이름순
+		assertThat(sidebar.getTags()).extracting(SidebarAggregates.Count::getName).containsExactly("spring", "java");
+		assertThat(sidebar.getCategories()).extracting(SidebarAggregates.Count::getName).containsExactly("dev", "life");
+		assertThat(sidebar.getArchives()).extracting(SidebarAggregates.Count::getName).containsExactly("2025-03", "2025-01");
+	}
+
+	@Test
+	void reloadsOnlyWhenDirtyOrExpired() {
+		when(clock.millis()).thenReturn(100_000L);
+		when(postMapper.findPostAggregates()).thenReturn(List.of());
+
+		service.refreshIfStale();
+		service.refreshIfStale();
+		verify(postMapper, times(1)).findPostAggregates();
+
+		service.markDirty();
+		service.refreshIfStale();
+		verify(postMapper, times(2)).findPostAggregates();
+
+		when(clock.millis()).thenReturn(130_000L);
+		service.refreshIfStale();
+		verify(postMapper, times(3)).findPostAggregates();
+	}
+
+	@Test
+	void repairWritesOnlyWhenStoredValueIsUnchanged() {
+		when(postMapper.findPostAggregateDrift()).thenReturn(List.of(
+				drift("TAG", "missing", 3, null),
+				drift("CATEGORY", "dev", 5, 4L),
+				drift("TAG", "gone", 0, 2L),
+				drift("TAG", "empty", 0, 0L)));
+		when(postMapper.insertPostAggregate("TAG", "missing", 3)).thenReturn(1);
+		when(postMapper.updatePostAggregate("CATEGORY", "dev", 4, 5)).thenReturn(0); // 그 사이 트리거가 바꿈
+		when(postMapper.deletePostAggregate("TAG", "gone", 2)).thenReturn(1);
+		when(postMapper.deletePostAggregate("TAG", "empty", 0)).thenReturn(1);
+
+		service.repair();
+
+		assertThat(registry.counter("post.aggregates.repaired").count()).isEqualTo(2);
+	}
+
+	@Test
+	void repairWithoutDriftDoesNotWrite() {
+		when(postMapper.findPostAggregateDrift()).thenReturn(List.of());
+
+		service.repair();
+
+		verify(postMapper, never()).updatePostAggregate(anyString(), anyString(), anyLong(), anyLong());
+		assertThat(registry.counter("post.aggregates.repaired").count()).isZero();
+	}
+
+	private static PostAggregateRow row(String kind, String name, long count) {
+		return drift(kind, name, count, null);
+	}
+
+	private static PostAggregateRow drift(String kind, String name, long count, Long stored) {
+		PostAggregateRow row = new PostAggregateRow();
+		row.setKind(kind);
+		row.setName(name);
+		row.setPostCount(count);
+		row.setStoredCount(stored);
+		return row;
+	}
+}
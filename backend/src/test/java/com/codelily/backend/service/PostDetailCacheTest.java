@@ -0,0 +1,126 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.mapper.PostMapper;
+import com.codelily.backend.support.LocalRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 경로는 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class PostDetailCacheTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis().deleteAfterEach("post:slug:cache-*");
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	void warmPostIsServedWithoutDatabaseAndEvictionReachesOtherNodes() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+
+		String slug = "cache-test-" + UUID.randomUUID();
+		PostMapper postMapper = mock(PostMapper.class);
+		when(postMapper.findPostDetailBySlug(slug)).thenReturn(Optional.of(post(slug, "v1")));
+
+		PostDetailCache nodeA = cache(redis, postMapper);
+		PostDetailCache nodeB = cache(redis, postMapper);
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(nodeA.get(slug)).get().extracting(PostDetail::getTitle).isEqualTo("v1");
+		}
+		// 다른 노드는 Redis에서 채움
+		assertThat(nodeB.get(slug)).get().extracting(PostDetail::getCreatedAt).isEqualTo(post(slug, "v1").getCreatedAt());
+		verify(postMapper, times(1)).findPostDetailBySlug(slug);
+
+		// 수정 후 A에서 무효화 → B의 로컬 캐시도 pub/sub으로 비워짐
+		when(postMapper.findPostDetailBySlug(slug)).thenReturn(Optional.of(post(slug, "v2")));
+		nodeA.evict(slug);
+
+		long deadline = System.currentTimeMillis() + 2000;
+		String title = nodeB.get(slug).map(PostDetail::getTitle).orElse(null);
+		while (!"v2".equals(title) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			title = nodeB.get(slug).map(PostDetail::getTitle).orElse(null);
+		}
+		assertThat(title).isEqualTo("v2");
+		assertThat(nodeA.get(slug)).get().extracting(PostDetail::getTitle).isEqualTo("v2");
+	}
+
+	@Test
+	void draftsAreNeitherServedNorWrittenToRedis() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+
+		String slug = "cache-draft-" + UUID.randomUUID();
+		String staleSlug = "cache-draft-stale-" + UUID.randomUUID();
+		PostDetail draft = post(slug, "wip");
+		draft.setStatus("DRAFT");
+		PostMapper postMapper = mock(PostMapper.class);
+		when(postMapper.findPostDetailBySlug(slug)).thenReturn(Optional.of(draft));
+		// 수정 전에 공유 키에 저장된 임시글
+		redis.opsForValue().set("post:slug:" + staleSlug, objectMapper.writeValueAsString(draft));
+
+		PostDetailCache cache = cache(redis, postMapper);
+
+		assertThat(cache.get(slug)).isEmpty();
+		assertThat(redis.hasKey("post:slug:" + slug)).isFalse();
+		assertThat(cache.get(staleSlug)).isEmpty();
+		assertThat(redis.hasKey("post:slug:" + staleSlug)).isFalse();
+	}
+
+	@Test
+	void fallsBackToDatabaseAndLocalTierWhenRedisIsDown() {
+		PostMapper postMapper = mock(PostMapper.class);
+		when(postMapper.findPostDetailBySlug("hello")).thenReturn(Optional.of(post("hello", "v1")));
+		when(postMapper.findPostDetailBySlug("missing")).thenReturn(Optional.empty());
+
+		PostDetailCache cache = new PostDetailCache(postMapper, localRedis.down(), mock(RedisMessageListenerContainer.class),
+				objectMapper, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(cache.get("hello")).isPresent();
+			assertThat(cache.get("missing")).isEmpty();
+		}
+		verify(postMapper, times(1)).findPostDetailBySlug("hello");
+		verify(postMapper, times(1)).findPostDetailBySlug("missing");
+
+		// Redis 장애 중에도 현재 노드의 로컬 캐시는 무효화
+		cache.evict("hello");
+		cache.get("hello");
+		verify(postMapper, times(2)).findPostDetailBySlug("hello");
+	}
+
+	private PostDetailCache cache(StringRedisTemplate redis, PostMapper postMapper) throws Exception {
+		PostDetailCache cache = new PostDetailCache(postMapper, redis, localRedis.listenerContainer(redis), objectMapper,
+				new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), Duration.ofMinutes(5), Duration.ofMinutes(30));
+		cache.subscribe();
+		return cache;
+	}
+
+	private static PostDetail post(String slug, String title) {
+		PostDetail post = new PostDetail();
+		post.setId(1L);
+		post.setSlug(slug);
+		post.setTitle(title);
+		post.setContent("본문");
+		post.setStatus("PUBLISHED");
+		post.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+		return post;
+	}
+}
@@ -0,0 +1,99 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import com.codelily.backend.service.PostLeaderboard.Entry;
+import com.codelily.backend.service.PostLeaderboard.Window;
+import com.codelily.backend.support.LocalRedis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 경로는 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class PostLeaderboardTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis().deleteAfterEach("lb:*");
+
+	private final PostMapper postMapper = mock(PostMapper.class);
+
+	@Test
+	void rebuildSeedsAllTimeRankingAndIncrementsReorderIt() {
+		StringRedisTemplate redis = localRedis.template();
+		PostLeaderboard leaderboard = seeded(redis);
+
+		assertThat(leaderboard.top(Window.ALL, 3)).extracting(Entry::postId).containsExactly(2L, 3L, 1L);
+
+		leaderboard.recordViews(Map.of(1L, 100L));
+
+		assertThat(leaderboard.top(Window.ALL, 2)).extracting(Entry::postId).containsExactly(1L, 2L);
+		assertThat(leaderboard.top(Window.HOUR, 5)).extracting(Entry::postId).containsExactly(1L);
+		assertThat(leaderboard.top(Window.DAY, 5).get(0).score()).isEqualTo(100.0);
+	}
+
+	@Test
+	void incrementsDuringRebuildAreKeptAfterSwap() {
+		StringRedisTemplate redis = localRedis.template();
+		PostLeaderboard leaderboard = seeded(redis);
+		PostLeaderboard otherNode = new PostLeaderboard(redis, postMapper, false, Duration.ZERO);
+
+		// DB를 읽는 사이 다른 노드가 조회수를 반영 (1번: 기존 글, 9번: 새 글)
+		when(postMapper.findViewCounts(eq(0L), anyInt())).thenAnswer(invocation -> {
+			otherNode.recordViews(Map.of(1L, 7L, 9L, 3L));
+			return List.of(post(1, 10), post(2, 50));
+		});
+		when(postMapper.findViewCounts(eq(2L), anyInt())).thenReturn(List.of());
+
+		assertThat(leaderboard.rebuild()).isEqualTo(2);
+
+		// 3번은 DB에서 빠졌으므로 (비공개 전환 등) 랭킹에서도 빠짐
+		assertThat(leaderboard.top(Window.ALL, 10)).containsExactly(
+				new Entry(2L, 50), new Entry(1L, 17), new Entry(9L, 3));
+		assertThat(redis.keys(PostLeaderboard.ALL_TIME_KEY + ":*")).isEmpty();
+	}
+
+	@Test
+	void localHeapServesRankingWhenRedisIsDown() {
+		PostLeaderboard leaderboard = seeded(localRedis.down());
+
+		leaderboard.recordViews(Map.of(3L, 40L, 1L, 5L));
+
+		assertThat(leaderboard.top(Window.ALL, 2)).extracting(Entry::postId).containsExactly(3L, 2L);
+		assertThat(leaderboard.top(Window.HOUR, 5)).extracting(Entry::postId).containsExactly(3L, 1L);
+	}
+
+	@Test
+	void rejectsUnknownWindow() {
+		assertThatThrownBy(() -> Window.from("week")).isInstanceOf(IllegalArgumentException.class);
+		assertThat(Window.from(null)).isEqualTo(Window.ALL);
+	}
+
+	private PostLeaderboard seeded(StringRedisTemplate redis) {
+		when(postMapper.findViewCounts(eq(0L), anyInt())).thenReturn(List.of(post(1, 10), post(2, 50), post(3, 20)));
+		when(postMapper.findViewCounts(eq(3L), anyInt())).thenReturn(List.of());
+		PostLeaderboard leaderboard = new PostLeaderboard(redis, postMapper, false, Duration.ZERO);
+		assertThat(leaderboard.rebuild()).isEqualTo(3);
+		return leaderboard;
+	}
+
+	private static PostSummary post(long id, int views) {
+		PostSummary post = new PostSummary();
+		post.setId(id);
+		post.setViews(views);
+		return post;
+	}
+}
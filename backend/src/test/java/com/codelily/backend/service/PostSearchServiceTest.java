@@ -0,0 +1,108 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSearchDocument;
+import com.codelily.backend.dto.PostSearchHit;
+import com.codelily.backend.dto.PostSuggestion;
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchServiceTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+	@TempDir
+	Path dir;
+
+	private final PostMapper postMapper = mock(PostMapper.class);
+	private final List<PostSearchDocument> rows = new ArrayList<>();
+	private PostSuggestService suggestions = new PostSuggestService(new SimpleMeterRegistry());
+
+	@Test
+	void restartLoadsSnapshotAndOnlyReadsChangesSinceWatermark() {
+		rows.add(doc(1L, "스프링 시큐리티", "PUBLISHED", T0));
+		rows.add(doc(2L, "임시 저장 글 시큐리티", "DRAFT", T0.plusMinutes(1)));
+		stubMapper();
+
+		PostSearchService first = service();
+		first.initialize();
+		assertThat(first.search("시큐리티", 10)).extracting(hit -> hit.getPost().getId()).containsExactly(1L);
+		first.saveSnapshot();
+
+		// 재기동: 스냅샷 기준 시각(- overlap) 이후 변경분만 조회
+		doThrow(new AssertionError("전체 색인을 다시 하면 안 됩니다."))
+				.when(postMapper).findSearchDocuments(isNull(), any(), any(), anyInt());
+		doReturn(List.of(doc(2L, "공개된 시큐리티 글", "PUBLISHED", T0.plusMinutes(5))))
+				.when(postMapper).findSearchDocuments(eq(T0.plusMinutes(1).minusSeconds(30)), any(), any(), anyInt());
+
+		when(postMapper.findSuggestionSources(anyLong(), anyInt())).thenReturn(List.of(rows.get(0)));
+
+		suggestions = new PostSuggestService(new SimpleMeterRegistry());
+		PostSearchService restarted = service();
+		restarted.initialize();
+		List<PostSearchHit> hits = restarted.search("시큐리티", 10);
+		assertThat(hits).extracting(hit -> hit.getPost().getId()).containsExactlyInAnyOrder(1L, 2L);
+
+		// 자동완성은 스냅샷이 아닌 제목 원본 + 변경분으로 채워짐
+		suggestions.rebuildIfDirty();
+		assertThat(suggestions.suggest("시큐", 10)).extracting(PostSuggestion::getPostId).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	void rejectsBlankOrTooLongQueries() {
+		PostSearchService service = service();
+		assertThatThrownBy(() -> service.search("  ", null)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> service.search("가".repeat(101), null)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void stubMapper() {
+		when(postMapper.findSearchDocuments(isNull(), any(), any(), anyInt())).thenAnswer(inv -> List.copyOf(rows));
+		when(postMapper.findViewCounts(anyLong(), anyInt())).thenAnswer(inv -> List.of(summary(1L), summary(2L)));
+		when(postMapper.findPublishedSummariesByIds(any())).thenAnswer(inv -> {
+			Collection<Long> ids = inv.getArgument(0);
+			return ids.stream().map(PostSearchServiceTest::summary).toList();
+		});
+	}
+
+	private PostSearchService service() {
+		return new PostSearchService(postMapper, suggestions, mock(PostTagIndex.class), new SimpleMeterRegistry(), dir.resolve("posts.idx").toString(),
+				500, 20000, Duration.ofSeconds(30), false);
+	}
+
+	private static PostSearchDocument doc(Long id, String title, String status, LocalDateTime updatedAt) {
+		PostSearchDocument doc = new PostSearchDocument();
+		doc.setId(id);
+		doc.setTitle(title);
+		doc.setContent("본문");
+		doc.setStatus(status);
+		doc.setUpdatedAt(updatedAt);
+		return doc;
+	}
+
+	private static PostSummary summary(Long id) {
+		PostSummary summary = new PostSummary();
+		summary.setId(id);
+		return summary;
+	}
+}
@@ -0,0 +1,194 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostDetail;
+import com.codelily.backend.dto.PostPageResponse;
+import com.codelily.backend.dto.PostSummary;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_000_000);
+
+	private final PostMapper postMapper = mock(PostMapper.class);
+	private final PostTagIndex postTagIndex = new PostTagIndex(postMapper, new SimpleMeterRegistry(), 2000);
+	private final PostDetailCache postDetailCache = mock(PostDetailCache.class);
+	private final PostViewCounter postViewCounter = mock(PostViewCounter.class);
+	private final PostService postService = new PostService(postMapper, postDetailCache,
+			postViewCounter, mock(PostLeaderboard.class), postTagIndex,
+			new SimpleMeterRegistry(), Duration.ofSeconds(5), Duration.ofMinutes(1));
+
+	@Test
+	void returnsCursorOfLastItemWhenMoreRowsExist() {
+		when(postMapper.findPostSummaries(eq("PUBLISHED"), isNull(), isNull(), isNull(), isNull(), eq(4)))
+				.thenReturn(rows(4));
+
+		PostPageResponse page = postService.listPosts(null, 3, " ", null, null, null, false);
+
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getItems()).extracting(PostSummary::getId).containsExactly(4L, 3L, 2L);
+
+		PostService.Cursor cursor = PostService.Cursor.decode(page.getNextCursor());
+		assertThat(cursor.id()).isEqualTo(2L);
+		assertThat(cursor.createdAt()).isEqualTo(T0.plusSeconds(2));
+	}
+
+	@Test
+	void passesDecodedCursorToMapperAndEndsOnShortPage() {
+		String cursor = new PostService.Cursor(T0, 10L).encode();
+		when(postMapper.findPostSummaries(any(), any(), any(), any(), any(), anyInt())).thenReturn(rows(2));
+
+		PostPageResponse page = postService.listPosts(cursor, 500, "dev", "draft", null, 7L, false);
+
+		verify(postMapper).findPostSummaries("DRAFT", "dev", 7L, T0, 10L, PostService.MAX_PAGE_SIZE + 1);
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void rejectsMalformedCursorAndUnknownStatus() {
+		assertThatThrownBy(() -> postService.listPosts("not-a-cursor", null, null, null, null, null, false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> postService.listPosts(null, null, null, "DELETED", null, null, false))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> postService.listPosts(null, null, null, null, " , -", null, false))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void draftsAreListedOnlyForTheirAuthorOrAdmin() {
+		when(postMapper.findPostSummaries(any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+		postService.listPosts(null, 10, null, "DRAFT", null, null, false);
+		verify(postMapper).findPostSummaries("PUBLISHED", null, null, null, null, 11);
+
+		postService.listPosts(null, 10, null, "DRAFT", null, 7L, false);
+		verify(postMapper).findPostSummaries("DRAFT", null, 7L, null, null, 11);
+
+		postService.listPosts(null, 10, null, "DRAFT", null, 1L, true);
+		verify(postMapper).findPostSummaries("DRAFT", null, null, null, null, 11);
+	}
+
+	@Test
+	void tagFilteredDraftsKeepOnlyTheViewersOwnPosts() {
+		for (long id = 1; id <= 4; id++) {
+			postTagIndex.update(id, "DRAFT", "dev", "spring");
+		}
+		when(postMapper.findSummariesByIds(any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(id -> {
+				PostSummary row = summary(id, "DRAFT");
+				row.setAuthorId(id % 2 == 0 ? 7L : 8L);
+				return row;
+			}).toList();
+		});
+
+		assertThat(postService.listPosts(null, 10, null, "DRAFT", "spring", null, false).getItems()).isEmpty();
+		assertThat(postService.listPosts(null, 10, null, "DRAFT", "spring", 7L, false).getItems())
+				.extracting(PostSummary::getId).containsExactly(4L, 2L);
+		assertThat(postService.listPosts(null, 10, null, "DRAFT", "spring", 1L, true).getItems()).hasSize(4);
+	}
+
+	@Test
+	void tagFilterPagesIdsFromBitmapAndDropsRowsChangedSinceIndexing() {
+		for (long id = 1; id <= 6; id++) {
+			postTagIndex.update(id, "PUBLISHED", "dev", id % 2 == 0 ? "spring,java" : "spring");
+		}
+		// 6번은 색인 반영 전에 비공개로 바뀐 상태
+		when(postMapper.findSummariesByIds(any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(id -> summary(id, id == 6L ? "DRAFT" : "PUBLISHED")).toList();
+		});
+
+		PostPageResponse page = postService.listPosts(null, 2, "dev", null, "spring,java|kotlin", null, false);
+
+		assertThat(page.getItems()).extracting(PostSummary::getId).containsExactly(4L, 2L);
+		assertThat(page.isHasNext()).isFalse();
+		verify(postMapper, never()).findPostSummaries(any(), any(), any(), any(), any(), anyInt());
+
+		PostPageResponse first = postService.listPosts(null, 2, null, null, "spring,-java", null, false);
+		assertThat(first.getItems()).extracting(PostSummary::getId).containsExactly(5L, 3L);
+		PostPageResponse second = postService.listPosts(first.getNextCursor(), 2, null, null, "spring,-java", null, false);
+		assertThat(second.getItems()).extracting(PostSummary::getId).containsExactly(1L);
+		assertThat(second.isHasNext()).isFalse();
+	}
+
+	@Test
+	void tagFilterContinuesFromLastScannedIdWhenRoundLimitIsHit() {
+		for (long id = 1; id <= 20; id++) {
+			postTagIndex.update(id, "PUBLISHED", "dev", "spring");
+		}
+		// 색인 반영 전에 11~20번이 모두 비공개로 바뀐 상태
+		when(postMapper.findSummariesByIds(any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(id -> summary(id, id > 10 ? "DRAFT" : "PUBLISHED")).toList();
+		});
+
+		PostPageResponse first = postService.listPosts(null, 2, null, null, "spring", null, false);
+
+		// 3회 x 3건을 읽고도 채우지 못함 → 빈 페이지지만 다음 페이지가 있음
+		assertThat(first.getItems()).isEmpty();
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(PostService.Cursor.decode(first.getNextCursor()).id()).isEqualTo(12L);
+
+		PostPageResponse second = postService.listPosts(first.getNextCursor(), 2, null, null, "spring", null, false);
+		assertThat(second.getItems()).extracting(PostSummary::getId).containsExactly(10L, 9L);
+		assertThat(second.isHasNext()).isTrue();
+	}
+
+	@Test
+	void draftDetailIsHiddenAndNotCounted() {
+		when(postDetailCache.get("hello")).thenReturn(Optional.of(detail(1L, "PUBLISHED")));
+		when(postDetailCache.get("wip")).thenReturn(Optional.of(detail(2L, "DRAFT")));
+
+		assertThat(postService.getPost("hello", "ip:10.0.0.1")).isPresent();
+		assertThat(postService.getPost("wip", "ip:10.0.0.1")).isEmpty();
+
+		verify(postViewCounter).recordView(1L, "ip:10.0.0.1");
+		verify(postViewCounter, never()).recordView(eq(2L), any());
+	}
+
+	private static PostDetail detail(long id, String status) {
+		PostDetail detail = new PostDetail();
+		detail.setId(id);
+		detail.setStatus(status);
+		return detail;
+	}
+
+	private static PostSummary summary(long id, String status) {
+		PostSummary summary = new PostSummary();
+		summary.setId(id);
+		summary.setStatus(status);
+		summary.setCategory("dev");
+		summary.setCreatedAt(T0.plusSeconds(id));
+		return summary;
+	}
+
+	private static List<PostSummary> rows(int count) {
+		return LongStream.iterate(count, id -> id - 1).limit(count).mapToObj(id -> {
+			PostSummary summary = new PostSummary();
+			summary.setId(id);
+			summary.setCreatedAt(T0.plusSeconds(id));
+			return summary;
+		}).toList();
+	}
+}
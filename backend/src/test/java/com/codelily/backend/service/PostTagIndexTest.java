@@ -0,0 +1,86 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.dto.PostSearchDocument;
+import com.codelily.backend.mapper.PostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostTagIndexTest {
+
+	private final PostMapper postMapper = mock(PostMapper.class);
+	private final PostTagIndex index = new PostTagIndex(postMapper, new SimpleMeterRegistry(), 2);
+
+	@Test
+	void combinesTagsWithAndOrNotAndStatusCategory() {
+		index.update(1L, "PUBLISHED", "dev", "Spring,Java");
+		index.update(2L, "PUBLISHED", "dev", "spring,kotlin");
+		index.update(3L, "PUBLISHED", "life", "spring,java");
+		index.update(4L, "DRAFT", "dev", "spring,java");
+		index.update(5L, "PUBLISHED", "dev", "spring,java,legacy");
+
+		assertThat(find("spring,java", "PUBLISHED", null)).containsExactly(5, 3, 1);
+		assertThat(find("spring, java|kotlin", "PUBLISHED", "dev")).containsExactly(5, 2, 1);
+		assertThat(find("java,-legacy", "PUBLISHED", null)).containsExactly(3, 1);
+		assertThat(find("-java", "PUBLISHED", null)).containsExactly(2);
+		assertThat(find("java", "DRAFT", null)).containsExactly(4);
+		assertThat(find("java,rust", "PUBLISHED", null)).isEmpty();
+		assertThat(index.findIds(PostTagIndex.TagQuery.parse("spring"), "PUBLISHED", null, 5L, 2)).containsExactly(3L, 2L);
+	}
+
+	@Test
+	void updateMovesPostBetweenBitmaps() {
+		index.update(1L, "DRAFT", "dev", "spring");
+		index.update(1L, "PUBLISHED", "life", "java");
+
+		assertThat(find("spring", "DRAFT", null)).isEmpty();
+		assertThat(find("java", "PUBLISHED", "life")).containsExactly(1);
+
+		index.remove(1L);
+		assertThat(find("java", "PUBLISHED", null)).isEmpty();
+	}
+
+	@Test
+	void rebuildReadsAllPagesAndKeepsChangesMadeMeanwhile() {
+		when(postMapper.findTagIndexRows(eq(0L), anyInt())).thenAnswer(invocation -> {
+			// 재구성 도중 들어온 변경 (재구성 결과보다 최신)
+			index.update(2L, "PUBLISHED", "dev", "kotlin");
+			return List.of(row(1L, "spring"), row(2L, "spring"));
+		});
+		when(postMapper.findTagIndexRows(eq(2L), anyInt())).thenReturn(List.of(row(3L, "spring")));
+
+		index.rebuild();
+
+		assertThat(find("spring", "PUBLISHED", null)).containsExactly(3, 1);
+		assertThat(find("kotlin", "PUBLISHED", null)).containsExactly(2);
+	}
+
+	@Test
+	void rejectsEmptyOrTooLongQueries() {
+		assertThatThrownBy(() -> PostTagIndex.TagQuery.parse(" , | ,-"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> PostTagIndex.TagQuery.parse("t,".repeat(PostTagIndex.TagQuery.MAX_TERMS + 1)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private long[] find(String tags, String status, String category) {
+		return index.findIds(PostTagIndex.TagQuery.parse(tags), status, category, null, 100);
+	}
+
+	private static PostSearchDocument row(long id, String tags) {
+		PostSearchDocument row = new PostSearchDocument();
+		row.setId(id);
+		row.setStatus("PUBLISHED");
+		row.setCategory("dev");
+		row.setTags(tags);
+		return row;
+	}
+}
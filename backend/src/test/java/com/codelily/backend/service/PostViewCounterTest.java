@@ -0,0 +1,137 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.mapper.PostMapper;
+import com.codelily.backend.support.LocalRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 경로는 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class PostViewCounterTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis();
+
+	private final Map<Long, Long> written = new ConcurrentHashMap<>();
+
+	@Test
+	void concurrentViewsOnOnePostAreDedupedAndFlushedOnce() throws Exception {
+		StringRedisTemplate redis = localRedis.template();
+		PostViewCounter counter = new PostViewCounter(redis, recordingMapper(), mock(PostLeaderboard.class), new SimpleMeterRegistry(), 500, 1000);
+		long postId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		localRedis.deleteAfterEach("pv:uv:" + postId + ":*");
+
+		int threads = 8;
+		int viewersPerThread = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int thread = t;
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < viewersPerThread; i++) {
+					String viewer = "u:" + thread + "-" + i;
+					counter.recordView(postId, viewer);
+					counter.recordView(postId, viewer); // 같은 날 재조회는 집계되지 않음
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		counter.flush();
+
+		int unique = threads * viewersPerThread;
+		// HyperLogLog 추정치 (표준 오차 0.81%)
+		assertThat(written.get(postId)).isBetween((long) (unique * 0.97), (long) (unique * 1.03));
+
+		written.clear();
+		counter.flush();
+		assertThat(written).doesNotContainKey(postId);
+	}
+
+	@Test
+	void fallsBackToLocalCountersWhenRedisIsDown() {
+		PostViewCounter counter = new PostViewCounter(localRedis.down(), recordingMapper(), mock(PostLeaderboard.class), new SimpleMeterRegistry(), 500, 1000);
+
+		assertThat(counter.recordView(7L, "ip:10.0.0.1")).isTrue();
+		assertThat(counter.recordView(7L, "ip:10.0.0.1")).isFalse();
+		assertThat(counter.recordView(7L, "ip:10.0.0.2")).isTrue();
+		assertThat(counter.recordView(8L, "ip:10.0.0.1")).isTrue();
+
+		counter.flush();
+
+		assertThat(written).containsEntry(7L, 2L).containsEntry(8L, 1L);
+	}
+
+	@Test
+	void failedDatabaseWriteKeepsCountsForNextFlush() {
+		PostMapper postMapper = mock(PostMapper.class);
+		when(postMapper.incrementViews(any()))
+				.thenThrow(new IllegalStateException("db down"))
+				.thenAnswer(invocation -> {
+					written.putAll(invocation.getArgument(0));
+					return 1;
+				});
+		PostViewCounter counter = new PostViewCounter(localRedis.down(), postMapper, mock(PostLeaderboard.class), new SimpleMeterRegistry(), 500, 1000);
+
+		counter.recordView(7L, "ip:10.0.0.1");
+		counter.flush();
+		counter.recordView(7L, "ip:10.0.0.2");
+		counter.flush();
+
+		assertThat(written).containsEntry(7L, 2L);
+	}
+
+	@Test
+	void closingContextFlushesLocalCountsBeforeRedisConnectionStops() {
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+			// 실제 구성처럼 연결 팩토리도 컨텍스트가 시작/종료 (Redis는 연결 거부 → 로컬 카운터에 누적)
+			context.registerBean(LettuceConnectionFactory.class,
+					() -> new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 1)));
+			context.registerBean(StringRedisTemplate.class,
+					() -> new StringRedisTemplate(context.getBean(LettuceConnectionFactory.class)));
+			context.registerBean(PostViewCounter.class, () -> new PostViewCounter(context.getBean(StringRedisTemplate.class),
+					recordingMapper(), mock(PostLeaderboard.class), new SimpleMeterRegistry(), 500, 1000));
+			context.refresh();
+
+			PostViewCounter counter = context.getBean(PostViewCounter.class);
+			counter.recordView(7L, "ip:10.0.0.1");
+			counter.recordView(7L, "ip:10.0.0.2");
+			assertThat(written).isEmpty();
+		}
+
+		assertThat(written).containsEntry(7L, 2L);
+	}
+
+	private PostMapper recordingMapper() {
+		PostMapper postMapper = mock(PostMapper.class);
+		when(postMapper.incrementViews(any())).thenAnswer(invocation -> {
+			Map<Long, Long> deltas = invocation.getArgument(0);
+			deltas.forEach((postId, delta) -> written.merge(postId, delta, Long::sum));
+			return deltas.size();
+		});
+		return postMapper;
+	}
+}
@@ -0,0 +1,104 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.RateLimitProperties;
+import com.codelily.backend.config.RateLimitProperties.Policy;
+import com.codelily.backend.service.RateLimiter.Decision;
+import com.codelily.backend.support.LocalRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 경로는 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class RateLimiterTest {
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis().deleteAfterEach("rl:test-*");
+
+	@Test
+	void allowsBurstUpToCapacityThenThrottles() {
+		RateLimiter rateLimiter = redisRateLimiter();
+		Policy policy = policy(5, 0.5);
+		String key = UUID.randomUUID().toString();
+
+		for (int i = 0; i < 5; i++) {
+			Decision decision = rateLimiter.tryAcquire(policy, key);
+			assertThat(decision.allowed()).isTrue();
+			assertThat(decision.limit()).isEqualTo(5);
+		}
+
+		Decision throttled = rateLimiter.tryAcquire(policy, key);
+		assertThat(throttled.allowed()).isFalse();
+		assertThat(throttled.remaining()).isZero();
+		assertThat(throttled.retryAfterSeconds()).isBetween(1L, 2L);
+	}
+
+	@Test
+	void keysAreLimitedIndependently() {
+		RateLimiter rateLimiter = redisRateLimiter();
+		Policy policy = policy(1, 0.1);
+
+		assertThat(rateLimiter.tryAcquire(policy, "a").allowed()).isTrue();
+		assertThat(rateLimiter.tryAcquire(policy, "a").allowed()).isFalse();
+		assertThat(rateLimiter.tryAcquire(policy, "b").allowed()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void skipsRedisForRetryIntervalAfterFailureAndRecovers() throws Exception {
+		StringRedisTemplate redis = mock(StringRedisTemplate.class);
+		when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+				.thenThrow(new RedisConnectionFailureException("down"));
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setLeaseSize(1);
+		properties.setRedisRetryInterval(Duration.ofSeconds(1));
+		RateLimiter limiter = new RateLimiter(redis, properties, new SimpleMeterRegistry());
+		Policy policy = policy(100, 100);
+
+		// 장애 구간: 첫 요청만 Redis를 호출하고 나머지는 로컬 버킷
+		for (int i = 0; i < 20; i++) {
+			assertThat(limiter.tryAcquire(policy, "k" + i).allowed()).isTrue();
+		}
+		verify(redis, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+		// 재시도 시각 이후 한 요청이 다시 확인 → 복구되면 이후 요청은 Redis로
+		doReturn(List.of(1L, 99L, 0L)).when(redis).execute(any(RedisScript.class), anyList(), any(Object[].class));
+		Thread.sleep(1100);
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire(policy, "r" + i).allowed()).isTrue();
+		}
+		verify(redis, times(6)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	private RateLimiter redisRateLimiter() {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setLeaseSize(3);
+		return new RateLimiter(localRedis.template(), properties, new SimpleMeterRegistry());
+	}
+
+	private Policy policy(long capacity, double refillPerSecond) {
+		Policy policy = new Policy();
+		policy.setName("test-" + UUID.randomUUID());
+		policy.setPath("/**");
+		policy.setCapacity(capacity);
+		policy.setRefillPerSecond(refillPerSecond);
+		return policy;
+	}
+}
@@ -0,0 +1,81 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.JwtTokenProvider;
+import com.codelily.backend.support.LocalRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 같은 Refresh 토큰으로 동시에 회전을 요청하면 정확히 하나만 성공해야 합니다.
+ * application.yml과 같은 로컬 Redis(localhost:6379)가 필요하며, 없으면 건너뜁니다.
+ */
+class RefreshTokenRotationConcurrencyTest {
+
+	private static final int CONCURRENT_REFRESHES = 32;
+	private static final Long USER_ID = 990_001L;
+
+	@RegisterExtension
+	final LocalRedis localRedis = new LocalRedis().deleteAfterEach("rt:" + USER_ID);
+
+	private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider();
+
+	private StringRedisTemplate redis;
+	private RefreshTokenService refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		redis = localRedis.template();
+		refreshTokenService = new RefreshTokenService(redis, mock(BlacklistNearCache.class));
+	}
+
+	@Test
+	void onlyOneOfParallelRotationsWithSameTokenSucceeds() throws Exception {
+		String current = jwtTokenProvider.createRefreshToken(USER_ID);
+		refreshTokenService.storeRefresh(USER_ID, current, Duration.ofMinutes(5));
+
+		ExecutorService pool = Executors.newFixedThreadPool(CONCURRENT_REFRESHES);
+		CountDownLatch start = new CountDownLatch(1);
+		List<String> candidates = new ArrayList<>();
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+				String next = jwtTokenProvider.createRefreshToken(USER_ID);
+				candidates.add(next);
+				results.add(pool.submit(() -> {
+					start.await();
+					return refreshTokenService.rotateRefresh(USER_ID, current, next, Duration.ofMinutes(5));
+				}));
+			}
+			start.countDown();
+
+			String winner = null;
+			int successes = 0;
+			for (int i = 0; i < results.size(); i++) {
+				if (results.get(i).get()) {
+					successes++;
+					winner = candidates.get(i);
+				}
+			}
+
+			assertThat(successes).isEqualTo(1);
+			assertThat(redis.opsForValue().get("rt:" + USER_ID)).isEqualTo(JwtTokenProvider.digest(winner));
+			// 이미 회전된 토큰은 재사용 불가
+			assertThat(refreshTokenService.rotateRefresh(USER_ID, current, current, Duration.ofMinutes(5))).isFalse();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
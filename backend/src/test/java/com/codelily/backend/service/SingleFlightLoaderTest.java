@@ -0,0 +1,104 @@
+package com.codelily.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightLoaderTest {
+
+	private final AtomicLong now = new AtomicLong();
+	private final List<Runnable> refreshes = new ArrayList<>();
+
+	private final SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("test", 100,
+			Duration.ofSeconds(5), Duration.ofMinutes(1), new SimpleMeterRegistry(), now::get, refreshes::add);
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		int threads = 32;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(pool.submit(() -> loader.get("hot", key -> {
+					loads.incrementAndGet();
+					await(release);
+					return "value";
+				})));
+			}
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<String> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void staleValueIsServedWhileOneRefreshRuns() {
+		assertThat(loader.get("k", key -> "v1")).isEqualTo("v1");
+
+		now.addAndGet(Duration.ofSeconds(6).toNanos());
+		assertThat(loader.get("k", key -> "v2")).isEqualTo("v1");
+		assertThat(loader.get("k", key -> "v2")).isEqualTo("v1");
+		assertThat(refreshes).hasSize(1);
+
+		refreshes.get(0).run();
+		assertThat(loader.get("k", key -> "v3")).isEqualTo("v2");
+	}
+
+	@Test
+	void expiredValueIsLoadedAgain() {
+		loader.get("k", key -> "v1");
+		now.addAndGet(Duration.ofMinutes(2).toNanos());
+
+		assertThat(loader.get("k", key -> "v2")).isEqualTo("v2");
+		assertThat(refreshes).isEmpty();
+	}
+
+	@Test
+	void loadStartedBeforeInvalidateIsNotCached() {
+		loader.get("k", key -> "v1");
+		now.addAndGet(Duration.ofSeconds(6).toNanos());
+		loader.get("k", key -> "old");
+
+		loader.invalidate("k");
+		refreshes.get(0).run();
+
+		assertThat(loader.get("k", key -> "new")).isEqualTo("new");
+	}
+
+	@Test
+	void failedLoadIsNotCachedAndIsRethrown() {
+		assertThatThrownBy(() -> loader.get("k", key -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("db down");
+
+		assertThat(loader.get("k", key -> "v1")).isEqualTo("v1");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
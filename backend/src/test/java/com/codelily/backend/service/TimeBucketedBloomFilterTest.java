@@ -0,0 +1,59 @@
+package com.codelily.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeBucketedBloomFilterTest {
+
+	private static final long BUCKET = 60_000;
+
+	@Test
+	void addedItemsAreNeverMissedBeforeExpiry() {
+		TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(BUCKET, 1 << 16, 4);
+		long now = 1_000_000_000L;
+
+		for (int i = 0; i < 2_000; i++) {
+			filter.put("jti-" + i, now + (i % 30) * 60_000L);
+		}
+
+		for (int i = 0; i < 2_000; i++) {
+			assertThat(filter.mightContain("jti-" + i, now)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysLow() {
+		TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(BUCKET, 1 << 16, 4);
+		long now = 1_000_000_000L;
+		for (int i = 0; i < 2_000; i++) {
+			filter.put(UUID.randomUUID().toString(), now + BUCKET);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain(UUID.randomUUID().toString(), now)) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives).isLessThan(100);
+	}
+
+	@Test
+	void expiredBucketsAreIgnoredAndDropped() {
+		TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(BUCKET, 1 << 10, 3);
+		long now = 1_000_000_000L;
+		filter.put("short", now + 1_000);
+		filter.put("long", now + 10 * BUCKET);
+
+		long later = now + 3 * BUCKET;
+		assertThat(filter.mightContain("short", later)).isFalse();
+		assertThat(filter.mightContain("long", later)).isTrue();
+
+		filter.expire(later);
+		assertThat(filter.bucketCount()).isEqualTo(1);
+	}
+}
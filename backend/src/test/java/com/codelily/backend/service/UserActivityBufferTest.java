@@ -0,0 +1,114 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.mapper.UserMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserActivityBufferTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+	@Test
+	void keepsOnlyNewestLoginPerUserAndFlushesInBatches() {
+		UserMapper userMapper = mock(UserMapper.class);
+		List<Map<Long, LocalDateTime>> written = new ArrayList<>();
+		when(userMapper.updateLastLoginAt(any())).thenAnswer(invocation -> {
+			written.add(new HashMap<>(invocation.getArgument(0)));
+			return 1;
+		});
+		UserActivityBuffer buffer = new UserActivityBuffer(userMapper, new SimpleMeterRegistry(), 2, 3);
+
+		buffer.recordLogin(1L, T0.plusMinutes(5));
+		buffer.recordLogin(1L, T0);
+		buffer.recordLogin(2L, T0);
+		buffer.recordLogin(3L, T0);
+		assertThat(buffer.pendingCount()).isEqualTo(3);
+
+		buffer.flush();
+
+		verify(userMapper, times(2)).updateLastLoginAt(any());
+		Map<Long, LocalDateTime> merged = new HashMap<>();
+		written.forEach(merged::putAll);
+		assertThat(merged).containsEntry(1L, T0.plusMinutes(5)).containsKeys(2L, 3L);
+		assertThat(buffer.pendingCount()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void failedFlushIsRetriedOnNextCycle() {
+		UserMapper userMapper = mock(UserMapper.class);
+		when(userMapper.updateLastLoginAt(any()))
+				.thenThrow(new IllegalStateException("db down"))
+				.thenReturn(1);
+		UserActivityBuffer buffer = new UserActivityBuffer(userMapper, new SimpleMeterRegistry(), 500, 3);
+
+		buffer.recordLogin(1L, T0);
+		buffer.flush();
+		assertThat(buffer.pendingCount()).isEqualTo(1);
+
+		buffer.recordLogin(1L, T0.plusMinutes(1));
+		buffer.flush();
+
+		ArgumentCaptor<Map<Long, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(userMapper, times(2)).updateLastLoginAt(captor.capture());
+		assertThat(captor.getValue()).containsEntry(1L, T0.plusMinutes(1));
+		assertThat(buffer.pendingCount()).isZero();
+	}
+
+	@Test
+	void entriesAreDroppedAfterMaxAttempts() {
+		UserMapper userMapper = mock(UserMapper.class);
+		when(userMapper.updateLastLoginAt(any())).thenThrow(new IllegalStateException("db down"));
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		UserActivityBuffer buffer = new UserActivityBuffer(userMapper, registry, 500, 2);
+
+		buffer.recordLogin(1L, T0);
+		buffer.recordLogin(2L, T0);
+		buffer.flush();
+		assertThat(buffer.pendingCount()).isEqualTo(2);
+		buffer.flush();
+		buffer.flush();
+
+		verify(userMapper, times(2)).updateLastLoginAt(any());
+		assertThat(buffer.pendingCount()).isZero();
+		assertThat(registry.get("user.activity.dropped").counter().count()).isEqualTo(2);
+		assertThat(registry.get("user.activity.flush.failures").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void successfulWriteResetsAttempts() {
+		UserMapper userMapper = mock(UserMapper.class);
+		when(userMapper.updateLastLoginAt(any()))
+				.thenThrow(new IllegalStateException("db down"))
+				.thenReturn(1)
+				.thenThrow(new IllegalStateException("db down"))
+				.thenReturn(1);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		UserActivityBuffer buffer = new UserActivityBuffer(userMapper, registry, 500, 2);
+
+		buffer.recordLogin(1L, T0);
+		buffer.flush();
+		buffer.flush();
+		buffer.recordLogin(1L, T0.plusMinutes(1));
+		buffer.flush();
+		buffer.flush();
+
+		verify(userMapper, times(4)).updateLastLoginAt(any());
+		assertThat(buffer.pendingCount()).isZero();
+		assertThat(registry.get("user.activity.dropped").counter().count()).isZero();
+	}
+}
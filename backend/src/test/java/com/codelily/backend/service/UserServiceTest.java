@@ -0,0 +1,47 @@
+package com.codelily.backend.service;
+
+import com.codelily.backend.config.CustomUserDetails;
+import com.codelily.backend.domain.User;
+import com.codelily.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final CustomUserDetailsService userDetailsService =
+			new CustomUserDetailsService(userRepository, 100, Duration.ofMinutes(1));
+	private final UserService userService =
+			new UserService(userRepository, mock(PasswordEncoder.class), userDetailsService);
+
+	@Test
+	void updateProfileEvictsCachedUserDetails() {
+		User user = User.builder()
+				.id(7L).email("old@codelily.dev").nickname("lily").role(User.Role.USER).provider("local")
+				.build();
+		when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		userDetailsService.loadUserById(7L);
+		userDetailsService.loadUserById(7L);
+		verify(userRepository, times(1)).findById(7L);
+
+		user.setEmail("new@codelily.dev"); // 캐시가 남아 있으면 이전 이메일이 보임
+		userService.updateProfile(7L, "lily-renamed", null);
+
+		CustomUserDetails reloaded = (CustomUserDetails) userDetailsService.loadUserById(7L);
+		assertThat(reloaded.getEmail()).isEqualTo("new@codelily.dev");
+		// 캐시 로드 1 + updateProfile 1 + 무효화 후 재로드 1
+		verify(userRepository, times(3)).findById(7L);
+	}
+}
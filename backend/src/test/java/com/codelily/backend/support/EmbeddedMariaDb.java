@@ -0,0 +1,45 @@
+package com.codelily.backend.support;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 테스트용 내장 MariaDB (JVM당 1개 공유).
+ * - H2로 흉내 낼 수 없는 MySQL 문법(INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 등)을 실제로 실행하기 위함
+ * - 서버 바이너리는 mariaDB4j 의존성에 포함 (도커 불필요), 기동할 수 없는 환경이면 테스트를 건너뜀
+ */
+public final class EmbeddedMariaDb {
+
+	private static DB db;
+	private static Exception failure;
+
+	private EmbeddedMariaDb() {
+	}
+
+	/** database가 없으면 만들어 주는 JDBC URL */
+	public static synchronized String jdbcUrl(String database) {
+		if (db == null && failure == null) {
+			start();
+		}
+		assumeTrue(failure == null, () -> "내장 MariaDB를 시작할 수 없음: " + failure);
+		return "jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/" + database
+				+ "?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true&characterEncoding=UTF-8";
+	}
+
+	private static void start() {
+		try {
+			DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+			config.setPort(0); // 빈 포트
+			config.addArg("--character-set-server=utf8mb4");
+			if ("root".equals(System.getProperty("user.name"))) {
+				config.addArg("--user=root"); // CI 컨테이너 등 root로 실행되는 경우
+			}
+			db = DB.newEmbeddedDB(config.build());
+			db.start();
+		} catch (Exception e) {
+			failure = e;
+		}
+	}
+}
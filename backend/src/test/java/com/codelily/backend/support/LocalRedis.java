@@ -0,0 +1,108 @@
+package com.codelily.backend.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 테스트용 Redis 연결 (@RegisterExtension으로 등록).
+ * - template(): 로컬 Redis(localhost:6379), 없으면 해당 테스트를 건너뜀 (확인은 JVM당 1번)
+ * - down(): 항상 연결이 거부되는 Redis (장애 시 폴백 경로 검증용)
+ * - 테스트가 끝나면 deleteAfterEach로 지정한 키, 리스너 컨테이너, 연결을 정리
+ */
+public class LocalRedis implements AfterEachCallback {
+
+	private static final int PORT = 6379;
+	private static final int CLOSED_PORT = 1;
+	private static Boolean available;
+
+	private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+	private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+	private final List<String> cleanupPatterns = new ArrayList<>();
+	private StringRedisTemplate template;
+
+	/** 로컬 Redis 연결 (테스트 안에서 공유) */
+	public StringRedisTemplate template() {
+		assumeTrue(isAvailable(), "로컬 Redis가 없어 건너뜁니다.");
+		if (template == null) {
+			template = connect(PORT);
+		}
+		return template;
+	}
+
+	/** 연결이 거부되는 Redis (호출마다 새 연결) */
+	public StringRedisTemplate down() {
+		return connect(CLOSED_PORT);
+	}
+
+	/** 시작된 pub/sub 리스너 컨테이너 (노드마다 하나씩 만들어 여러 노드를 흉내) */
+	public RedisMessageListenerContainer listenerContainer(StringRedisTemplate redis) throws Exception {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redis.getConnectionFactory());
+		container.afterPropertiesSet();
+		container.start();
+		containers.add(container);
+		return container;
+	}
+
+	/** 테스트가 끝날 때 지울 키 패턴 (KEYS 패턴, 예: "lb:*") */
+	public LocalRedis deleteAfterEach(String pattern) {
+		cleanupPatterns.add(pattern);
+		return this;
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) throws Exception {
+		try {
+			if (template != null) {
+				for (String pattern : cleanupPatterns) {
+					Set<String> keys = template.keys(pattern);
+					if (keys != null && !keys.isEmpty()) {
+						template.delete(keys);
+					}
+				}
+			}
+			for (RedisMessageListenerContainer container : containers) {
+				container.destroy();
+			}
+		} finally {
+			factories.forEach(LettuceConnectionFactory::destroy);
+			factories.clear();
+			containers.clear();
+			template = null;
+		}
+	}
+
+	private StringRedisTemplate connect(int port) {
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+		factory.afterPropertiesSet();
+		factory.start();
+		factories.add(factory);
+		return new StringRedisTemplate(factory);
+	}
+
+	private static synchronized boolean isAvailable() {
+		if (available == null) {
+			LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+			factory.afterPropertiesSet();
+			factory.start();
+			try {
+				available = "PONG".equals(factory.getConnection().ping());
+			} catch (Exception e) {
+				available = false;
+			} finally {
+				factory.destroy();
+			}
+		}
+		return available;
+	}
+}
@@ -0,0 +1,23 @@
+-- PostMapperTest용 posts 테이블 (V1 + V4 + V5 + V7 마이그레이션 결과, users는 schema/users.sql)
+-- users를 먼저 다시 만들 수 있도록 FK는 생략
+DROP TABLE IF EXISTS posts;
+
+CREATE TABLE posts (
+  id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+  slug           VARCHAR(180) NOT NULL UNIQUE,
+  title          VARCHAR(200) NOT NULL,
+  content        LONGTEXT     NOT NULL,
+  thumbnail_url  VARCHAR(512),
+  category       VARCHAR(60),
+  status         ENUM('PUBLISHED','DRAFT') DEFAULT 'PUBLISHED',
+  views          INT DEFAULT 0,
+  comment_count  INT NOT NULL DEFAULT 0,
+  author_id      BIGINT NOT NULL,
+  created_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  INDEX idx_posts_author (author_id),
+  INDEX idx_posts_title (title),
+  INDEX idx_posts_status_created (status, created_at, id),
+  INDEX idx_posts_category_status_created (category, status, created_at, id),
+  INDEX idx_posts_updated (updated_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,19 @@
+-- UserMapperTest용 users 테이블 (V1 + V3 마이그레이션 결과와 동일)
+DROP TABLE IF EXISTS users;
+
+CREATE TABLE users (
+  id             BIGINT PRIMARY KEY AUTO_INCREMENT,
+  email          VARCHAR(255) UNIQUE,
+  password_hash  VARCHAR(255),
+  nickname       VARCHAR(50)  NOT NULL UNIQUE,
+  avatar_url     VARCHAR(512),
+  role           ENUM('USER','ADMIN') DEFAULT 'USER',
+  provider       VARCHAR(20) NOT NULL DEFAULT 'local',
+  provider_id    VARCHAR(100),
+  refresh_token  VARCHAR(512),
+  email_verified BOOLEAN DEFAULT FALSE,
+  last_login_at  DATETIME DEFAULT CURRENT_TIMESTAMP,
+  created_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  UNIQUE INDEX uk_users_provider (provider, provider_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;